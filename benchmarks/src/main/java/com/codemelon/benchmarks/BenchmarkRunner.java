@@ -0,0 +1,78 @@
+package com.codemelon.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line, but
+ * always attaches the GC profiler (allocation rate per operation) and, unless
+ * -rf says otherwise, writes results as JSON so that runs from different
+ * releases can be compared. On Java 16 and later the forked JVMs also get
+ * the jdk.incubator.vector module, so that the SIMD kernels are measured
+ * (run with -Dcom.codemelon.vectorKernels=false in -jvmArgsAppend to
+ * measure the scalar ones).
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class BenchmarkRunner {
+
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams() || 
+				commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+		OptionsBuilder options = new OptionsBuilder();
+		options.parent(commandLine);
+		boolean hasGcProfiler = false;
+		for (ProfilerConfig profiler : commandLine.getProfilers()) {
+			hasGcProfiler |= profiler.getKlass().equals(GCProfiler.class.getName()) || 
+					"gc".equals(profiler.getKlass());
+		}
+		if (!hasGcProfiler) {
+			options.addProfiler(GCProfiler.class);
+		}
+		if (hasVectorModule()) {
+			List<String> jvmArgs = new ArrayList<String>();
+			jvmArgs.add("--add-modules=" + VECTOR_MODULE);
+			if (commandLine.getJvmArgsAppend().hasValue()) {
+				jvmArgs.addAll(commandLine.getJvmArgsAppend().get());
+			}
+			options.jvmArgsAppend(jvmArgs.toArray(new String[jvmArgs.size()]));
+		}
+		if (!commandLine.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		new Runner(options.build()).run();
+	}
+
+	/**
+	 * The incubator module ships with Java 16 and later ("1.8" and earlier
+	 * have the old version scheme)
+	 */
+	private static boolean hasVectorModule() {
+		String version = System.getProperty("java.specification.version");
+		try {
+			return !version.startsWith("1.") && Integer.parseInt(version) >= 16;
+		}
+		catch (NumberFormatException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.codemelon.benchmarks;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.FftKernel;
+import com.codemelon.fft.RealFft;
+import com.codemelon.fft.Stft;
+
+/**
+ * In-place transforms on split arrays, for comparison with the recursive
+ * Complex[] transforms in ComplexPolynomialBenchmark
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FftBenchmark {
+
+	@State(Scope.Thread)
+	public static class Operands {
+		@Param({ "4", "6", "8", "10", "12", "14", "16", "18", "20", "22", "24" })
+		public int logSize;
+
+		@Param({ "RADIX_2", "RADIX_4", "SPLIT_RADIX", "FOUR_STEP" })
+		public FftKernel kernel;
+
+		double[] inputRe;
+		double[] inputIm;
+		double[] re;
+		double[] im;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			int n = 1 << logSize;
+			Random random = new Random(logSize);
+			inputRe = new double[n];
+			inputIm = new double[n];
+			for (int i = 0; i < n; i++) {
+				inputRe[i] = random.nextDouble() - 0.5;
+				inputIm[i] = random.nextDouble() - 0.5;
+			}
+			re = new double[n];
+			im = new double[n];
+		}
+	}
+
+	/**
+	 * Real input for RealFft, which always runs on the default kernel, so it
+	 * has no kernel parameter
+	 */
+	@State(Scope.Thread)
+	public static class RealOperands {
+		@Param({ "4", "6", "8", "10", "12", "14", "16", "18", "20", "22", "24" })
+		public int logSize;
+
+		double[] input;
+		double[] spectrumRe;
+		double[] spectrumIm;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			int n = 1 << logSize;
+			Random random = new Random(logSize);
+			input = new double[n];
+			for (int i = 0; i < n; i++) {
+				input[i] = random.nextDouble() - 0.5;
+			}
+			spectrumRe = new double[n / 2];
+			spectrumIm = new double[n / 2];
+		}
+	}
+
+	/**
+	 * A Hann-windowed STFT of frame length n and hop n / 4, which, like
+	 * RealFft, runs on the default kernel
+	 */
+	@State(Scope.Thread)
+	public static class StftOperands {
+		@Param({ "4", "6", "8", "10", "12", "14", "16", "18", "20", "22", "24" })
+		public int logSize;
+
+		Stft stft;
+		// one hop of input, so each call completes one frame
+		DoubleBuffer hop;
+		double[] magnitudes;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			int n = 1 << logSize;
+			Random random = new Random(logSize);
+			stft = new Stft(Stft.Window.HANN, Math.max(1, n / 4), n);
+			double[] input = new double[stft.hop()];
+			for (int i = 0; i < input.length; i++) {
+				input[i] = random.nextDouble() - 0.5;
+			}
+			hop = DoubleBuffer.wrap(input);
+			magnitudes = new double[stft.bins()];
+		}
+	}
+
+	@Benchmark
+	public double[] forward(Operands operands) {
+		System.arraycopy(operands.inputRe, 0, operands.re, 0, operands.re.length);
+		System.arraycopy(operands.inputIm, 0, operands.im, 0, operands.im.length);
+		Fft.forward(operands.re, operands.im, operands.kernel);
+		return operands.re;
+	}
+
+	@Benchmark
+	public double[] inverse(Operands operands) {
+		System.arraycopy(operands.inputRe, 0, operands.re, 0, operands.re.length);
+		System.arraycopy(operands.inputIm, 0, operands.im, 0, operands.im.length);
+		Fft.inverse(operands.re, operands.im, operands.kernel);
+		return operands.re;
+	}
+
+	@Benchmark
+	public double[] realForward(RealOperands operands) {
+		RealFft.forward(operands.input, operands.spectrumRe, operands.spectrumIm);
+		return operands.spectrumRe;
+	}
+
+	/**
+	 * One frame of the STFT
+	 */
+	@Benchmark
+	public double[] stftFrame(StftOperands operands) {
+		do {
+			operands.hop.rewind();
+		} while (!operands.stft.nextMagnitudes(operands.hop, operands.magnitudes));
+		return operands.magnitudes;
+	}
+}
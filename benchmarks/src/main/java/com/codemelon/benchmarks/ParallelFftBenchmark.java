@@ -0,0 +1,104 @@
+package com.codemelon.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.ParallelFft;
+
+/**
+ * ParallelFft on pools of 1 to 16 workers, against the sequential Fft on the
+ * same data, to measure how the transform scales with the number of cores.
+ * Pool sizes beyond the machine's core count show the cost of the extra
+ * tasks rather than a speedup.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelFftBenchmark {
+
+	@State(Scope.Thread)
+	public static class Operands {
+		@Param({ "16", "18", "20", "22", "24" })
+		public int logSize;
+
+		double[] inputRe;
+		double[] inputIm;
+		double[] re;
+		double[] im;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			int n = 1 << logSize;
+			Random random = new Random(logSize);
+			inputRe = new double[n];
+			inputIm = new double[n];
+			for (int i = 0; i < n; i++) {
+				inputRe[i] = random.nextDouble() - 0.5;
+				inputIm[i] = random.nextDouble() - 0.5;
+			}
+			re = new double[n];
+			im = new double[n];
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Pool {
+		@Param({ "1", "2", "4", "8", "16" })
+		public int workers;
+
+		ForkJoinPool pool;
+		ParallelFft transform;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			pool = new ForkJoinPool(workers);
+			transform = new ParallelFft(pool);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public double[] parallelForward(Operands operands, Pool pool) {
+		System.arraycopy(operands.inputRe, 0, operands.re, 0, operands.re.length);
+		System.arraycopy(operands.inputIm, 0, operands.im, 0, operands.im.length);
+		pool.transform.forward(operands.re, operands.im);
+		return operands.re;
+	}
+
+	/**
+	 * The default kernel on the calling thread, the baseline for the speedup
+	 */
+	@Benchmark
+	public double[] sequentialForward(Operands operands) {
+		System.arraycopy(operands.inputRe, 0, operands.re, 0, operands.re.length);
+		System.arraycopy(operands.inputIm, 0, operands.im, 0, operands.im.length);
+		Fft.forward(operands.re, operands.im);
+		return operands.re;
+	}
+}
@@ -0,0 +1,57 @@
+package com.codemelon.integer;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BigIntegerMultiply against BigInteger.multiply on balanced operands of
+ * 2^logWords 32-bit words, around THRESHOLD and above it
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BigIntegerMultiplyBenchmark {
+	@Param({ "10", "12", "14", "16", "18" })
+	public int logWords;
+
+	BigInteger a;
+	BigInteger b;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(logWords);
+		a = new BigInteger(32 << logWords, random);
+		b = new BigInteger(32 << logWords, random);
+	}
+
+	@Benchmark
+	public BigInteger multiply() {
+		return BigIntegerMultiply.multiply(a, b);
+	}
+
+	@Benchmark
+	public BigInteger bigIntegerMultiply() {
+		return a.multiply(b);
+	}
+}
@@ -0,0 +1,212 @@
+package com.codemelon.polynomial;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codemelon.fft.Fft;
+import com.codemelon.math.Complex;
+import com.codemelon.math.ComplexVector;
+
+/**
+ * Lives in com.codemelon.polynomial to reach the package-private
+ * recursiveFFT and the two multiplication algorithms behind times().
+ * Schoolbook, Karatsuba and Toom-3 multiplication have their own, shorter
+ * range of sizes.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexPolynomialBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Operands {
+		@Param({ "4", "6", "8", "10", "12", "14", "16", "18", "20", "22" })
+		public int logSize;
+
+		Complex[] values;
+		Complex[] spectrum;
+		ComplexPolynomial p1;
+		ComplexPolynomial p2;
+		Complex point;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			int n = 1 << logSize;
+			Random random = new Random(logSize);
+			values = randomComplex(random, n);
+			spectrum = ComplexPolynomial.recursiveFFT(values.clone());
+			p1 = new ComplexPolynomial(randomComplex(random, n));
+			p2 = new ComplexPolynomial(randomComplex(random, n));
+			point = new Complex(0.6, 0.8);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class SchoolOperands {
+		@Param({ "4", "6", "8", "10", "12", "14" })
+		public int logSize;
+
+		ComplexPolynomial p1;
+		ComplexPolynomial p2;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			p1 = new ComplexPolynomial(randomComplex(random, 1 << logSize));
+			p2 = new ComplexPolynomial(randomComplex(random, 1 << logSize));
+		}
+	}
+
+	/**
+	 * A 2^6-coefficient operand times a long one
+	 */
+	@State(Scope.Benchmark)
+	public static class UnbalancedOperands {
+		@Param({ "10", "14", "18", "22" })
+		public int logSize;
+
+		ComplexPolynomial shorter;
+		ComplexPolynomial longer;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			shorter = new ComplexPolynomial(randomComplex(random, 1 << 6));
+			longer = new ComplexPolynomial(randomComplex(random, 1 << logSize));
+		}
+	}
+
+	/**
+	 * 2^logSize roots of unity, each moved by up to half a spacing, where the
+	 * subproduct tree stays well conditioned
+	 */
+	@State(Scope.Benchmark)
+	public static class MultipointOperands {
+		@Param({ "10", "12", "14", "16" })
+		public int logSize;
+
+		ComplexPolynomial p;
+		Complex[] points;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			int n = 1 << logSize;
+			Random random = new Random(logSize);
+			p = new ComplexPolynomial(randomComplex(random, n));
+			points = new Complex[n];
+			for (int i = 0; i < n; i++) {
+				points[i] = Complex.fromPolar(1.0, 2.0 * Math.PI * (i + random.nextDouble() - 0.5) / n);
+			}
+		}
+	}
+
+	/**
+	 * 2^10 points for polynomials of 2^logSize coefficients, with the
+	 * output buffer allocated up front
+	 */
+	@State(Scope.Benchmark)
+	public static class BatchOperands {
+		@Param({ "2", "4", "8", "12" })
+		public int logSize;
+
+		ComplexPolynomial p;
+		ComplexVector points;
+		ComplexVector out;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			p = new ComplexPolynomial(randomComplex(random, 1 << logSize));
+			points = ComplexVector.fromComplex(randomComplex(random, 1 << 10));
+			out = new ComplexVector(points.length());
+		}
+	}
+
+	@Benchmark
+	public Complex[] recursiveFFT(Operands operands) {
+		return ComplexPolynomial.recursiveFFT(operands.values);
+	}
+
+	@Benchmark
+	public Complex[] recursiveFFTInverse(Operands operands) {
+		return ComplexPolynomial.recursiveFFTInverse(operands.spectrum);
+	}
+
+	@Benchmark
+	public ComplexPolynomial times(Operands operands) {
+		return operands.p1.times(operands.p2);
+	}
+
+	@Benchmark
+	public ComplexPolynomial fourierMultiply(Operands operands) {
+		return ComplexPolynomial.fourierMultiply(operands.p1, operands.p2, Fft.sequential());
+	}
+
+	@Benchmark
+	public ComplexPolynomial schoolMultiply(SchoolOperands operands) {
+		return ComplexPolynomial.schoolMultiply(operands.p1, operands.p2);
+	}
+
+	@Benchmark
+	public ComplexPolynomial karatsubaMultiply(SchoolOperands operands) {
+		return ComplexPolynomial.toomCookMultiply(MultiplyStrategy.KARATSUBA, operands.p1, operands.p2);
+	}
+
+	@Benchmark
+	public ComplexPolynomial unbalancedMultiply(UnbalancedOperands operands) {
+		return ComplexPolynomial.unbalancedMultiply(operands.shorter, operands.longer, Fft.sequential());
+	}
+
+	@Benchmark
+	public ComplexPolynomial fourierMultiplyUnbalanced(UnbalancedOperands operands) {
+		return ComplexPolynomial.fourierMultiply(operands.shorter, operands.longer, Fft.sequential());
+	}
+
+	@Benchmark
+	public ComplexPolynomial toom3Multiply(SchoolOperands operands) {
+		return ComplexPolynomial.toomCookMultiply(MultiplyStrategy.TOOM_3, operands.p1, operands.p2);
+	}
+
+	@Benchmark
+	public Complex evaluate(Operands operands) {
+		return operands.p1.evaluate(operands.point);
+	}
+
+	@Benchmark
+	public Complex[] evaluatePoints(MultipointOperands operands) {
+		return operands.p.evaluate(operands.points);
+	}
+
+	@Benchmark
+	public ComplexVector evaluateBatch(BatchOperands operands) {
+		operands.p.evaluateBatch(operands.points, operands.out);
+		return operands.out;
+	}
+
+	static Complex[] randomComplex(Random random, int n) {
+		Complex[] result = new Complex[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = new Complex(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,73 @@
+package com.codemelon.polynomial;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exact integer multiplication against Polynomial.times on the same
+ * coefficients, which is only exact while the products stay below 2^53.
+ * bits is the size of the coefficients; with logSize it decides how many
+ * primes the NTT needs.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongPolynomialBenchmark {
+	@Param({ "8", "12", "16", "20" })
+	public int logSize;
+
+	@Param({ "12", "20" })
+	public int bits;
+
+	LongPolynomial p1;
+	LongPolynomial p2;
+	Polynomial d1;
+	Polynomial d2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(logSize);
+		p1 = LongPolynomial.fromArray(randomArray(random, 1 << logSize, bits));
+		p2 = LongPolynomial.fromArray(randomArray(random, 1 << logSize, bits));
+		d1 = p1.toPolynomial();
+		d2 = p2.toPolynomial();
+	}
+
+	@Benchmark
+	public LongPolynomial times() {
+		return p1.times(p2);
+	}
+
+	@Benchmark
+	public Polynomial doubleTimes() {
+		return d1.times(d2);
+	}
+
+	static long[] randomArray(Random random, int n, int bits) {
+		long[] result = new long[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = random.nextLong() >> (64 - bits);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,296 @@
+package com.codemelon.polynomial;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codemelon.fft.Fft;
+import com.codemelon.math.Complex;
+
+/**
+ * As ComplexPolynomialBenchmark, for real coefficients
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Operands {
+		@Param({ "4", "6", "8", "10", "12", "14", "16", "18", "20", "22" })
+		public int logSize;
+
+		Polynomial p1;
+		Polynomial p2;
+		double x;
+		Complex point;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			p1 = Polynomial.fromArray(randomArray(random, 1 << logSize));
+			p2 = Polynomial.fromArray(randomArray(random, 1 << logSize));
+			x = 0.999;
+			point = new Complex(0.6, 0.8);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class SchoolOperands {
+		@Param({ "4", "6", "8", "10", "12", "14" })
+		public int logSize;
+
+		Polynomial p1;
+		Polynomial p2;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			p1 = Polynomial.fromArray(randomArray(random, 1 << logSize));
+			p2 = Polynomial.fromArray(randomArray(random, 1 << logSize));
+		}
+	}
+
+	/**
+	 * A 2^6-coefficient operand times a long one
+	 */
+	@State(Scope.Benchmark)
+	public static class UnbalancedOperands {
+		@Param({ "10", "14", "18", "22" })
+		public int logSize;
+
+		Polynomial shorter;
+		Polynomial longer;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			shorter = Polynomial.fromArray(randomArray(random, 1 << 6));
+			longer = Polynomial.fromArray(randomArray(random, 1 << logSize));
+		}
+	}
+
+	/**
+	 * A 2^logTaps-tap filter applied to 2^12-sample chunks of an endless
+	 * stream, for comparison with unbalancedMultiply
+	 */
+	@State(Scope.Thread)
+	public static class StreamOperands {
+		@Param({ "4", "6", "8", "10" })
+		public int logTaps;
+
+		@Param({ "OVERLAP_ADD", "OVERLAP_SAVE" })
+		public StreamingConvolver.Method method;
+
+		StreamingConvolver convolver;
+		DoubleBuffer chunk;
+		DoubleBuffer out;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logTaps);
+			Polynomial filter = Polynomial.fromArray(randomArray(random, 1 << logTaps));
+			convolver = new StreamingConvolver(filter, method, 
+					StreamingConvolver.defaultBlockLength(1 << logTaps, Fft.sequential()));
+			chunk = DoubleBuffer.wrap(randomArray(random, 1 << 12));
+			// room for every block a chunk can complete
+			out = DoubleBuffer.allocate((1 << 12) + convolver.blockLength());
+		}
+	}
+
+	/**
+	 * 2^logSize points within 0.05 of 0, where the subproduct tree stays
+	 * well conditioned
+	 */
+	@State(Scope.Benchmark)
+	public static class MultipointOperands {
+		@Param({ "10", "12", "14", "16" })
+		public int logSize;
+
+		Polynomial p;
+		double[] points;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			p = Polynomial.fromArray(randomArray(random, 1 << logSize));
+			points = randomArray(random, 1 << logSize);
+			for (int i = 0; i < points.length; i++) {
+				points[i] *= 0.1;
+			}
+		}
+	}
+
+	/**
+	 * 2^10 points for polynomials of 2^logSize coefficients, with the
+	 * output buffer allocated up front
+	 */
+	@State(Scope.Benchmark)
+	public static class BatchOperands {
+		@Param({ "2", "4", "8", "12" })
+		public int logSize;
+
+		double[] coefficients;
+		Polynomial p;
+		double[] points;
+		double[] out;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			coefficients = randomArray(random, 1 << logSize);
+			p = Polynomial.fromArray(coefficients);
+			points = randomArray(random, 1 << 10);
+			out = new double[points.length];
+		}
+	}
+
+	/**
+	 * A dividend of 2^(logSize + 1) coefficients by a monic divisor of
+	 * 2^logSize, whose small lower terms keep the quotient well conditioned
+	 */
+	@State(Scope.Benchmark)
+	public static class DivisionOperands {
+		@Param({ "8", "10", "11", "12", "14", "16" })
+		public int logSize;
+
+		Polynomial dividend;
+		Polynomial divisor;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			Random random = new Random(logSize);
+			dividend = Polynomial.fromArray(randomArray(random, 2 << logSize));
+			double[] coefficients = randomArray(random, 1 << logSize);
+			for (int i = 0; i < coefficients.length; i++) {
+				coefficients[i] *= 10.0 / coefficients.length;
+			}
+			coefficients[coefficients.length - 1] = 1.0;
+			divisor = Polynomial.fromArray(coefficients);
+		}
+	}
+
+	@Benchmark
+	public Polynomial times(Operands operands) {
+		return operands.p1.times(operands.p2);
+	}
+
+	@Benchmark
+	public Polynomial fourierMultiply(Operands operands) {
+		return Polynomial.fourierMultiply(operands.p1, operands.p2, Fft.sequential());
+	}
+
+	@Benchmark
+	public Polynomial schoolMultiply(SchoolOperands operands) {
+		return Polynomial.schoolMultiply(operands.p1, operands.p2);
+	}
+
+	@Benchmark
+	public Polynomial karatsubaMultiply(SchoolOperands operands) {
+		return Polynomial.toomCookMultiply(MultiplyStrategy.KARATSUBA, operands.p1, operands.p2);
+	}
+
+	@Benchmark
+	public Polynomial unbalancedMultiply(UnbalancedOperands operands) {
+		return Polynomial.unbalancedMultiply(operands.shorter, operands.longer, Fft.sequential());
+	}
+
+	@Benchmark
+	public Polynomial fourierMultiplyUnbalanced(UnbalancedOperands operands) {
+		return Polynomial.fourierMultiply(operands.shorter, operands.longer, Fft.sequential());
+	}
+
+	@Benchmark
+	public Polynomial toom3Multiply(SchoolOperands operands) {
+		return Polynomial.toomCookMultiply(MultiplyStrategy.TOOM_3, operands.p1, operands.p2);
+	}
+
+	@Benchmark
+	public double evaluateDouble(Operands operands) {
+		return operands.p1.evaluate(operands.x);
+	}
+
+	@Benchmark
+	public Complex evaluateComplex(Operands operands) {
+		return operands.p1.evaluate(operands.point);
+	}
+
+	@Benchmark
+	public double[] evaluatePoints(MultipointOperands operands) {
+		return operands.p.evaluate(operands.points);
+	}
+
+	@Benchmark
+	public double[] hornerPoints(MultipointOperands operands) {
+		double[] result = new double[operands.points.length];
+		operands.p.horner(operands.points, 0, result.length, result);
+		return result;
+	}
+
+	@Benchmark
+	public double[] evaluateBatch(BatchOperands operands) {
+		operands.p.evaluateBatch(operands.points, operands.out);
+		return operands.out;
+	}
+
+	@Benchmark
+	public double[] evaluateBatchScalar(BatchOperands operands) {
+		HornerKernel.SCALAR.evaluate(operands.coefficients, operands.coefficients.length, 
+				operands.points, 0, operands.points.length, operands.out);
+		return operands.out;
+	}
+
+	@Benchmark
+	public int streamChunk(StreamOperands operands) {
+		operands.chunk.rewind();
+		operands.out.clear();
+		return operands.convolver.process(operands.chunk, operands.out);
+	}
+
+	@Benchmark
+	public Polynomial[] divideAndRemainder(DivisionOperands operands) {
+		return operands.dividend.divideAndRemainder(operands.divisor);
+	}
+
+	@Benchmark
+	public Polynomial[] newtonDivide(DivisionOperands operands) {
+		return Polynomial.newtonDivide(operands.dividend, operands.divisor);
+	}
+
+	@Benchmark
+	public Polynomial[] schoolDivide(DivisionOperands operands) {
+		return Polynomial.schoolDivide(operands.dividend, operands.divisor);
+	}
+
+	@Benchmark
+	public double[] subproductTreePoints(MultipointOperands operands) {
+		return new SubproductTree(operands.points).evaluate(operands.p);
+	}
+
+	static double[] randomArray(Random random, int n) {
+		double[] result = new double[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = random.nextDouble() - 0.5;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,120 @@
+package com.codemelon.simd;
+
+import com.codemelon.fft.FftButterflies;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * FftButterflies on the preferred DoubleVector species. Within a pass the
+ * butterflies j, j + 1, ... of a block are independent and their operands
+ * and twiddles are contiguous, so each group of lanes is loaded, combined and
+ * stored with the operations of FftButterflies.SCALAR in the same order.
+ * Passes whose blocks are shorter than a vector (the first two or three of a
+ * transform) go to FftButterflies.SCALAR.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class VectorFftButterflies implements FftButterflies {
+	static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	/**
+	 * @throws UnsupportedOperationException if the preferred species has a
+	 * single lane, in which case there is nothing to gain over the scalar
+	 * loops
+	 */
+	public VectorFftButterflies() {
+		if (SPECIES.length() < 2) {
+			throw new UnsupportedOperationException("No SIMD lanes for double on this platform");
+		}
+	}
+
+	@Override
+	public void radix2(double[] re, double[] im, int from, int to, int half, 
+			double[] wRe, double[] wIm, int wOffset, double sign) {
+		int lanes = SPECIES.length();
+		// half and lanes are powers of 2, so blocks hold whole vectors
+		if (half < lanes) {
+			SCALAR.radix2(re, im, from, to, half, wRe, wIm, wOffset, sign);
+			return;
+		}
+		int m = half << 1;
+		for (int k = from; k < to; k += m) {
+			for (int j = 0; j < half; j += lanes) {
+				DoubleVector omegaRe = DoubleVector.fromArray(SPECIES, wRe, wOffset + j);
+				DoubleVector omegaIm = DoubleVector.fromArray(SPECIES, wIm, wOffset + j).mul(sign);
+				int u = k + j;
+				int l = u + half;
+				DoubleVector lRe = DoubleVector.fromArray(SPECIES, re, l);
+				DoubleVector lIm = DoubleVector.fromArray(SPECIES, im, l);
+				DoubleVector uRe = DoubleVector.fromArray(SPECIES, re, u);
+				DoubleVector uIm = DoubleVector.fromArray(SPECIES, im, u);
+				DoubleVector tRe = omegaRe.mul(lRe).sub(omegaIm.mul(lIm));
+				DoubleVector tIm = omegaRe.mul(lIm).add(omegaIm.mul(lRe));
+				uRe.sub(tRe).intoArray(re, l);
+				uIm.sub(tIm).intoArray(im, l);
+				uRe.add(tRe).intoArray(re, u);
+				uIm.add(tIm).intoArray(im, u);
+			}
+		}
+	}
+
+	@Override
+	public void radix4(double[] re, double[] im, int from, int to, int q, 
+			double[] wRe, double[] wIm, int wOffset, double sign) {
+		int lanes = SPECIES.length();
+		if (q < lanes) {
+			SCALAR.radix4(re, im, from, to, q, wRe, wIm, wOffset, sign);
+			return;
+		}
+		int m = 4 * q;
+		for (int base = from; base < to; base += m) {
+			for (int k = 0; k < q; k += lanes) {
+				int i0 = base + k;
+				int i1 = i0 + q;
+				int i2 = i1 + q;
+				int i3 = i2 + q;
+				int w = wOffset + k;
+				DoubleVector w1Re = DoubleVector.fromArray(SPECIES, wRe, w);
+				DoubleVector w1Im = DoubleVector.fromArray(SPECIES, wIm, w).mul(sign);
+				DoubleVector w2Re = DoubleVector.fromArray(SPECIES, wRe, w + q);
+				DoubleVector w2Im = DoubleVector.fromArray(SPECIES, wIm, w + q).mul(sign);
+				DoubleVector w3Re = DoubleVector.fromArray(SPECIES, wRe, w + 2 * q);
+				DoubleVector w3Im = DoubleVector.fromArray(SPECIES, wIm, w + 2 * q).mul(sign);
+				DoubleVector t0Re = DoubleVector.fromArray(SPECIES, re, i0);
+				DoubleVector t0Im = DoubleVector.fromArray(SPECIES, im, i0);
+				DoubleVector x1Re = DoubleVector.fromArray(SPECIES, re, i1);
+				DoubleVector x1Im = DoubleVector.fromArray(SPECIES, im, i1);
+				DoubleVector x2Re = DoubleVector.fromArray(SPECIES, re, i2);
+				DoubleVector x2Im = DoubleVector.fromArray(SPECIES, im, i2);
+				DoubleVector x3Re = DoubleVector.fromArray(SPECIES, re, i3);
+				DoubleVector x3Im = DoubleVector.fromArray(SPECIES, im, i3);
+				// residues 2 and 1 at offsets q and 2q, as in the scalar loop
+				DoubleVector t2Re = w2Re.mul(x1Re).sub(w2Im.mul(x1Im));
+				DoubleVector t2Im = w2Re.mul(x1Im).add(w2Im.mul(x1Re));
+				DoubleVector t1Re = w1Re.mul(x2Re).sub(w1Im.mul(x2Im));
+				DoubleVector t1Im = w1Re.mul(x2Im).add(w1Im.mul(x2Re));
+				DoubleVector t3Re = w3Re.mul(x3Re).sub(w3Im.mul(x3Im));
+				DoubleVector t3Im = w3Re.mul(x3Im).add(w3Im.mul(x3Re));
+				DoubleVector aRe = t0Re.add(t2Re);
+				DoubleVector aIm = t0Im.add(t2Im);
+				DoubleVector bRe = t0Re.sub(t2Re);
+				DoubleVector bIm = t0Im.sub(t2Im);
+				DoubleVector cRe = t1Re.add(t3Re);
+				DoubleVector cIm = t1Im.add(t3Im);
+				DoubleVector dRe = t1Im.sub(t3Im).mul(-sign);
+				DoubleVector dIm = t1Re.sub(t3Re).mul(sign);
+				aRe.add(cRe).intoArray(re, i0);
+				aIm.add(cIm).intoArray(im, i0);
+				bRe.add(dRe).intoArray(re, i1);
+				bIm.add(dIm).intoArray(im, i1);
+				aRe.sub(cRe).intoArray(re, i2);
+				aIm.sub(cIm).intoArray(im, i2);
+				bRe.sub(dRe).intoArray(re, i3);
+				bIm.sub(dIm).intoArray(im, i3);
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.codemelon.simd;
+
+import com.codemelon.polynomial.HornerKernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * HornerKernel on the preferred DoubleVector species: a group of UNROLL
+ * vectors of points is held in registers while every coefficient is
+ * applied, so that the UNROLL multiply-add chains hide one another's
+ * latency and the accumulators are never stored until the end. The points
+ * left over after the last whole vector go to HornerKernel.SCALAR, which
+ * performs the same operations in the same order.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class VectorHornerKernel implements HornerKernel {
+	static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	static final int UNROLL = 4;
+
+	/**
+	 * @throws UnsupportedOperationException if the preferred species has a
+	 * single lane, in which case there is nothing to gain over the scalar
+	 * loops
+	 */
+	public VectorHornerKernel() {
+		if (SPECIES.length() < 2) {
+			throw new UnsupportedOperationException("No SIMD lanes for double on this platform");
+		}
+	}
+
+	@Override
+	public void evaluate(double[] coefficients, int size, double[] xs, int from, int to, double[] out) {
+		int lanes = SPECIES.length();
+		int j = from;
+		for (; j + UNROLL * lanes <= to; j += UNROLL * lanes) {
+			DoubleVector x0 = DoubleVector.fromArray(SPECIES, xs, j);
+			DoubleVector x1 = DoubleVector.fromArray(SPECIES, xs, j + lanes);
+			DoubleVector x2 = DoubleVector.fromArray(SPECIES, xs, j + 2 * lanes);
+			DoubleVector x3 = DoubleVector.fromArray(SPECIES, xs, j + 3 * lanes);
+			DoubleVector a0 = DoubleVector.broadcast(SPECIES, coefficients[size - 1]);
+			DoubleVector a1 = a0;
+			DoubleVector a2 = a0;
+			DoubleVector a3 = a0;
+			for (int i = size - 2; i >= 0; i--) {
+				DoubleVector c = DoubleVector.broadcast(SPECIES, coefficients[i]);
+				a0 = a0.mul(x0).add(c);
+				a1 = a1.mul(x1).add(c);
+				a2 = a2.mul(x2).add(c);
+				a3 = a3.mul(x3).add(c);
+			}
+			a0.intoArray(out, j);
+			a1.intoArray(out, j + lanes);
+			a2.intoArray(out, j + 2 * lanes);
+			a3.intoArray(out, j + 3 * lanes);
+		}
+		for (; j + lanes <= to; j += lanes) {
+			DoubleVector x = DoubleVector.fromArray(SPECIES, xs, j);
+			DoubleVector a = DoubleVector.broadcast(SPECIES, coefficients[size - 1]);
+			for (int i = size - 2; i >= 0; i--) {
+				a = a.mul(x).add(coefficients[i]);
+			}
+			a.intoArray(out, j);
+		}
+		if (j < to) {
+			SCALAR.evaluate(coefficients, size, xs, j, to, out);
+		}
+	}
+
+	@Override
+	public void evaluate(double[] coefficientsRe, double[] coefficientsIm, int size, double[] xsRe, double[] xsIm, 
+			int from, int to, double[] outRe, double[] outIm) {
+		int lanes = SPECIES.length();
+		int j = from;
+		// two vectors of points at a time: four accumulators
+		for (; j + 2 * lanes <= to; j += 2 * lanes) {
+			DoubleVector xRe0 = DoubleVector.fromArray(SPECIES, xsRe, j);
+			DoubleVector xIm0 = DoubleVector.fromArray(SPECIES, xsIm, j);
+			DoubleVector xRe1 = DoubleVector.fromArray(SPECIES, xsRe, j + lanes);
+			DoubleVector xIm1 = DoubleVector.fromArray(SPECIES, xsIm, j + lanes);
+			DoubleVector re0 = DoubleVector.broadcast(SPECIES, coefficientsRe[size - 1]);
+			DoubleVector im0 = DoubleVector.broadcast(SPECIES, coefficientsIm[size - 1]);
+			DoubleVector re1 = re0;
+			DoubleVector im1 = im0;
+			for (int i = size - 2; i >= 0; i--) {
+				DoubleVector cRe = DoubleVector.broadcast(SPECIES, coefficientsRe[i]);
+				DoubleVector cIm = DoubleVector.broadcast(SPECIES, coefficientsIm[i]);
+				DoubleVector nextRe0 = re0.mul(xRe0).sub(im0.mul(xIm0)).add(cRe);
+				DoubleVector nextIm0 = re0.mul(xIm0).add(im0.mul(xRe0)).add(cIm);
+				DoubleVector nextRe1 = re1.mul(xRe1).sub(im1.mul(xIm1)).add(cRe);
+				DoubleVector nextIm1 = re1.mul(xIm1).add(im1.mul(xRe1)).add(cIm);
+				re0 = nextRe0;
+				im0 = nextIm0;
+				re1 = nextRe1;
+				im1 = nextIm1;
+			}
+			re0.intoArray(outRe, j);
+			im0.intoArray(outIm, j);
+			re1.intoArray(outRe, j + lanes);
+			im1.intoArray(outIm, j + lanes);
+		}
+		if (j < to) {
+			SCALAR.evaluate(coefficientsRe, coefficientsIm, size, xsRe, xsIm, j, to, outRe, outIm);
+		}
+	}
+}
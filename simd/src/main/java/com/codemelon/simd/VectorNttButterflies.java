@@ -0,0 +1,70 @@
+package com.codemelon.simd;
+
+import com.codemelon.fft.NttButterflies;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * NttButterflies on the preferred LongVector species. There is no lanewise
+ * high half of a 32-bit product, so each group of residues is loaded as an
+ * IntVector of the same lane count, widened to longs for the Montgomery
+ * product and narrowed back for the sums and differences, which wrap in int
+ * lanes exactly as the scalar ones do. Passes whose blocks are shorter than
+ * a vector go to NttButterflies.SCALAR.
+ *
+ * The 64-bit lane multiplies need AVX-512 (or an equivalent) to be faster
+ * than the scalar loop.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class VectorNttButterflies implements NttButterflies {
+	static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+	static final VectorSpecies<Integer> INT_SPECIES =
+			IntVector.SPECIES_PREFERRED.withShape(VectorShape.forBitSize(LONG_SPECIES.vectorBitSize() / 2));
+
+	/**
+	 * @throws UnsupportedOperationException if the preferred species has
+	 * fewer than 4 long lanes
+	 */
+	public VectorNttButterflies() {
+		if (LONG_SPECIES.length() < 4) {
+			throw new UnsupportedOperationException("Too few SIMD lanes for long on this platform");
+		}
+	}
+
+	@Override
+	public void radix2(int[] a, int from, int to, int half, int[] roots, int rootOffset, int p, int pInvNeg) {
+		int lanes = LONG_SPECIES.length();
+		if (half < lanes) {
+			SCALAR.radix2(a, from, to, half, roots, rootOffset, p, pInvNeg);
+			return;
+		}
+		int m = half << 1;
+		for (int k = from; k < to; k += m) {
+			for (int j = 0; j < half; j += lanes) {
+				int u = k + j;
+				int l = u + half;
+				IntVector x = IntVector.fromArray(INT_SPECIES, a, u);
+				LongVector y = (LongVector) IntVector.fromArray(INT_SPECIES, a, l)
+						.convertShape(VectorOperators.I2L, LONG_SPECIES, 0);
+				LongVector w = (LongVector) IntVector.fromArray(INT_SPECIES, roots, rootOffset + j)
+						.convertShape(VectorOperators.I2L, LONG_SPECIES, 0);
+				LongVector product = y.mul(w);
+				LongVector q = product.mul(pInvNeg).and(0xffffffffL);
+				LongVector reduced = product.add(q.mul(p)).lanewise(VectorOperators.LSHR, 32);
+				IntVector t = ((IntVector) reduced.convertShape(VectorOperators.L2I, INT_SPECIES, 0)).sub(p);
+				t = t.add(t.lanewise(VectorOperators.ASHR, 31).and(p));
+				IntVector sum = x.sub(p).add(t);
+				sum.add(sum.lanewise(VectorOperators.ASHR, 31).and(p)).intoArray(a, u);
+				IntVector difference = x.sub(t);
+				difference.add(difference.lanewise(VectorOperators.ASHR, 31).and(p)).intoArray(a, l);
+			}
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.codemelon.simd;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.FftButterflies;
+import com.codemelon.fft.FftKernel;
+import com.codemelon.math.VectorKernels;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class VectorFftButterfliesTest {
+
+	/**
+	 * Test method for {@link com.codemelon.simd.VectorFftButterflies#radix2(double[], double[], int, int, int, double[], double[], int, double)}.
+	 */
+	@Test
+	public void testRadix2MatchesScalar() {
+		Random random = new Random(7);
+		FftButterflies butterflies = new VectorFftButterflies();
+		for (int half = 1; half <= 256; half <<= 1) {
+			for (double sign : new double[] { 1.0, -1.0 }) {
+				int from = 3;
+				int to = from + 4 * half;
+				double[] wRe = randomArray(random, half + 5);
+				double[] wIm = randomArray(random, half + 5);
+				double[] expectedRe = randomArray(random, to + 2);
+				double[] expectedIm = randomArray(random, to + 2);
+				double[] actualRe = expectedRe.clone();
+				double[] actualIm = expectedIm.clone();
+				FftButterflies.SCALAR.radix2(expectedRe, expectedIm, from, to, half, wRe, wIm, 5, sign);
+				butterflies.radix2(actualRe, actualIm, from, to, half, wRe, wIm, 5, sign);
+				assertArrayEquals("half " + half + ": real", expectedRe, actualRe, 0.0);
+				assertArrayEquals("half " + half + ": imaginary", expectedIm, actualIm, 0.0);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.simd.VectorFftButterflies#radix4(double[], double[], int, int, int, double[], double[], int, double)}.
+	 */
+	@Test
+	public void testRadix4MatchesScalar() {
+		Random random = new Random(11);
+		FftButterflies butterflies = new VectorFftButterflies();
+		for (int q = 1; q <= 256; q <<= 1) {
+			for (double sign : new double[] { 1.0, -1.0 }) {
+				int from = 1;
+				int to = from + 8 * q;
+				double[] wRe = randomArray(random, 3 * q + 2);
+				double[] wIm = randomArray(random, 3 * q + 2);
+				double[] expectedRe = randomArray(random, to);
+				double[] expectedIm = randomArray(random, to);
+				double[] actualRe = expectedRe.clone();
+				double[] actualIm = expectedIm.clone();
+				FftButterflies.SCALAR.radix4(expectedRe, expectedIm, from, to, q, wRe, wIm, 2, sign);
+				butterflies.radix4(actualRe, actualIm, from, to, q, wRe, wIm, 2, sign);
+				assertArrayEquals("q " + q + ": real", expectedRe, actualRe, 0.0);
+				assertArrayEquals("q " + q + ": imaginary", expectedIm, actualIm, 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testLoaded() {
+		assertTrue("registered as a service", 
+				VectorKernels.load(FftButterflies.class, FftButterflies.SCALAR) instanceof VectorFftButterflies);
+		// an impulse at 1 transforms to the n-th roots of unity
+		for (FftKernel kernel : new FftKernel[] { FftKernel.RADIX_2, FftKernel.RADIX_4 }) {
+			for (int n = 2; n <= 1 << 12; n <<= 1) {
+				double[] re = new double[n];
+				double[] im = new double[n];
+				re[1] = 1.0;
+				Fft.forward(re, im, kernel);
+				for (int k = 0; k < n; k++) {
+					assertEquals(kernel + ", n = " + n + ", k = " + k, Math.cos(2.0 * Math.PI * k / n), re[k], 1e-12);
+					assertEquals(kernel + ", n = " + n + ", k = " + k, Math.sin(2.0 * Math.PI * k / n), im[k], 1e-12);
+				}
+			}
+		}
+	}
+
+	private static double[] randomArray(Random random, int n) {
+		double[] result = new double[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = 2.0 * random.nextDouble() - 1.0;
+		}
+		return result;
+	}
+}
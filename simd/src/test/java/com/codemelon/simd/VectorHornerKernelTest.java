@@ -0,0 +1,87 @@
+package com.codemelon.simd;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.codemelon.math.VectorKernels;
+import com.codemelon.polynomial.HornerKernel;
+import com.codemelon.polynomial.Polynomial;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class VectorHornerKernelTest {
+
+	/**
+	 * Test method for {@link com.codemelon.simd.VectorHornerKernel#evaluate(double[], int, double[], int, int, double[])}.
+	 */
+	@Test
+	public void testEvaluateMatchesScalar() {
+		Random random = new Random(3);
+		HornerKernel kernel = new VectorHornerKernel();
+		// sizes around the unrolled and single-vector loops and the scalar tail
+		int[] counts = { 0, 1, 3, 7, 8, 33, 100, 1027 };
+		for (int size : new int[] { 1, 2, 17, 300 }) {
+			double[] coefficients = randomArray(random, size);
+			for (int count : counts) {
+				double[] xs = randomArray(random, count + 5);
+				double[] expected = new double[xs.length];
+				double[] actual = new double[xs.length];
+				HornerKernel.SCALAR.evaluate(coefficients, size, xs, 2, 2 + count, expected);
+				kernel.evaluate(coefficients, size, xs, 2, 2 + count, actual);
+				assertArrayEquals(size + " coefficients, " + count + " points", expected, actual, 0.0);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.simd.VectorHornerKernel#evaluate(double[], double[], int, double[], double[], int, int, double[], double[])}.
+	 */
+	@Test
+	public void testEvaluateComplexMatchesScalar() {
+		Random random = new Random(5);
+		HornerKernel kernel = new VectorHornerKernel();
+		int[] counts = { 0, 1, 3, 7, 8, 33, 100, 1027 };
+		for (int size : new int[] { 1, 2, 17, 300 }) {
+			double[] coefficientsRe = randomArray(random, size);
+			double[] coefficientsIm = randomArray(random, size);
+			for (int count : counts) {
+				double[] xsRe = randomArray(random, count);
+				double[] xsIm = randomArray(random, count);
+				double[] expectedRe = new double[count];
+				double[] expectedIm = new double[count];
+				double[] actualRe = new double[count];
+				double[] actualIm = new double[count];
+				HornerKernel.SCALAR.evaluate(coefficientsRe, coefficientsIm, size, xsRe, xsIm, 0, count, 
+						expectedRe, expectedIm);
+				kernel.evaluate(coefficientsRe, coefficientsIm, size, xsRe, xsIm, 0, count, actualRe, actualIm);
+				assertArrayEquals(size + " coefficients, " + count + " points: real", expectedRe, actualRe, 0.0);
+				assertArrayEquals(size + " coefficients, " + count + " points: imaginary", 
+						expectedIm, actualIm, 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testLoaded() {
+		assertTrue("registered as a service", 
+				VectorKernels.load(HornerKernel.class, HornerKernel.SCALAR) instanceof VectorHornerKernel);
+		Polynomial p = Polynomial.fromArray(new double[] { 3.0, 2.0, 1.0 });
+		double[] out = new double[9];
+		p.evaluateBatch(new double[] { 2.0, -1.0, 0.0, 1.0, 2.0, -1.0, 0.0, 1.0, 2.0 }, out);
+		assertArrayEquals("x^2 + 2x + 3", new double[] { 11.0, 2.0, 3.0, 6.0, 11.0, 2.0, 3.0, 6.0, 11.0 }, out, 0.0);
+	}
+
+	private static double[] randomArray(Random random, int n) {
+		double[] result = new double[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = 2.0 * random.nextDouble() - 1.0;
+		}
+		return result;
+	}
+}
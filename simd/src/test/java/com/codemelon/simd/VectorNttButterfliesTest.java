@@ -0,0 +1,70 @@
+package com.codemelon.simd;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.codemelon.fft.Ntt;
+import com.codemelon.fft.NttButterflies;
+import com.codemelon.math.VectorKernels;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class VectorNttButterfliesTest {
+
+	/**
+	 * Test method for {@link com.codemelon.simd.VectorNttButterflies#radix2(int[], int, int, int, int[], int, int, int)}.
+	 */
+	@Test
+	public void testRadix2MatchesScalar() {
+		Random random = new Random(13);
+		NttButterflies butterflies = new VectorNttButterflies();
+		for (int i = 0; i < Ntt.PRIME_COUNT; i++) {
+			int p = Ntt.forPrime(i).modulus();
+			int inverse = p;
+			for (int step = 0; step < 4; step++) {
+				inverse *= 2 - p * inverse;
+			}
+			for (int half = 1; half <= 256; half <<= 1) {
+				int from = 3;
+				int to = from + 4 * half;
+				int[] roots = randomResidues(random, half + 5, p);
+				int[] expected = randomResidues(random, to + 2, p);
+				// the extremes of the range
+				expected[from] = p - 1;
+				expected[from + half] = p - 1;
+				int[] actual = expected.clone();
+				NttButterflies.SCALAR.radix2(expected, from, to, half, roots, 5, p, -inverse);
+				butterflies.radix2(actual, from, to, half, roots, 5, p, -inverse);
+				assertArrayEquals("prime " + p + ", half " + half, expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void testLoaded() {
+		assertTrue("registered as a service",
+				VectorKernels.load(NttButterflies.class, NttButterflies.SCALAR) instanceof VectorNttButterflies);
+		int[] a = new int[1 << 12];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = i;
+		}
+		int[] x = a.clone();
+		Ntt.forPrime(0).forward(x);
+		Ntt.forPrime(0).inverse(x);
+		assertArrayEquals("round trip through the vector passes", a, x);
+	}
+
+	private static int[] randomResidues(Random random, int n, int p) {
+		int[] result = new int[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = random.nextInt(p);
+		}
+		return result;
+	}
+}
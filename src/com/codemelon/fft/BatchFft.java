@@ -0,0 +1,310 @@
+package com.codemelon.fft;
+
+/**
+ * Transforms a batch of count independent vectors of the same length n held
+ * in one pair of arrays. Element j of vector b is at
+ * offset + b * vectorStride + j * elementStride, which covers vectors stored
+ * one after another (contiguous), element by element across the batch
+ * (interleaved), or any other regular layout (strided).
+ *
+ * Everything that depends only on n is worked out once when the batch is
+ * created: the bit-reversal permutation, and the twiddle factors of every
+ * radix-4 pass packed into one contiguous table in the order the butterflies
+ * read them (the RADIX_4 StageTwiddles of the TwiddleCache). Vectors are then
+ * processed in tiles of about TILE_BYTES, pass by pass across the tile, so
+ * each pass's twiddles are reused while they are still in cache. Contiguous
+ * power-of-2 batches are transformed in place; other layouts are gathered
+ * into a tile buffer (applying the bit reversal on the way in) and
+ * scattered back. Lengths that are not powers of 2 are
+ * passed vector by vector to Fft.
+ *
+ * A BatchFft holds no mutable state and may be shared between threads.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class BatchFft {
+	/**
+	 * 256 KiB of complex data per tile
+	 */
+	static final int TILE_BYTES = 1 << 18;
+
+	private final int n;
+	private final int count;
+	private final int offset;
+	private final int elementStride;
+	private final int vectorStride;
+	private final int tile;
+	// null unless n is a power of 2
+	private final int[] bitReversal;
+	// RADIX_4 StageTwiddles layout
+	private final double[] stageCos;
+	private final double[] stageSin;
+
+	private BatchFft(int n, int count, int offset, int elementStride, int vectorStride) {
+		if (n <= 0 || count <= 0) {
+			throw new IllegalArgumentException("Vector length and count must be positive");
+		}
+		if (offset < 0 || elementStride <= 0 || vectorStride <= 0) {
+			throw new IllegalArgumentException("Offset cannot be negative and strides must be positive");
+		}
+		this.n = n;
+		this.count = count;
+		this.offset = offset;
+		this.elementStride = elementStride;
+		this.vectorStride = vectorStride;
+		this.tile = Math.max(1, Math.min(count, TILE_BYTES / (16 * n)));
+		if (Fft.isPowerOfTwo(n)) {
+			bitReversal = bitReversal(n);
+			StageTwiddles stages = TwiddleCache.shared().stages(n, StageTwiddles.RADIX_4);
+			stageCos = stages.re();
+			stageSin = stages.im();
+		}
+		else {
+			bitReversal = null;
+			stageCos = null;
+			stageSin = null;
+		}
+	}
+
+	/**
+	 * Vector b occupies indices [b * n, (b + 1) * n)
+	 */
+	public static BatchFft contiguous(int n, int count) {
+		return new BatchFft(n, count, 0, 1, n);
+	}
+
+	/**
+	 * Element j of vector b is at index j * count + b
+	 */
+	public static BatchFft interleaved(int n, int count) {
+		return new BatchFft(n, count, 0, count, 1);
+	}
+
+	/**
+	 * Element j of vector b is at index
+	 * offset + b * vectorStride + j * elementStride. Vectors must not overlap.
+	 */
+	public static BatchFft strided(int n, int count, int offset, int elementStride, int vectorStride) {
+		return new BatchFft(n, count, offset, elementStride, vectorStride);
+	}
+
+	public int length() {
+		return n;
+	}
+
+	public int count() {
+		return count;
+	}
+
+	/**
+	 * Forward transform of every vector in the batch, in place
+	 * @param re real parts
+	 * @param im imaginary parts
+	 */
+	public void forward(double[] re, double[] im) {
+		transform(re, im, 1.0);
+	}
+
+	/**
+	 * Inverse transform of every vector in the batch, in place, including the
+	 * 1/n scaling
+	 * @param re real parts
+	 * @param im imaginary parts
+	 */
+	public void inverse(double[] re, double[] im) {
+		transform(re, im, -1.0);
+	}
+
+	private void transform(double[] re, double[] im, double sign) {
+		validate(re, im);
+		if (bitReversal == null) {
+			transformVectors(re, im, sign, true, 0, count);
+		}
+		else if (elementStride == 1) {
+			transformInPlace(re, im, sign, sign > 0.0 ? 1.0 : 1.0 / n, 0, count);
+		}
+		else {
+			transformGathered(re, im, sign, sign > 0.0 ? 1.0 : 1.0 / n, 0, count);
+		}
+	}
+
+	/**
+	 * @return vectors transformed together, about TILE_BYTES of data
+	 */
+	int tile() {
+		return tile;
+	}
+
+	/**
+	 * Transform of every vector of the batch without the 1/n scaling of the
+	 * inverse, for FourStepFft
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	void transformUnscaled(double[] re, double[] im, double sign) {
+		transformUnscaled(re, im, sign, 0, count);
+	}
+
+	/**
+	 * As transformUnscaled(re, im, sign), for vectors [from, to) only
+	 */
+	void transformUnscaled(double[] re, double[] im, double sign, int from, int to) {
+		validate(re, im);
+		if (from < 0 || from > to || to > count) {
+			throw new IllegalArgumentException("Vector range out of bounds: [" + from + ", " + to + ")");
+		}
+		if (bitReversal == null) {
+			transformVectors(re, im, sign, false, from, to);
+		}
+		else if (elementStride == 1) {
+			transformInPlace(re, im, sign, 1.0, from, to);
+		}
+		else {
+			transformGathered(re, im, sign, 1.0, from, to);
+		}
+	}
+
+	/**
+	 * Vectors [from, to), tile by tile
+	 */
+	private void transformInPlace(double[] re, double[] im, double sign, double scale, int from, int to) {
+		for (int b = from; b < to; b += tile) {
+			int vectors = Math.min(tile, to - b);
+			int first = offset + b * vectorStride;
+			for (int v = 0; v < vectors; v++) {
+				int base = first + v * vectorStride;
+				for (int i = 0; i < n; i++) {
+					int j = bitReversal[i];
+					if (i < j) {
+						double tmp = re[base + i];
+						re[base + i] = re[base + j];
+						re[base + j] = tmp;
+						tmp = im[base + i];
+						im[base + i] = im[base + j];
+						im[base + j] = tmp;
+					}
+				}
+			}
+			butterflies(re, im, first, vectorStride, vectors, sign);
+			if (scale != 1.0) {
+				for (int v = 0; v < vectors; v++) {
+					int base = first + v * vectorStride;
+					for (int i = base; i < base + n; i++) {
+						re[i] *= scale;
+						im[i] *= scale;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Vectors [from, to), tile by tile
+	 */
+	private void transformGathered(double[] re, double[] im, double sign, double scale, int from, int to) {
+		double[] tileRe = new double[tile * n];
+		double[] tileIm = new double[tile * n];
+		for (int b = from; b < to; b += tile) {
+			int vectors = Math.min(tile, to - b);
+			int first = offset + b * vectorStride;
+			// element-major, so an interleaved batch is read sequentially
+			for (int i = 0; i < n; i++) {
+				int source = first + i * elementStride;
+				int target = bitReversal[i];
+				for (int v = 0; v < vectors; v++) {
+					tileRe[v * n + target] = re[source + v * vectorStride];
+					tileIm[v * n + target] = im[source + v * vectorStride];
+				}
+			}
+			butterflies(tileRe, tileIm, 0, n, vectors, sign);
+			for (int i = 0; i < n; i++) {
+				int target = first + i * elementStride;
+				for (int v = 0; v < vectors; v++) {
+					re[target + v * vectorStride] = scale * tileRe[v * n + i];
+					im[target + v * vectorStride] = scale * tileIm[v * n + i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Vectors [from, to), one at a time through Fft
+	 * @param scaled whether the inverse includes the 1/n scaling
+	 */
+	private void transformVectors(double[] re, double[] im, double sign, boolean scaled, int from, int to) {
+		double[] vectorRe = new double[n];
+		double[] vectorIm = new double[n];
+		for (int b = from; b < to; b++) {
+			int first = offset + b * vectorStride;
+			for (int i = 0; i < n; i++) {
+				vectorRe[i] = re[first + i * elementStride];
+				vectorIm[i] = im[first + i * elementStride];
+			}
+			if (sign > 0.0) {
+				Fft.forward(vectorRe, vectorIm);
+			}
+			else if (scaled) {
+				Fft.inverse(vectorRe, vectorIm);
+			}
+			else {
+				// the unscaled inverse is the conjugate of the forward transform of the conjugate
+				negate(vectorIm);
+				Fft.forward(vectorRe, vectorIm);
+				negate(vectorIm);
+			}
+			for (int i = 0; i < n; i++) {
+				re[first + i * elementStride] = vectorRe[i];
+				im[first + i * elementStride] = vectorIm[i];
+			}
+		}
+	}
+
+	/**
+	 * Radix-4 passes (after a radix-2 one if lg n is odd) over vectors
+	 * already in bit-reversed order, each pass applied to the whole tile
+	 * before the next with Fft.BUTTERFLIES. Vectors stored back to back are
+	 * handed over as one range.
+	 */
+	private void butterflies(double[] re, double[] im, int first, int stride, int vectors, double sign) {
+		int ranges = stride == n ? 1 : vectors;
+		int rangeLength = stride == n ? vectors * n : n;
+		int q = StageTwiddles.firstQuarter(n);
+		if (q == 2) {
+			for (int v = 0; v < ranges; v++) {
+				Radix4Fft.radix2Pass(re, im, first + v * stride, first + v * stride + rangeLength);
+			}
+		}
+		for (int stageOffset = 0; q < n; stageOffset += 3 * q, q *= 4) {
+			for (int v = 0; v < ranges; v++) {
+				int base = first + v * stride;
+				Fft.BUTTERFLIES.radix4(re, im, base, base + rangeLength, q, stageCos, stageSin, stageOffset, sign);
+			}
+		}
+	}
+
+	private void validate(double[] re, double[] im) {
+		long last = offset + (long) (n - 1) * elementStride + (long) (count - 1) * vectorStride;
+		if (re.length != im.length) {
+			throw new IllegalArgumentException("Real and imaginary parts must have the same length");
+		}
+		if (last >= re.length) {
+			throw new IllegalArgumentException("Arrays are too short for the batch layout");
+		}
+	}
+
+	private static void negate(double[] values) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = -values[i];
+		}
+	}
+
+	private static int[] bitReversal(int n) {
+		int[] result = new int[n];
+		int shift = Integer.numberOfLeadingZeros(n) + 1;
+		for (int i = 1; i < n; i++) {
+			result[i] = Integer.reverse(i) >>> shift;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,106 @@
+package com.codemelon.fft;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bluestein's chirp-z algorithm for lengths with a prime factor greater
+ * than 7. Writing jk = (j^2 + k^2 - (k - j)^2) / 2 turns the length n
+ * transform into a convolution with the chirp e^(-pi i j^2 / n), which is
+ * evaluated with power-of-2 transforms of length m >= 2n - 1.
+ *
+ * The chirp and the spectrum of the convolution kernel depend only on n and
+ * are kept for the MAX_CACHED_SIZES most recently used lengths.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class BluesteinFft {
+	private static final int MAX_CACHED_SIZES = 16;
+
+	private static final Map<Integer, BluesteinFft> CACHE =
+			new LinkedHashMap<Integer, BluesteinFft>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, BluesteinFft> eldest) {
+					return size() > MAX_CACHED_SIZES;
+				}
+			};
+
+	private final int n;
+	private final int m;
+	// chirp[j] = e^(pi i j^2 / n)
+	private final double[] chirpRe;
+	private final double[] chirpIm;
+	// transform of the conjugate chirp, wrapped cyclically to length m
+	private final double[] kernelRe;
+	private final double[] kernelIm;
+
+	private BluesteinFft(int n) {
+		this.n = n;
+		this.m = Fft.nextPowerOfTwo(2 * n - 1);
+		chirpRe = new double[n];
+		chirpIm = new double[n];
+		for (int j = 0; j < n; j++) {
+			// j^2 mod 2n keeps the angle small and exact
+			long jSquared = (long) j * j % (2L * n);
+			double angle = Math.PI * jSquared / n;
+			chirpRe[j] = Math.cos(angle);
+			chirpIm[j] = Math.sin(angle);
+		}
+		kernelRe = new double[m];
+		kernelIm = new double[m];
+		kernelRe[0] = chirpRe[0];
+		kernelIm[0] = -chirpIm[0];
+		for (int j = 1; j < n; j++) {
+			kernelRe[j] = kernelRe[m - j] = chirpRe[j];
+			kernelIm[j] = kernelIm[m - j] = -chirpIm[j];
+		}
+		Fft.forward(kernelRe, kernelIm);
+	}
+
+	static BluesteinFft forSize(int n) {
+		synchronized (CACHE) {
+			BluesteinFft cached = CACHE.get(n);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		BluesteinFft result = new BluesteinFft(n);
+		synchronized (CACHE) {
+			CACHE.put(n, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Overwrites (re, im) with its transform. Allocates two work buffers of
+	 * length m.
+	 * @param re
+	 * @param im
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	void transform(double[] re, double[] im, double sign) {
+		// the inverse is the conjugate of the forward transform of the conjugate
+		double[] workRe = new double[m];
+		double[] workIm = new double[m];
+		for (int j = 0; j < n; j++) {
+			double xIm = sign * im[j];
+			workRe[j] = re[j] * chirpRe[j] - xIm * chirpIm[j];
+			workIm[j] = re[j] * chirpIm[j] + xIm * chirpRe[j];
+		}
+		Fft.forward(workRe, workIm);
+		for (int i = 0; i < m; i++) {
+			double productRe = workRe[i] * kernelRe[i] - workIm[i] * kernelIm[i];
+			workIm[i] = workRe[i] * kernelIm[i] + workIm[i] * kernelRe[i];
+			workRe[i] = productRe;
+		}
+		Fft.inverse(workRe, workIm);
+		for (int k = 0; k < n; k++) {
+			re[k] = workRe[k] * chirpRe[k] - workIm[k] * chirpIm[k];
+			im[k] = sign * (workRe[k] * chirpIm[k] + workIm[k] * chirpRe[k]);
+		}
+	}
+}
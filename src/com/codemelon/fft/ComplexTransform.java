@@ -0,0 +1,34 @@
+package com.codemelon.fft;
+
+/**
+ * An engine for in-place complex transforms on split real/imaginary arrays,
+ * with the same conventions as Fft.forward and Fft.inverse
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public interface ComplexTransform {
+
+	/**
+	 * Replaces (re, im) with its discrete Fourier transform, evaluating at
+	 * powers of e^(2 pi i / n)
+	 * @param re
+	 * @param im same length as re
+	 */
+	void forward(double[] re, double[] im);
+
+	/**
+	 * Replaces (re, im) with its inverse discrete Fourier transform,
+	 * including the 1/n scaling
+	 * @param re
+	 * @param im same length as re
+	 */
+	void inverse(double[] re, double[] im);
+
+	/**
+	 * @param minLength must be positive and at most 2^30
+	 * @return the length >= minLength this engine transforms most cheaply
+	 */
+	int transformLength(int minLength);
+}
@@ -0,0 +1,240 @@
+package com.codemelon.fft;
+
+import com.codemelon.math.VectorKernels;
+
+/**
+ * In-place FFT on split real/imaginary arrays of any length.
+ * Powers of 2 use one of the FftKernel butterfly kernels, by default the one
+ * named by the system property com.codemelon.fft.kernel (RADIX_4 if unset);
+ * these allocate nothing. The radix-2 kernel follows ITERATIVE-FFT,
+ * CLRS, pp. 915ff.: a bit-reversal permutation followed by lg n passes of
+ * butterflies. Other lengths whose prime factors are at most 7 go to
+ * MixedRadixFft, and the rest to BluesteinFft; both of those allocate work
+ * buffers. As in ComplexPolynomial.recursiveFFT, the forward
+ * transform evaluates at powers of omega_n = e^(2 pi i / n).
+ *
+ * Lengths of at least the four-step threshold (DEFAULT_FOUR_STEP_THRESHOLD
+ * unless the system property com.codemelon.fft.fourStepThreshold says
+ * otherwise) use FOUR_STEP instead of the default kernel, as the other
+ * kernels slow down once the data no longer fits in the last-level cache.
+ *
+ * The butterfly passes of the RADIX_2 and RADIX_4 kernels go through
+ * BUTTERFLIES, which VectorKernels resolves to a SIMD implementation when
+ * the optional simd artifact can run on this JVM.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class Fft {
+	/**
+	 * 2^23 points (128 MiB of data): where FOUR_STEP overtook RADIX_4 by
+	 * about a third, with or without vector butterflies; the two were level
+	 * at 2^22. From 2^23 the RADIX_4 twiddle table exceeds the default
+	 * TwiddleCache cap and is rebuilt on every call, while FOUR_STEP only
+	 * needs about sqrt(n) roots. With a smaller cache the crossover comes
+	 * sooner, and an FftPlanner measures it for the lengths it plans.
+	 */
+	public static final int DEFAULT_FOUR_STEP_THRESHOLD = 1 << 23;
+
+	static final FftButterflies BUTTERFLIES = VectorKernels.load(FftButterflies.class, FftButterflies.SCALAR);
+
+	private static volatile FftKernel defaultKernel =
+			FftKernel.valueOf(System.getProperty("com.codemelon.fft.kernel", FftKernel.RADIX_4.name()));
+	private static volatile int fourStepThreshold =
+			Integer.getInteger("com.codemelon.fft.fourStepThreshold", DEFAULT_FOUR_STEP_THRESHOLD);
+
+	private static final ComplexTransform SEQUENTIAL = new ComplexTransform() {
+		@Override
+		public void forward(double[] re, double[] im) {
+			Fft.forward(re, im);
+		}
+
+		@Override
+		public void inverse(double[] re, double[] im) {
+			Fft.inverse(re, im);
+		}
+
+		@Override
+		public int transformLength(int minLength) {
+			return FftLengths.transformLength(minLength);
+		}
+	};
+
+	private Fft() {
+	}
+
+	/**
+	 * @return the static forward and inverse methods of this class as a
+	 * ComplexTransform
+	 */
+	public static ComplexTransform sequential() {
+		return SEQUENTIAL;
+	}
+
+	public static FftKernel getDefaultKernel() {
+		return defaultKernel;
+	}
+
+	/**
+	 * @param kernel used for power-of-2 lengths by the overloads that take
+	 * no kernel
+	 */
+	public static void setDefaultKernel(FftKernel kernel) {
+		if (kernel == null) {
+			throw new NullPointerException("Kernel cannot be null");
+		}
+		defaultKernel = kernel;
+	}
+
+	public static int getFourStepThreshold() {
+		return fourStepThreshold;
+	}
+
+	/**
+	 * @param threshold power-of-2 lengths at least this long use FOUR_STEP
+	 * in the overloads that take no kernel; Integer.MAX_VALUE turns this off
+	 */
+	public static void setFourStepThreshold(int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold must be positive");
+		}
+		fourStepThreshold = threshold;
+	}
+
+	/**
+	 * Replaces (re, im) with its discrete Fourier transform. Nothing is
+	 * allocated if the length is a power of 2.
+	 * @param re real parts
+	 * @param im imaginary parts, same length as re
+	 * @throws IllegalArgumentException if the lengths differ or are 0
+	 */
+	public static void forward(double[] re, double[] im) {
+		forward(re, im, kernelFor(re.length));
+	}
+
+	/**
+	 * As forward(re, im), using the given kernel if the length is a power of 2
+	 */
+	public static void forward(double[] re, double[] im, FftKernel kernel) {
+		transform(re, im, 1.0, kernel);
+	}
+
+	/**
+	 * Replaces (re, im) with its inverse discrete Fourier transform, including
+	 * the 1/n scaling. Nothing is allocated if the length is a power of 2.
+	 * @param re real parts
+	 * @param im imaginary parts, same length as re
+	 * @throws IllegalArgumentException if the lengths differ or are 0
+	 */
+	public static void inverse(double[] re, double[] im) {
+		inverse(re, im, kernelFor(re.length));
+	}
+
+	/**
+	 * As inverse(re, im), using the given kernel if the length is a power of 2
+	 */
+	public static void inverse(double[] re, double[] im, FftKernel kernel) {
+		transform(re, im, -1.0, kernel);
+		double oneOverN = 1.0 / re.length;
+		for (int i = 0; i < re.length; i++) {
+			re[i] *= oneOverN;
+			im[i] *= oneOverN;
+		}
+	}
+
+	/**
+	 * @return the kernel the overloads without one use for length n
+	 */
+	static FftKernel kernelFor(int n) {
+		return n >= fourStepThreshold ? FftKernel.FOUR_STEP : defaultKernel;
+	}
+
+	public static boolean isPowerOfTwo(int n) {
+		return n > 0 && (n & (n - 1)) == 0;
+	}
+
+	/**
+	 * @param n must be positive and at most 2^30
+	 * @return smallest power of 2 that is >= n
+	 */
+	public static int nextPowerOfTwo(int n) {
+		if (n <= 0 || n > (1 << 30)) {
+			throw new IllegalArgumentException("Size out of range: " + n);
+		}
+		int result = Integer.highestOneBit(n);
+		return result == n ? n : result << 1;
+	}
+
+	/**
+	 * Cf. BIT-REVERSE-COPY, CLRS, p. 917, but done in place by swapping
+	 * @param re
+	 * @param im
+	 */
+	static void bitReversePermute(double[] re, double[] im) {
+		int n = re.length;
+		for (int i = 1, j = 0; i < n; i++) {
+			int bit = n >> 1;
+			while ((j & bit) != 0) {
+				j ^= bit;
+				bit >>= 1;
+			}
+			j ^= bit;
+			if (i < j) {
+				double tmp = re[i];
+				re[i] = re[j];
+				re[j] = tmp;
+				tmp = im[i];
+				im[i] = im[j];
+				im[j] = tmp;
+			}
+		}
+	}
+
+	static void validate(double[] re, double[] im) {
+		if (re.length != im.length) {
+			throw new IllegalArgumentException("Real and imaginary parts must have the same length");
+		}
+		if (re.length == 0) {
+			throw new IllegalArgumentException("Transform size must be positive");
+		}
+	}
+
+	/**
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	private static void transform(double[] re, double[] im, double sign, FftKernel kernel) {
+		validate(re, im);
+		int n = re.length;
+		if (n == 1) {
+			return;
+		}
+		if (isPowerOfTwo(n)) {
+			kernel.transform(re, im, sign);
+		}
+		else if (FftLengths.isSmooth(n)) {
+			MixedRadixFft.transform(re, im, sign);
+		}
+		else {
+			BluesteinFft.forSize(n).transform(re, im, sign);
+		}
+	}
+
+	/**
+	 * Roots of unity come from the shared TwiddleCache, rearranged into
+	 * StageTwiddles; the inverse uses their conjugates.
+	 * @param re length a power of 2, at least 2
+	 * @param im
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	static void radix2(double[] re, double[] im, double sign) {
+		int n = re.length;
+		bitReversePermute(re, im);
+		StageTwiddles stages = TwiddleCache.shared().stages(n, StageTwiddles.RADIX_2);
+		double[] wRe = stages.re();
+		double[] wIm = stages.im();
+		for (int half = 1; half < n; half <<= 1) {
+			BUTTERFLIES.radix2(re, im, 0, n, half, wRe, wIm, half - 1, sign);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.codemelon.fft;
+
+/**
+ * Inner loops of the iterative power-of-2 kernels: one pass of butterflies
+ * over data already in bit-reversed order. Twiddle factors are read from
+ * contiguous per-pass tables (see StageTwiddles), so that a vector
+ * implementation can load them a lane group at a time. Every product and sum
+ * is a separate multiply or add (never a fused multiply-add) in the order
+ * SCALAR computes it, so that every implementation gives the same bits.
+ *
+ * The implementation in use is found by VectorKernels; see Fft.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public interface FftButterflies {
+	/**
+	 * Plain Java loops, always available
+	 */
+	FftButterflies SCALAR = new ScalarFftButterflies();
+
+	/**
+	 * Joins every pair of adjacent blocks of length half in [from, to):
+	 * with u = k + j and l = u + half, t = w_j * x[l], x[l] = x[u] - t,
+	 * x[u] = x[u] + t, where w_j = wRe[wOffset + j] + i sign wIm[wOffset + j]
+	 * @param re real parts
+	 * @param im imaginary parts
+	 * @param from start of the first block
+	 * @param to end of the last block, from plus a multiple of 2 half
+	 * @param half
+	 * @param wRe
+	 * @param wIm
+	 * @param wOffset
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	void radix2(double[] re, double[] im, int from, int to, int half, 
+			double[] wRe, double[] wIm, int wOffset, double sign);
+
+	/**
+	 * Combines every run of four adjacent blocks of length q in [from, to)
+	 * into one of length 4q. Point k of a run uses w^k, w^(2k) and w^(3k) at
+	 * wOffset + k, wOffset + q + k and wOffset + 2q + k, with imaginary
+	 * parts multiplied by sign as in radix2.
+	 * @param to from plus a multiple of 4q
+	 */
+	void radix4(double[] re, double[] im, int from, int to, int q, 
+			double[] wRe, double[] wIm, int wOffset, double sign);
+}
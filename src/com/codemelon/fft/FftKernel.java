@@ -0,0 +1,57 @@
+package com.codemelon.fft;
+
+/**
+ * Butterfly kernels for power-of-2 transform lengths. All of them give the
+ * same result up to rounding; they differ in operation count and in the
+ * number of passes over the data.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public enum FftKernel {
+	/**
+	 * Iterative radix-2, CLRS, pp. 915ff.: lg n passes
+	 */
+	RADIX_2 {
+		@Override
+		void transform(double[] re, double[] im, double sign) {
+			Fft.radix2(re, im, sign);
+		}
+	},
+	/**
+	 * Iterative radix-4: lg n / 2 passes, about 25% fewer multiplies
+	 */
+	RADIX_4 {
+		@Override
+		void transform(double[] re, double[] im, double sign) {
+			Radix4Fft.transform(re, im, sign);
+		}
+	},
+	/**
+	 * Recursive split-radix: lowest operation count
+	 */
+	SPLIT_RADIX {
+		@Override
+		void transform(double[] re, double[] im, double sign) {
+			SplitRadixFft.transform(re, im, sign);
+		}
+	},
+	/**
+	 * Four-step: row transforms of about sqrt(n) points between blocked
+	 * transposes, for lengths that do not fit in cache
+	 */
+	FOUR_STEP {
+		@Override
+		void transform(double[] re, double[] im, double sign) {
+			FourStepFft.transform(re, im, sign);
+		}
+	};
+
+	/**
+	 * @param re length a power of 2, at least 2
+	 * @param im
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	abstract void transform(double[] re, double[] im, double sign);
+}
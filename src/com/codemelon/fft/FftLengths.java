@@ -0,0 +1,130 @@
+package com.codemelon.fft;
+
+/**
+ * Choice of transform length. Fft handles any length, but lengths whose only
+ * prime factors are 2, 3, 5 and 7 ("smooth" lengths) run on the mixed-radix
+ * path while others need Bluestein's algorithm, which costs several
+ * power-of-2 transforms of twice the length. A convolution of length L can
+ * use any transform length >= L, so the multiply paths ask for the cheapest
+ * smooth length in [L, nextPowerOfTwo(L)] under a simple cost model.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class FftLengths {
+	/**
+	 * Radices used by the mixed-radix path, in the order they are split off
+	 */
+	static final int[] RADICES = { 4, 2, 3, 5, 7 };
+
+	/**
+	 * Estimated work per point for one pass of each radix in RADICES,
+	 * relative to one pass of the iterative radix-2 engine
+	 */
+	private static final double[] RADIX_WEIGHTS = { 1.8, 1.0, 2.0, 3.0, 4.2 };
+
+	/**
+	 * Extra cost of the recursive mixed-radix path over the iterative
+	 * radix-2 engine
+	 */
+	private static final double MIXED_RADIX_OVERHEAD = 1.2;
+
+	private FftLengths() {
+	}
+
+	/**
+	 * @param n
+	 * @return true if n > 0 and n has no prime factor greater than 7
+	 */
+	public static boolean isSmooth(int n) {
+		if (n <= 0) {
+			return false;
+		}
+		for (int p = 2; p <= 7; p++) {
+			while (n % p == 0) {
+				n /= p;
+			}
+		}
+		return n == 1;
+	}
+
+	/**
+	 * @param n a smooth length
+	 * @return radices whose product is n, 4s first
+	 */
+	static int[] factor(int n) {
+		int count = 0;
+		int[] buffer = new int[32];
+		for (int radix : RADICES) {
+			while (n % radix == 0) {
+				buffer[count++] = radix;
+				n /= radix;
+			}
+		}
+		if (n != 1) {
+			throw new IllegalArgumentException("Length has a prime factor greater than 7");
+		}
+		int[] result = new int[count];
+		System.arraycopy(buffer, 0, result, 0, count);
+		return result;
+	}
+
+	/**
+	 * @param n a smooth length
+	 * @return estimated relative cost of a complex transform of length n
+	 */
+	public static double cost(int n) {
+		if (Fft.isPowerOfTwo(n)) {
+			return (double) n * Integer.numberOfTrailingZeros(n);
+		}
+		double perPoint = 0.0;
+		for (int radix : factor(n)) {
+			for (int i = 0; i < RADICES.length; i++) {
+				if (RADICES[i] == radix) {
+					perPoint += RADIX_WEIGHTS[i];
+				}
+			}
+		}
+		return n * perPoint * MIXED_RADIX_OVERHEAD;
+	}
+
+	/**
+	 * @param minLength must be positive and at most 2^30
+	 * @return the smooth length >= minLength with the lowest estimated cost
+	 */
+	public static int transformLength(int minLength) {
+		int powerOfTwo = Fft.nextPowerOfTwo(minLength);
+		int best = powerOfTwo;
+		double bestCost = cost(powerOfTwo);
+		// each odd smooth part, paired with the least power of 2 reaching minLength
+		for (long p7 = 1; p7 <= powerOfTwo; p7 *= 7) {
+			for (long p5 = p7; p5 <= powerOfTwo; p5 *= 5) {
+				for (long odd = p5; odd <= powerOfTwo; odd *= 3) {
+					long candidate = odd;
+					while (candidate < minLength) {
+						candidate *= 2;
+					}
+					if (candidate < powerOfTwo) {
+						double candidateCost = cost((int) candidate);
+						if (candidateCost < bestCost) {
+							best = (int) candidate;
+							bestCost = candidateCost;
+						}
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * RealFft runs a complex transform of half the real length, so the
+	 * choice is made on the half length
+	 * @param minLength must be positive and at most 2^30
+	 * @return an even length >= minLength that is cheap for RealFft
+	 */
+	public static int realTransformLength(int minLength) {
+		return 2 * transformLength((minLength + 1) / 2);
+	}
+}
@@ -0,0 +1,115 @@
+package com.codemelon.fft;
+
+/**
+ * A transform of one fixed length and direction with the algorithm already
+ * chosen, so that executing it repeatedly does no further decision making.
+ * Plans are built by an FftPlanner, either by measuring the candidates on the
+ * current machine or from previously exported wisdom.
+ *
+ * A plan holds no mutable state and may be executed concurrently.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class FftPlan {
+
+	public enum Direction {
+		FORWARD,
+		INVERSE
+	}
+
+	private final int n;
+	private final Direction direction;
+	private final FftKernel kernel;
+	// null for a sequential plan
+	private final ParallelFft parallel;
+
+	/**
+	 * @param n transform length
+	 * @param direction
+	 * @param kernel butterfly kernel for a sequential power-of-2 plan, null
+	 * otherwise
+	 * @param parallel engine for a parallel plan, null for a sequential one
+	 */
+	FftPlan(int n, Direction direction, FftKernel kernel, ParallelFft parallel) {
+		if (n <= 0) {
+			throw new IllegalArgumentException("Transform size must be positive");
+		}
+		if (direction == null) {
+			throw new NullPointerException("Direction cannot be null");
+		}
+		this.n = n;
+		this.direction = direction;
+		this.kernel = kernel;
+		this.parallel = parallel;
+	}
+
+	public int size() {
+		return n;
+	}
+
+	public Direction direction() {
+		return direction;
+	}
+
+	/**
+	 * @return the butterfly kernel of a sequential power-of-2 plan, otherwise
+	 * null (parallel plans run radix-2 blocks; other lengths have no choice
+	 * of kernel)
+	 */
+	public FftKernel kernel() {
+		return kernel;
+	}
+
+	public boolean isParallel() {
+		return parallel != null;
+	}
+
+	/**
+	 * @return the sequential cutoff of a parallel plan, 0 for a sequential one
+	 */
+	public int parallelCutoff() {
+		return parallel == null ? 0 : parallel.cutoff();
+	}
+
+	/**
+	 * Transforms (re, im) in place in the planned direction. The inverse
+	 * includes the 1/n scaling.
+	 * @param re length size()
+	 * @param im length size()
+	 */
+	public void execute(double[] re, double[] im) {
+		if (re.length != n || im.length != n) {
+			throw new IllegalArgumentException("Plan is for length " + n);
+		}
+		if (parallel != null) {
+			if (direction == Direction.FORWARD) {
+				parallel.forward(re, im);
+			}
+			else {
+				parallel.inverse(re, im);
+			}
+		}
+		else if (kernel != null) {
+			if (direction == Direction.FORWARD) {
+				Fft.forward(re, im, kernel);
+			}
+			else {
+				Fft.inverse(re, im, kernel);
+			}
+		}
+		else if (direction == Direction.FORWARD) {
+			Fft.forward(re, im);
+		}
+		else {
+			Fft.inverse(re, im);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "FftPlan[" + n + " " + direction + " " + 
+				(parallel == null ? "sequential " + kernel : "parallel cutoff " + parallel.cutoff()) + "]";
+	}
+}
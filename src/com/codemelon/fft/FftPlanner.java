@@ -0,0 +1,267 @@
+package com.codemelon.fft;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Builds and remembers FftPlans. The first request for a length and
+ * direction times every candidate on the current machine and keeps the
+ * fastest: for powers of 2 each FftKernel run sequentially and, if the
+ * planner has a pool, ParallelFft at each of PARALLEL_CUTOFFS below the
+ * length. Other lengths have a single candidate and are not timed.
+ *
+ * The chosen plans ("wisdom") can be written out with exportWisdom and
+ * read back with importWisdom, so that a new JVM starts with the plans of an
+ * earlier run instead of measuring again. The format is one plan per line,
+ * "length direction kernel cutoff", with "-" for no kernel and 0 for a
+ * sequential plan; lines starting with # are ignored.
+ *
+ * A planner is also a ComplexTransform that executes the planned transform
+ * for whatever length it is given, planning on first use.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class FftPlanner implements ComplexTransform {
+	static final int[] PARALLEL_CUTOFFS = { 1 << 12, 1 << 14, 1 << 16 };
+
+	private static final String WISDOM_HEADER = "# com.codemelon.fft wisdom: length direction kernel cutoff";
+	// each timed trial transforms about this many points in total
+	private static final int POINTS_PER_TRIAL = 1 << 18;
+	private static final int TRIALS = 5;
+
+	// null if only sequential plans are considered
+	private final ForkJoinPool pool;
+	// insertion order, so exported wisdom is in the order plans were made
+	private final Map<Long, FftPlan> plans = new LinkedHashMap<Long, FftPlan>();
+
+	/**
+	 * A planner considering sequential plans only
+	 */
+	public FftPlanner() {
+		this.pool = null;
+	}
+
+	/**
+	 * @param pool used by parallel candidates and plans
+	 */
+	public FftPlanner(ForkJoinPool pool) {
+		if (pool == null) {
+			throw new NullPointerException("Pool cannot be null");
+		}
+		this.pool = pool;
+	}
+
+	/**
+	 * @param n transform length
+	 * @param direction
+	 * @return the remembered plan, measuring the candidates first if there
+	 * is none. Measuring happens outside the planner's lock, so other
+	 * threads are not held up; if two threads measure the same length, the
+	 * plan stored first is kept and returned to both.
+	 */
+	public FftPlan plan(int n, FftPlan.Direction direction) {
+		Long key = key(n, direction);
+		FftPlan plan;
+		synchronized (this) {
+			plan = plans.get(key);
+		}
+		if (plan != null) {
+			return plan;
+		}
+		FftPlan measured = fastest(candidates(n, direction));
+		synchronized (this) {
+			plan = plans.get(key);
+			if (plan == null) {
+				plan = measured;
+				plans.put(key, plan);
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * @return number of remembered plans
+	 */
+	public synchronized int planCount() {
+		return plans.size();
+	}
+
+	@Override
+	public void forward(double[] re, double[] im) {
+		plan(re.length, FftPlan.Direction.FORWARD).execute(re, im);
+	}
+
+	@Override
+	public void inverse(double[] re, double[] im) {
+		plan(re.length, FftPlan.Direction.INVERSE).execute(re, im);
+	}
+
+	@Override
+	public int transformLength(int minLength) {
+		return FftLengths.transformLength(minLength);
+	}
+
+	/**
+	 * Writes every remembered plan
+	 * @param out
+	 * @throws IOException
+	 */
+	public synchronized void exportWisdom(Writer out) throws IOException {
+		out.write(WISDOM_HEADER);
+		out.write('\n');
+		for (FftPlan plan : plans.values()) {
+			out.write(plan.size() + " " + plan.direction() + " " + 
+					(plan.kernel() == null ? "-" : plan.kernel().name()) + " " + plan.parallelCutoff());
+			out.write('\n');
+		}
+		out.flush();
+	}
+
+	public void exportWisdom(Path path) throws IOException {
+		try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			exportWisdom(out);
+		}
+	}
+
+	/**
+	 * Reads plans written by exportWisdom, replacing any remembered plans of
+	 * the same length and direction. A parallel plan read by a planner
+	 * without a pool becomes the sequential plan for its length.
+	 * @param in
+	 * @throws IOException if reading fails or a line is malformed, in which
+	 * case no plans are changed
+	 */
+	public void importWisdom(Reader in) throws IOException {
+		BufferedReader reader = new BufferedReader(in);
+		List<FftPlan> imported = new ArrayList<FftPlan>();
+		int lineNumber = 0;
+		for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+			lineNumber++;
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			try {
+				imported.add(parse(line));
+			}
+			catch (IllegalArgumentException e) {
+				throw new IOException("Malformed wisdom at line " + lineNumber + ": " + line, e);
+			}
+		}
+		synchronized (this) {
+			for (FftPlan plan : imported) {
+				plans.put(key(plan.size(), plan.direction()), plan);
+			}
+		}
+	}
+
+	public void importWisdom(Path path) throws IOException {
+		try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			importWisdom(in);
+		}
+	}
+
+	/**
+	 * @throws IllegalArgumentException on any malformed field
+	 */
+	private FftPlan parse(String line) {
+		String[] fields = line.split("\\s+");
+		if (fields.length != 4) {
+			throw new IllegalArgumentException("Expected 4 fields");
+		}
+		int n = Integer.parseInt(fields[0]);
+		FftPlan.Direction direction = FftPlan.Direction.valueOf(fields[1]);
+		FftKernel kernel = "-".equals(fields[2]) ? null : FftKernel.valueOf(fields[2]);
+		int cutoff = Integer.parseInt(fields[3]);
+		if (cutoff < 0 || (cutoff > 0 && !Fft.isPowerOfTwo(cutoff))) {
+			throw new IllegalArgumentException("Cutoff must be 0 or a power of 2");
+		}
+		if (cutoff > 0 && kernel != null) {
+			throw new IllegalArgumentException("Kernel given for a parallel plan");
+		}
+		if (cutoff > 0) {
+			return new FftPlan(n, direction, null, pool == null ? null : new ParallelFft(pool, cutoff));
+		}
+		if (kernel != null && !Fft.isPowerOfTwo(n)) {
+			throw new IllegalArgumentException("Kernel given for a length that is not a power of 2");
+		}
+		return new FftPlan(n, direction, kernel, null);
+	}
+
+	private List<FftPlan> candidates(int n, FftPlan.Direction direction) {
+		List<FftPlan> result = new ArrayList<FftPlan>();
+		if (n < 4 || !Fft.isPowerOfTwo(n)) {
+			result.add(new FftPlan(n, direction, null, null));
+			return result;
+		}
+		for (FftKernel kernel : FftKernel.values()) {
+			result.add(new FftPlan(n, direction, kernel, null));
+		}
+		if (pool != null) {
+			for (int cutoff : PARALLEL_CUTOFFS) {
+				if (cutoff < n) {
+					result.add(new FftPlan(n, direction, null, new ParallelFft(pool, cutoff)));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static FftPlan fastest(List<FftPlan> candidates) {
+		if (candidates.size() == 1) {
+			return candidates.get(0);
+		}
+		int n = candidates.get(0).size();
+		Random random = new Random(n);
+		double[] inputRe = new double[n];
+		double[] inputIm = new double[n];
+		for (int i = 0; i < n; i++) {
+			inputRe[i] = random.nextDouble() - 0.5;
+			inputIm[i] = random.nextDouble() - 0.5;
+		}
+		double[] re = new double[n];
+		double[] im = new double[n];
+		int runs = Math.max(1, POINTS_PER_TRIAL / n);
+		FftPlan best = null;
+		long bestNanos = Long.MAX_VALUE;
+		for (FftPlan candidate : candidates) {
+			// one untimed trial to warm up, then the best of TRIALS
+			long candidateNanos = Long.MAX_VALUE;
+			for (int trial = 0; trial <= TRIALS; trial++) {
+				long start = System.nanoTime();
+				for (int run = 0; run < runs; run++) {
+					// restored each run so values neither grow nor decay
+					System.arraycopy(inputRe, 0, re, 0, n);
+					System.arraycopy(inputIm, 0, im, 0, n);
+					candidate.execute(re, im);
+				}
+				long nanos = System.nanoTime() - start;
+				if (trial > 0) {
+					candidateNanos = Math.min(candidateNanos, nanos);
+				}
+			}
+			if (candidateNanos < bestNanos) {
+				best = candidate;
+				bestNanos = candidateNanos;
+			}
+		}
+		return best;
+	}
+
+	private static Long key(int n, FftPlan.Direction direction) {
+		return 2L * n + direction.ordinal();
+	}
+}
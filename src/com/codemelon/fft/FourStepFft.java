@@ -0,0 +1,103 @@
+package com.codemelon.fft;
+
+/**
+ * Four-step FFT (Bailey, "FFTs in external or hierarchical memory", 1990)
+ * for power-of-2 lengths too large for the cache. The other kernels make
+ * lg n or lg n / 2 passes over the whole array, and once it no longer fits
+ * in cache each pass streams it from memory again. Here the n points are
+ * viewed as an n2 x n1 row-major matrix, n1 = 2^floor(lg n / 2) and
+ * n2 = n / n1, and with j = j1 + n1 j2 and k = k2 + n2 k1:
+ *
+ * 1. transform each of the n1 columns (length n2);
+ * 2. multiply element (k2, j1) by omega_n^(j1 k2);
+ * 3. transform each of the n2 rows (length n1);
+ * 4. transpose, so that X[k2 + n2 k1] is at k1 n2 + k2.
+ *
+ * Columns are gathered by BatchFft a tile of adjacent columns at a time,
+ * and steps 2 and 3 are done a tile of rows at a time, so every transform
+ * runs on about sqrt(n) points in cache and the data crosses the memory bus
+ * a fixed number of times whatever n. The transpose is Transpose's blocked
+ * one: in place when lg n is even, otherwise through a scratch array of n
+ * points, which is then the only large allocation.
+ *
+ * The twiddles of step 2 are products of two tables of about sqrt(n)
+ * entries, omega_n^(p mod n1) and omega_n^(n1 floor(p / n1)), which stay in
+ * cache where the full table would not, at the cost of one extra rounding.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class FourStepFft {
+
+	private FourStepFft() {
+	}
+
+	/**
+	 * @param re length a power of 2, at least 2
+	 * @param im
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	static void transform(double[] re, double[] im, double sign) {
+		int n = re.length;
+		int lgN1 = Integer.numberOfTrailingZeros(n) / 2;
+		int n1 = 1 << lgN1;
+		int n2 = n / n1;
+		BatchFft.interleaved(n2, n1).transformUnscaled(re, im, sign);
+		// built directly: the full table of n roots would be read at only n1 + n2 entries
+		double[] lowRe = new double[n1];
+		double[] lowIm = new double[n1];
+		for (int i = 0; i < n1; i++) {
+			double angle = 2.0 * Math.PI * i / n;
+			lowRe[i] = Math.cos(angle);
+			lowIm[i] = sign * Math.sin(angle);
+		}
+		double[] highRe = new double[n2];
+		double[] highIm = new double[n2];
+		for (int i = 0; i < n2; i++) {
+			double angle = 2.0 * Math.PI * i / n2;
+			highRe[i] = Math.cos(angle);
+			highIm[i] = sign * Math.sin(angle);
+		}
+		BatchFft rows = BatchFft.contiguous(n1, n2);
+		for (int from = 0; from < n2; from += rows.tile()) {
+			int to = Math.min(from + rows.tile(), n2);
+			for (int k2 = from; k2 < to; k2++) {
+				twiddleRow(re, im, k2, n1, lgN1, lowRe, lowIm, highRe, highIm);
+			}
+			rows.transformUnscaled(re, im, sign, from, to);
+		}
+		if (n1 == n2) {
+			Transpose.transposeSquare(re, n1);
+			Transpose.transposeSquare(im, n1);
+			return;
+		}
+		double[] scratch = new double[n];
+		Transpose.transpose(re, n2, n1, scratch);
+		System.arraycopy(scratch, 0, re, 0, n);
+		Transpose.transpose(im, n2, n1, scratch);
+		System.arraycopy(scratch, 0, im, 0, n);
+	}
+
+	/**
+	 * Step 2 on row k2
+	 */
+	private static void twiddleRow(double[] re, double[] im, int k2, int n1, int lgN1,
+			double[] lowRe, double[] lowIm, double[] highRe, double[] highIm) {
+		int mask = n1 - 1;
+		int row = k2 * n1;
+		for (int j1 = 1; j1 < n1; j1++) {
+			int p = j1 * k2;
+			double lRe = lowRe[p & mask];
+			double lIm = lowIm[p & mask];
+			double hRe = highRe[p >>> lgN1];
+			double hIm = highIm[p >>> lgN1];
+			double wRe = hRe * lRe - hIm * lIm;
+			double wIm = hRe * lIm + hIm * lRe;
+			int i = row + j1;
+			double xRe = re[i];
+			re[i] = wRe * xRe - wIm * im[i];
+			im[i] = wRe * im[i] + wIm * xRe;
+		}
+	}
+}
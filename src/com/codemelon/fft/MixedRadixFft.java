@@ -0,0 +1,158 @@
+package com.codemelon.fft;
+
+/**
+ * Recursive mixed-radix decimation-in-time FFT for lengths whose prime
+ * factors are all at most 7. Generalizes the radix-2 split of CLRS, p. 911:
+ * a length n = p * m input is split into p interleaved subsequences of length
+ * m, each transformed recursively, and the results combined with twiddle
+ * factors and a p-point DFT. Radices 2 and 4 have dedicated butterflies; 3, 5
+ * and 7 use a direct p-point DFT.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class MixedRadixFft {
+
+	private MixedRadixFft() {
+	}
+
+	/**
+	 * Overwrites (re, im) with its transform. Works out of place on a copy of
+	 * the input, so 2n doubles of scratch are allocated.
+	 * @param re
+	 * @param im
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	static void transform(double[] re, double[] im, double sign) {
+		int n = re.length;
+		int[] factors = FftLengths.factor(n);
+		Twiddles twiddles = TwiddleCache.shared().forSize(n);
+		double[] scratch = new double[4 * 7];
+		recurse(re.clone(), im.clone(), 0, 1, re, im, 0, n, factors, 0, twiddles, sign, scratch);
+	}
+
+	/**
+	 * Transforms the n points in[inOffset + j * inStride], 0 <= j < n, into
+	 * out[outOffset + k], 0 <= k < n
+	 */
+	private static void recurse(double[] inRe, double[] inIm, int inOffset, int inStride,
+			double[] outRe, double[] outIm, int outOffset, int n, int[] factors, int factorIndex,
+			Twiddles twiddles, double sign, double[] scratch) {
+		if (n == 1) {
+			outRe[outOffset] = inRe[inOffset];
+			outIm[outOffset] = inIm[inOffset];
+			return;
+		}
+		int p = factors[factorIndex];
+		int m = n / p;
+		for (int r = 0; r < p; r++) {
+			recurse(inRe, inIm, inOffset + r * inStride, inStride * p, outRe, outIm, outOffset + r * m,
+					m, factors, factorIndex + 1, twiddles, sign, scratch);
+		}
+		// omega_n^j is entry j * (N / n) of the size N table
+		int step = twiddles.size() / n;
+		switch (p) {
+		case 2:
+			radix2(outRe, outIm, outOffset, m, twiddles, step, sign);
+			break;
+		case 4:
+			radix4(outRe, outIm, outOffset, m, twiddles, step, sign);
+			break;
+		default:
+			radixP(outRe, outIm, outOffset, p, m, twiddles, step, sign, scratch);
+		}
+	}
+
+	private static void radix2(double[] re, double[] im, int offset, int m, Twiddles twiddles,
+			int step, double sign) {
+		for (int k = 0; k < m; k++) {
+			int u = offset + k;
+			int l = u + m;
+			double omegaRe = twiddles.cos(k * step);
+			double omegaIm = sign * twiddles.sin(k * step);
+			double tRe = omegaRe * re[l] - omegaIm * im[l];
+			double tIm = omegaRe * im[l] + omegaIm * re[l];
+			re[l] = re[u] - tRe;
+			im[l] = im[u] - tIm;
+			re[u] += tRe;
+			im[u] += tIm;
+		}
+	}
+
+	private static void radix4(double[] re, double[] im, int offset, int m, Twiddles twiddles,
+			int step, double sign) {
+		for (int k = 0; k < m; k++) {
+			int i0 = offset + k;
+			int i1 = i0 + m;
+			int i2 = i1 + m;
+			int i3 = i2 + m;
+			double w1Re = twiddles.cos(k * step);
+			double w1Im = sign * twiddles.sin(k * step);
+			double w2Re = twiddles.cos(2 * k * step);
+			double w2Im = sign * twiddles.sin(2 * k * step);
+			double w3Re = twiddles.cos(3 * k * step);
+			double w3Im = sign * twiddles.sin(3 * k * step);
+			double t0Re = re[i0];
+			double t0Im = im[i0];
+			double t1Re = w1Re * re[i1] - w1Im * im[i1];
+			double t1Im = w1Re * im[i1] + w1Im * re[i1];
+			double t2Re = w2Re * re[i2] - w2Im * im[i2];
+			double t2Im = w2Re * im[i2] + w2Im * re[i2];
+			double t3Re = w3Re * re[i3] - w3Im * im[i3];
+			double t3Im = w3Re * im[i3] + w3Im * re[i3];
+			double aRe = t0Re + t2Re;
+			double aIm = t0Im + t2Im;
+			double bRe = t0Re - t2Re;
+			double bIm = t0Im - t2Im;
+			double cRe = t1Re + t3Re;
+			double cIm = t1Im + t3Im;
+			// (t1 - t3) times omega_4 = sign * i
+			double dRe = -sign * (t1Im - t3Im);
+			double dIm = sign * (t1Re - t3Re);
+			re[i0] = aRe + cRe;
+			im[i0] = aIm + cIm;
+			re[i1] = bRe + dRe;
+			im[i1] = bIm + dIm;
+			re[i2] = aRe - cRe;
+			im[i2] = aIm - cIm;
+			re[i3] = bRe - dRe;
+			im[i3] = bIm - dIm;
+		}
+	}
+
+	/**
+	 * Direct p-point DFT after the twiddle multiply. scratch holds 4p doubles.
+	 */
+	private static void radixP(double[] re, double[] im, int offset, int p, int m,
+			Twiddles twiddles, int step, double sign, double[] scratch) {
+		// omega_p^j is entry j * (N / p) of the size N table
+		int rootStep = twiddles.size() / p;
+		for (int k = 0; k < m; k++) {
+			for (int r = 0; r < p; r++) {
+				int index = offset + r * m + k;
+				double omegaRe = twiddles.cos(r * k * step);
+				double omegaIm = sign * twiddles.sin(r * k * step);
+				scratch[r] = omegaRe * re[index] - omegaIm * im[index];
+				scratch[p + r] = omegaRe * im[index] + omegaIm * re[index];
+			}
+			for (int q = 0; q < p; q++) {
+				double sumRe = 0.0;
+				double sumIm = 0.0;
+				for (int r = 0; r < p; r++) {
+					int j = (r * q) % p;
+					double rootRe = twiddles.cos(j * rootStep);
+					double rootIm = sign * twiddles.sin(j * rootStep);
+					sumRe += rootRe * scratch[r] - rootIm * scratch[p + r];
+					sumIm += rootRe * scratch[p + r] + rootIm * scratch[r];
+				}
+				scratch[2 * p + q] = sumRe;
+				scratch[3 * p + q] = sumIm;
+			}
+			for (int q = 0; q < p; q++) {
+				re[offset + q * m + k] = scratch[2 * p + q];
+				im[offset + q * m + k] = scratch[3 * p + q];
+			}
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.codemelon.fft;
+
+import com.codemelon.math.VectorKernels;
+
+/**
+ * Number theoretic transform: the DFT over the integers mod a prime p, on
+ * int[] residues in [0, p). With omega a primitive n-th root of unity mod p
+ * the forward transform of a is A_k = sum over j of a_j omega^(jk) and the
+ * inverse includes the 1/n scaling, so inverse(forward(a)) = a exactly and
+ * the pointwise product of two transforms is the transform of the cyclic
+ * convolution mod p. Convolving integers through several primes and
+ * recombining the residues by the Chinese remainder theorem gives exact
+ * products where the double FFT only approximates them.
+ *
+ * The primes, PRIME_COUNT of them, are c 2^25 + 1 below 2^31, so every
+ * power-of-2 length up to MAX_LENGTH has a root of unity. Multiplication is
+ * Montgomery's, with R = 2^32: 64-bit products and no division. Data stay
+ * in ordinary form and the roots are held times R, so multiplying by a root
+ * costs one Montgomery reduction; multiply corrects for its R^-1 with a
+ * second one. The butterflies are radix-2 (CLRS, p. 917, over Z/pZ), run
+ * depth first above BLOCK points so that most passes work in cache, and
+ * vectorized when VectorKernels finds NttButterflies in the simd module.
+ *
+ * An Ntt may be shared between threads.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class Ntt {
+	/**
+	 * Longest transform, the largest power of 2 dividing p - 1 for every
+	 * prime
+	 */
+	public static final int MAX_LENGTH = 1 << 25;
+	/**
+	 * Largest first: c 2^25 + 1 for c = 63, 60, 54, 51, 33, 14
+	 */
+	private static final int[] PRIMES = { 2113929217, 2013265921, 1811939329, 1711276033, 1107296257, 469762049 };
+	private static final int[] GENERATORS = { 5, 31, 13, 29, 10, 3 };
+	public static final int PRIME_COUNT = PRIMES.length;
+	/**
+	 * Transforms of at most this many points run pass by pass; longer ones
+	 * split in half first. 32 Ki residues, 128 KiB.
+	 */
+	static final int BLOCK = 1 << 15;
+	/**
+	 * The root table grows to the longest transform run, up to this length;
+	 * longer transforms build their own
+	 */
+	static final int CACHED_LENGTH = 1 << 20;
+
+	/**
+	 * Butterfly passes, vector if available
+	 */
+	static final NttButterflies BUTTERFLIES = VectorKernels.load(NttButterflies.class, NttButterflies.SCALAR);
+	private static final Ntt[] INSTANCES = new Ntt[PRIME_COUNT];
+	static {
+		for (int i = 0; i < PRIME_COUNT; i++) {
+			INSTANCES[i] = new Ntt(PRIMES[i], GENERATORS[i]);
+		}
+	}
+
+	private final int p;
+	private final int generator;
+	// -p^-1 mod 2^32
+	private final int pInvNeg;
+	// R^2 mod p, to bring a value into Montgomery form
+	private final int r2;
+	// roots(m) for the longest m so far, at most CACHED_LENGTH
+	private volatile int[] cachedRoots = new int[0];
+
+	private Ntt(int p, int generator) {
+		this.p = p;
+		this.generator = generator;
+		int inverse = p;
+		// Newton's iteration doubles the correct low bits each time: 3, 6, ..., 48
+		for (int i = 0; i < 4; i++) {
+			inverse *= 2 - p * inverse;
+		}
+		this.pInvNeg = -inverse;
+		long r = (1L << 32) % p;
+		this.r2 = (int) (r * r % p);
+	}
+
+	/**
+	 * @param i from 0 to PRIME_COUNT - 1, the primes running from largest to
+	 * smallest
+	 * @return the transform mod the i-th prime
+	 */
+	public static Ntt forPrime(int i) {
+		if (i < 0 || i >= PRIME_COUNT) {
+			throw new IllegalArgumentException("Prime index out of range: " + i);
+		}
+		return INSTANCES[i];
+	}
+
+	public int modulus() {
+		return p;
+	}
+
+	/**
+	 * @param x any long
+	 * @return x mod p in [0, p)
+	 */
+	public int residue(long x) {
+		long result = x % p;
+		return (int) (result < 0 ? result + p : result);
+	}
+
+	/**
+	 * @param a residues mod p, length a power of 2 up to MAX_LENGTH
+	 */
+	public void forward(int[] a) {
+		transform(a);
+	}
+
+	/**
+	 * Inverse transform, including the 1/n scaling
+	 * @param a residues mod p, length a power of 2 up to MAX_LENGTH
+	 */
+	public void inverse(int[] a) {
+		int n = a.length;
+		transform(a);
+		// running the forward transform on the inverse's input gives its output at -k
+		for (int i = 1, j = n - 1; i < j; i++, j--) {
+			int tmp = a[i];
+			a[i] = a[j];
+			a[j] = tmp;
+		}
+		int scale = toMontgomery(power(n, p - 2));
+		for (int i = 0; i < n; i++) {
+			a[i] = multiplyMontgomery(a[i], scale);
+		}
+	}
+
+	/**
+	 * Pointwise product mod p: a[i] = a[i] b[i], for i < a.length
+	 * @param a
+	 * @param b at least as long as a
+	 */
+	public void multiply(int[] a, int[] b) {
+		for (int i = 0; i < a.length; i++) {
+			a[i] = multiplyMontgomery(multiplyMontgomery(a[i], b[i]), r2);
+		}
+	}
+
+	private void transform(int[] a) {
+		int n = a.length;
+		if (!Fft.isPowerOfTwo(n) || n > MAX_LENGTH) {
+			throw new IllegalArgumentException("Length must be a power of 2 up to " + MAX_LENGTH + ": " + n);
+		}
+		if (n == 1) {
+			return;
+		}
+		bitReversePermute(a);
+		transform(a, 0, n, rootsFor(n));
+	}
+
+	private int[] rootsFor(int n) {
+		int[] roots = cachedRoots;
+		if (roots.length >= n - 1) {
+			return roots;
+		}
+		roots = roots(n);
+		if (n <= CACHED_LENGTH) {
+			// racing threads build the same table
+			cachedRoots = roots;
+		}
+		return roots;
+	}
+
+	/**
+	 * Decimation in time on a[from, from + n), which is in bit-reversed
+	 * order: the two halves, then the pass that combines them
+	 * @param roots in roots(m) layout for some m >= n
+	 */
+	private void transform(int[] a, int from, int n, int[] roots) {
+		if (n > BLOCK) {
+			int half = n >>> 1;
+			transform(a, from, half, roots);
+			transform(a, from + half, half, roots);
+			BUTTERFLIES.radix2(a, from, from + n, half, roots, half - 1, p, pInvNeg);
+			return;
+		}
+		for (int half = 1; half < n; half <<= 1) {
+			BUTTERFLIES.radix2(a, from, from + n, half, roots, half - 1, p, pInvNeg);
+		}
+	}
+
+	/**
+	 * Entry half - 1 + j, j < half, is omega_(2 half)^j R mod p, for each
+	 * power of 2 half < n: the roots of every pass of a transform of n points
+	 * in the order its butterflies read them, which is also a prefix of the
+	 * table for any longer transform
+	 */
+	private int[] roots(int n) {
+		int[] result = new int[n - 1];
+		for (int half = 1; half < n; half <<= 1) {
+			int step = toMontgomery(power(generator, (p - 1) / (2 * half)));
+			int w = toMontgomery(1);
+			for (int j = 0; j < half; j++) {
+				result[half - 1 + j] = w;
+				w = multiplyMontgomery(w, step);
+			}
+		}
+		return result;
+	}
+
+	private int multiplyMontgomery(int a, int b) {
+		return multiplyMontgomery(a, b, p, pInvNeg);
+	}
+
+	/**
+	 * @param a in [0, p)
+	 * @param b in [0, p)
+	 * @param p odd, below 2^31
+	 * @param pInvNeg -p^-1 mod 2^32
+	 * @return a b R^-1 mod p, in [0, p)
+	 */
+	static int multiplyMontgomery(int a, int b, int p, int pInvNeg) {
+		long t = (long) a * b;
+		// t + m p is divisible by 2^32; both terms are below 2^63, so their sum fits unsigned
+		long m = (int) t * pInvNeg & 0xffffffffL;
+		// the quotient is below 2 p, so subtracting p leaves it in int range
+		int u = (int) (t + m * p >>> 32) - p;
+		return u + (u >> 31 & p);
+	}
+
+	private int toMontgomery(int a) {
+		return multiplyMontgomery(a, r2);
+	}
+
+	private int power(long base, int exponent) {
+		long result = 1;
+		base %= p;
+		while (exponent > 0) {
+			if ((exponent & 1) != 0) {
+				result = result * base % p;
+			}
+			base = base * base % p;
+			exponent >>= 1;
+		}
+		return (int) result;
+	}
+
+	/**
+	 * As Fft.bitReversePermute
+	 */
+	private static void bitReversePermute(int[] a) {
+		int n = a.length;
+		for (int i = 1, j = 0; i < n; i++) {
+			int bit = n >> 1;
+			while ((j & bit) != 0) {
+				j ^= bit;
+				bit >>= 1;
+			}
+			j ^= bit;
+			if (i < j) {
+				int tmp = a[i];
+				a[i] = a[j];
+				a[j] = tmp;
+			}
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.codemelon.fft;
+
+/**
+ * Inner loop of Ntt: one radix-2 pass of butterflies mod a prime p below
+ * 2^31 over residues already in bit-reversed order, multiplying by the roots
+ * with Montgomery's reduction (R = 2^32). The arithmetic is exact, so every
+ * implementation gives the same residues.
+ *
+ * The implementation in use is found by VectorKernels; see Ntt.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public interface NttButterflies {
+	/**
+	 * Plain Java loops, always available
+	 */
+	NttButterflies SCALAR = new ScalarNttButterflies();
+
+	/**
+	 * Joins every pair of adjacent blocks of length half in [from, to):
+	 * with u = k + j and l = u + half, t = w_j a[l] mod p, a[l] = a[u] - t and
+	 * a[u] = a[u] + t mod p, where w_j R mod p = roots[rootOffset + j]
+	 * @param a residues in [0, p)
+	 * @param from start of the first block
+	 * @param to end of the last block, from plus a multiple of 2 half
+	 * @param half
+	 * @param roots Montgomery forms of the roots, in [0, p)
+	 * @param rootOffset
+	 * @param p odd prime below 2^31
+	 * @param pInvNeg -p^-1 mod 2^32
+	 */
+	void radix2(int[] a, int from, int to, int half, int[] roots, int rootOffset, int p, int pInvNeg);
+}
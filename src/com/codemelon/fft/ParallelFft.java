@@ -0,0 +1,259 @@
+package com.codemelon.fft;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join radix-2 FFT for large power-of-2 lengths. After a parallel
+ * bit-reversal permutation, the recursive structure of CLRS, p. 911 is run
+ * top-down: the two halves of a block are transformed as independent tasks
+ * and then joined by one pass of butterflies, itself split into tasks. The
+ * last of these passes also applies the 1/n scaling of the inverse.
+ * Blocks no longer than the sequential cutoff are finished by a single task
+ * with the radix-4 passes of Fft.BUTTERFLIES, reading the stage table of the
+ * cutoff length, which is small enough to stay in the TwiddleCache. Lengths
+ * up to the cutoff, and lengths that are not powers of 2, are handed to Fft
+ * unchanged.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class ParallelFft implements ComplexTransform {
+	/**
+	 * 2^14 points: 256 KiB of data, small enough to stay in a core's L2
+	 */
+	public static final int DEFAULT_CUTOFF = 1 << 14;
+
+	private final ForkJoinPool pool;
+	private final int cutoff;
+
+	public ParallelFft(ForkJoinPool pool) {
+		this(pool, DEFAULT_CUTOFF);
+	}
+
+	/**
+	 * @param pool
+	 * @param cutoff block length at or below which work is done by a single
+	 * task, a power of 2 and at least 2
+	 */
+	public ParallelFft(ForkJoinPool pool, int cutoff) {
+		if (pool == null) {
+			throw new NullPointerException("Pool cannot be null");
+		}
+		if (cutoff < 2 || !Fft.isPowerOfTwo(cutoff)) {
+			throw new IllegalArgumentException("Cutoff must be a power of 2 and at least 2");
+		}
+		this.pool = pool;
+		this.cutoff = cutoff;
+	}
+
+	public int cutoff() {
+		return cutoff;
+	}
+
+	@Override
+	public void forward(double[] re, double[] im) {
+		if (!transform(re, im, 1.0)) {
+			Fft.forward(re, im);
+		}
+	}
+
+	@Override
+	public void inverse(double[] re, double[] im) {
+		if (!transform(re, im, -1.0)) {
+			Fft.inverse(re, im);
+		}
+	}
+
+	/**
+	 * Only powers of 2 are split across tasks, so above the cutoff this is
+	 * the next power of 2
+	 */
+	@Override
+	public int transformLength(int minLength) {
+		if (minLength <= cutoff) {
+			return FftLengths.transformLength(minLength);
+		}
+		return Fft.nextPowerOfTwo(minLength);
+	}
+
+	/**
+	 * @return false if the length should be left to Fft
+	 */
+	private boolean transform(double[] re, double[] im, double sign) {
+		Fft.validate(re, im);
+		int n = re.length;
+		if (n <= cutoff || !Fft.isPowerOfTwo(n)) {
+			return false;
+		}
+		Job job = new Job(re, im, sign);
+		// the leaves' stage table, built before they start so that they do not
+		// all compute it
+		TwiddleCache.shared().stages(cutoff, StageTwiddles.RADIX_4);
+		pool.invoke(job.new BitReverse(0, n));
+		pool.invoke(job.new Block(0, n));
+		return true;
+	}
+
+	/**
+	 * State shared by all tasks of one transform
+	 */
+	private final class Job {
+		private final double[] re;
+		private final double[] im;
+		private final int n;
+		private final int lgLow;
+		// omega_n^i for i < 2^lgLow and omega_n^(2^lgLow i) for i < n / 2^(lgLow + 1):
+		// about sqrt(n) roots in all, rather than a table of n / 2
+		private final double[] lowRe;
+		private final double[] lowIm;
+		private final double[] highRe;
+		private final double[] highIm;
+		private final double sign;
+		// applied by the last combine pass: 1 / n for the inverse
+		private final double scale;
+
+		private Job(double[] re, double[] im, double sign) {
+			this.re = re;
+			this.im = im;
+			this.n = re.length;
+			this.lgLow = Integer.numberOfTrailingZeros(n) / 2;
+			int lowLength = 1 << lgLow;
+			this.lowRe = new double[lowLength];
+			this.lowIm = new double[lowLength];
+			for (int i = 0; i < lowLength; i++) {
+				double angle = 2.0 * Math.PI * i / n;
+				lowRe[i] = Math.cos(angle);
+				lowIm[i] = sign * Math.sin(angle);
+			}
+			int highLength = Math.max(1, n >> (lgLow + 1));
+			this.highRe = new double[highLength];
+			this.highIm = new double[highLength];
+			for (int i = 0; i < highLength; i++) {
+				double angle = 2.0 * Math.PI * i / (n >> lgLow);
+				highRe[i] = Math.cos(angle);
+				highIm[i] = sign * Math.sin(angle);
+			}
+			this.sign = sign;
+			this.scale = sign < 0.0 ? 1.0 / n : 1.0;
+		}
+
+		/**
+		 * Swaps each index in [from, to) with its bit reversal. Every pair is
+		 * swapped by exactly one task, from its smaller index.
+		 */
+		private final class BitReverse extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			private final int from;
+			private final int to;
+
+			private BitReverse(int from, int to) {
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				if (to - from > cutoff) {
+					int middle = (from + to) >>> 1;
+					invokeAll(new BitReverse(from, middle), new BitReverse(middle, to));
+					return;
+				}
+				int shift = Integer.numberOfLeadingZeros(n) + 1;
+				for (int i = from; i < to; i++) {
+					int j = Integer.reverse(i) >>> shift;
+					if (i < j) {
+						double tmp = re[i];
+						re[i] = re[j];
+						re[j] = tmp;
+						tmp = im[i];
+						im[i] = im[j];
+						im[j] = tmp;
+					}
+				}
+			}
+		}
+
+		/**
+		 * Transforms the bit-reversed block [offset, offset + length)
+		 */
+		private final class Block extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			private final int offset;
+			private final int length;
+
+			private Block(int offset, int length) {
+				this.offset = offset;
+				this.length = length;
+			}
+
+			@Override
+			protected void compute() {
+				if (length <= cutoff) {
+					Radix4Fft.blocks(re, im, offset, offset + length, length, sign);
+					return;
+				}
+				int half = length >> 1;
+				invokeAll(new Block(offset, half), new Block(offset + half, half));
+				new Combine(offset, length, 0, half).compute();
+			}
+		}
+
+		/**
+		 * Butterflies j in [from, to) joining the two halves of the block at
+		 * offset of the given length
+		 */
+		private final class Combine extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			private final int offset;
+			private final int length;
+			private final int from;
+			private final int to;
+
+			private Combine(int offset, int length, int from, int to) {
+				this.offset = offset;
+				this.length = length;
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				if (to - from > cutoff) {
+					int middle = (from + to) >>> 1;
+					invokeAll(new Combine(offset, length, from, middle),
+							new Combine(offset, length, middle, to));
+					return;
+				}
+				butterflies(offset, length, from, to);
+			}
+		}
+
+		/**
+		 * Radix-2 butterflies j in [from, to) of the size m block at offset;
+		 * the pass over the whole array also scales its outputs
+		 */
+		private void butterflies(int offset, int m, int from, int to) {
+			int half = m >> 1;
+			int step = n / m;
+			double s = m == n ? scale : 1.0;
+			int lowMask = (1 << lgLow) - 1;
+			for (int j = from; j < to; j++) {
+				// omega_m^j = omega_n^(j step), split into its low and high bits
+				int low = (j * step) & lowMask;
+				int high = (j * step) >>> lgLow;
+				double omegaRe = highRe[high] * lowRe[low] - highIm[high] * lowIm[low];
+				double omegaIm = highRe[high] * lowIm[low] + highIm[high] * lowRe[low];
+				int u = offset + j;
+				int l = u + half;
+				double tRe = omegaRe * re[l] - omegaIm * im[l];
+				double tIm = omegaRe * im[l] + omegaIm * re[l];
+				re[l] = s * (re[u] - tRe);
+				im[l] = s * (im[u] - tIm);
+				re[u] = s * (re[u] + tRe);
+				im[u] = s * (im[u] + tIm);
+			}
+		}
+	}
+}
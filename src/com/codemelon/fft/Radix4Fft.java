@@ -0,0 +1,63 @@
+package com.codemelon.fft;
+
+/**
+ * Iterative in-place radix-4 FFT for power-of-2 lengths. After the same
+ * bit-reversal permutation as the radix-2 transform, each pass combines four
+ * blocks of size q into one of size 4q, so there are half as many passes over
+ * the data and 3 rather than 4 twiddle multiplies per 4 points. When lg n is
+ * odd a single twiddle-free radix-2 pass runs first. The radix-4 passes are
+ * Fft.BUTTERFLIES.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class Radix4Fft {
+
+	private Radix4Fft() {
+	}
+
+	/**
+	 * @param re length a power of 2, at least 2
+	 * @param im
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	static void transform(double[] re, double[] im, double sign) {
+		Fft.bitReversePermute(re, im);
+		blocks(re, im, 0, re.length, re.length, sign);
+	}
+
+	/**
+	 * Transforms each block of the given length in [from, to), every block
+	 * already in bit-reversed order
+	 * @param length a power of 2, at least 2
+	 * @param to from plus a multiple of length
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	static void blocks(double[] re, double[] im, int from, int to, int length, double sign) {
+		int q = StageTwiddles.firstQuarter(length);
+		if (q == 2) {
+			radix2Pass(re, im, from, to);
+		}
+		StageTwiddles stages = TwiddleCache.shared().stages(length, StageTwiddles.RADIX_4);
+		double[] wRe = stages.re();
+		double[] wIm = stages.im();
+		for (int offset = 0; q < length; offset += 3 * q, q *= 4) {
+			Fft.BUTTERFLIES.radix4(re, im, from, to, q, wRe, wIm, offset, sign);
+		}
+	}
+
+	/**
+	 * The twiddle-free radix-2 pass over pairs in [from, to)
+	 */
+	static void radix2Pass(double[] re, double[] im, int from, int to) {
+		for (int k = from; k < to; k += 2) {
+			double tRe = re[k + 1];
+			double tIm = im[k + 1];
+			re[k + 1] = re[k] - tRe;
+			im[k + 1] = im[k] - tIm;
+			re[k] += tRe;
+			im[k] += tIm;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.codemelon.fft;
+
+/**
+ * FFT of real input of even length n via a single complex transform of
+ * length n / 2. The even and odd samples are packed as the real and
+ * imaginary parts of the half-length input, and the two half-length spectra
+ * are separated afterwards using Hermitian symmetry.
+ *
+ * Spectra use a packed layout of two arrays of length n / 2: for
+ * 0 < k < n / 2, bin k is (re[k], im[k]); the purely real bins 0 and n / 2
+ * are stored in re[0] and im[0] respectively. Bins above n / 2 are the
+ * conjugates of those below it and are not stored.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class RealFft {
+
+	private RealFft() {
+	}
+
+	/**
+	 * Packed forward transform. Nothing is allocated.
+	 * @param x real input, length n even and at least 2
+	 * @param re receives the packed real parts, length n / 2
+	 * @param im receives the packed imaginary parts, length n / 2
+	 */
+	public static void forward(double[] x, double[] re, double[] im) {
+		forward(x, re, im, Fft.sequential());
+	}
+
+	/**
+	 * As forward(x, re, im), running the half-length complex transform on the
+	 * given engine
+	 */
+	public static void forward(double[] x, double[] re, double[] im, ComplexTransform transform) {
+		int h = validate(x, re, im);
+		for (int m = 0; m < h; m++) {
+			re[m] = x[2 * m];
+			im[m] = x[2 * m + 1];
+		}
+		transform.forward(re, im);
+		double z0Re = re[0];
+		re[0] = z0Re + im[0];
+		im[0] = z0Re - im[0];
+		// only omega_n^k for k < h / 2 is read: at h / 2, omega_n^k = i and
+		// X[k] = Z[k]
+		Twiddles twiddles = TwiddleCache.shared().quarterWave(2 * h);
+		for (int k = 1; 2 * k < h; k++) {
+			int j = h - k;
+			// E = even-sample spectrum, O = odd-sample spectrum at bin k
+			double eRe = 0.5 * (re[k] + re[j]);
+			double eIm = 0.5 * (im[k] - im[j]);
+			double oRe = 0.5 * (im[k] + im[j]);
+			double oIm = -0.5 * (re[k] - re[j]);
+			double omegaRe = twiddles.cos(k);
+			double omegaIm = twiddles.sin(k);
+			double tRe = omegaRe * oRe - omegaIm * oIm;
+			double tIm = omegaRe * oIm + omegaIm * oRe;
+			re[k] = eRe + tRe;
+			im[k] = eIm + tIm;
+			re[j] = eRe - tRe;
+			im[j] = tIm - eIm;
+		}
+	}
+
+	/**
+	 * Packed inverse transform, including the 1/n scaling. The spectrum
+	 * arrays are used as workspace and overwritten. Nothing is allocated.
+	 * @param re packed real parts, length n / 2
+	 * @param im packed imaginary parts, length n / 2
+	 * @param x receives the real output, length n
+	 */
+	public static void inverse(double[] re, double[] im, double[] x) {
+		inverse(re, im, x, Fft.sequential());
+	}
+
+	/**
+	 * As inverse(re, im, x), running the half-length complex transform on the
+	 * given engine
+	 */
+	public static void inverse(double[] re, double[] im, double[] x, ComplexTransform transform) {
+		int h = validate(x, re, im);
+		double x0 = re[0];
+		re[0] = 0.5 * (x0 + im[0]);
+		im[0] = 0.5 * (x0 - im[0]);
+		Twiddles twiddles = TwiddleCache.shared().quarterWave(2 * h);
+		for (int k = 1; 2 * k < h; k++) {
+			int j = h - k;
+			double eRe = 0.5 * (re[k] + re[j]);
+			double eIm = 0.5 * (im[k] - im[j]);
+			double dRe = 0.5 * (re[k] - re[j]);
+			double dIm = 0.5 * (im[k] + im[j]);
+			// O = (X[k] - conj(X[h - k])) * conj(omega_n^k) / 2
+			double omegaRe = twiddles.cos(k);
+			double omegaIm = twiddles.sin(k);
+			double oRe = dRe * omegaRe + dIm * omegaIm;
+			double oIm = dIm * omegaRe - dRe * omegaIm;
+			// Z[k] = E + iO, Z[h - k] = conj(E) + i conj(O)
+			re[k] = eRe - oIm;
+			im[k] = eIm + oRe;
+			re[j] = eRe + oIm;
+			im[j] = oRe - eIm;
+		}
+		transform.inverse(re, im);
+		for (int m = 0; m < h; m++) {
+			x[2 * m] = re[m];
+			x[2 * m + 1] = im[m];
+		}
+	}
+
+	/**
+	 * Pointwise product of two packed spectra, stored in the first
+	 * @param re1
+	 * @param im1
+	 * @param re2
+	 * @param im2
+	 */
+	public static void multiply(double[] re1, double[] im1, double[] re2, double[] im2) {
+		re1[0] *= re2[0];
+		im1[0] *= im2[0];
+		for (int k = 1; k < re1.length; k++) {
+			double productRe = re1[k] * re2[k] - im1[k] * im2[k];
+			im1[k] = re1[k] * im2[k] + im1[k] * re2[k];
+			re1[k] = productRe;
+		}
+	}
+
+	private static int validate(double[] x, double[] re, double[] im) {
+		int n = x.length;
+		if (n < 2 || n % 2 != 0) {
+			throw new IllegalArgumentException("Real transform size must be even and at least 2");
+		}
+		if (re.length != n / 2 || im.length != n / 2) {
+			throw new IllegalArgumentException("Packed spectrum must have length n / 2");
+		}
+		return n / 2;
+	}
+}
@@ -0,0 +1,77 @@
+package com.codemelon.fft;
+
+/**
+ * FftButterflies.SCALAR
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class ScalarFftButterflies implements FftButterflies {
+
+	@Override
+	public void radix2(double[] re, double[] im, int from, int to, int half, 
+			double[] wRe, double[] wIm, int wOffset, double sign) {
+		int m = half << 1;
+		for (int k = from; k < to; k += m) {
+			for (int j = 0; j < half; j++) {
+				double omegaRe = wRe[wOffset + j];
+				double omegaIm = sign * wIm[wOffset + j];
+				int u = k + j;
+				int l = u + half;
+				double tRe = omegaRe * re[l] - omegaIm * im[l];
+				double tIm = omegaRe * im[l] + omegaIm * re[l];
+				re[l] = re[u] - tRe;
+				im[l] = im[u] - tIm;
+				re[u] += tRe;
+				im[u] += tIm;
+			}
+		}
+	}
+
+	@Override
+	public void radix4(double[] re, double[] im, int from, int to, int q, 
+			double[] wRe, double[] wIm, int wOffset, double sign) {
+		int m = 4 * q;
+		for (int base = from; base < to; base += m) {
+			for (int k = 0; k < q; k++) {
+				int i0 = base + k;
+				int i1 = i0 + q;
+				int i2 = i1 + q;
+				int i3 = i2 + q;
+				// after bit reversal the blocks at offsets q and 2q hold residues 2 and 1
+				double w1Re = wRe[wOffset + k];
+				double w1Im = sign * wIm[wOffset + k];
+				double w2Re = wRe[wOffset + q + k];
+				double w2Im = sign * wIm[wOffset + q + k];
+				double w3Re = wRe[wOffset + 2 * q + k];
+				double w3Im = sign * wIm[wOffset + 2 * q + k];
+				double t0Re = re[i0];
+				double t0Im = im[i0];
+				double t2Re = w2Re * re[i1] - w2Im * im[i1];
+				double t2Im = w2Re * im[i1] + w2Im * re[i1];
+				double t1Re = w1Re * re[i2] - w1Im * im[i2];
+				double t1Im = w1Re * im[i2] + w1Im * re[i2];
+				double t3Re = w3Re * re[i3] - w3Im * im[i3];
+				double t3Im = w3Re * im[i3] + w3Im * re[i3];
+				double aRe = t0Re + t2Re;
+				double aIm = t0Im + t2Im;
+				double bRe = t0Re - t2Re;
+				double bIm = t0Im - t2Im;
+				double cRe = t1Re + t3Re;
+				double cIm = t1Im + t3Im;
+				// (t1 - t3) times omega_4 = sign * i
+				double dRe = -sign * (t1Im - t3Im);
+				double dIm = sign * (t1Re - t3Re);
+				re[i0] = aRe + cRe;
+				im[i0] = aIm + cIm;
+				re[i1] = bRe + dRe;
+				im[i1] = bIm + dIm;
+				re[i2] = aRe - cRe;
+				im[i2] = aIm - cIm;
+				re[i3] = bRe - dRe;
+				im[i3] = bIm - dIm;
+			}
+		}
+	}
+}
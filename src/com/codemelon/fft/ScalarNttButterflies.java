@@ -0,0 +1,28 @@
+package com.codemelon.fft;
+
+/**
+ * NttButterflies.SCALAR
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class ScalarNttButterflies implements NttButterflies {
+
+	@Override
+	public void radix2(int[] a, int from, int to, int half, int[] roots, int rootOffset, int p, int pInvNeg) {
+		int m = half << 1;
+		for (int k = from; k < to; k += m) {
+			for (int j = 0; j < half; j++) {
+				int u = k + j;
+				int l = u + half;
+				int x = a[u];
+				int t = Ntt.multiplyMontgomery(a[l], roots[rootOffset + j], p, pInvNeg);
+				int sum = x - p + t;
+				a[u] = sum + (sum >> 31 & p);
+				int difference = x - t;
+				a[l] = difference + (difference >> 31 & p);
+			}
+		}
+	}
+}
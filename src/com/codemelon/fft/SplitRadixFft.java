@@ -0,0 +1,88 @@
+package com.codemelon.fft;
+
+/**
+ * In-place split-radix FFT for power-of-2 lengths: a length n transform is
+ * the length n / 2 transform of the even samples combined with two length
+ * n / 4 transforms of the samples at 4m + 1 and 4m + 3. This has the lowest
+ * operation count of the power-of-2 algorithms. After the bit-reversal
+ * permutation the three subsequences occupy the contiguous ranges
+ * [0, n / 2), [n / 2, 3n / 4) and [3n / 4, n) in bit-reversed order, so the
+ * recursion works in place and allocates nothing.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class SplitRadixFft {
+
+	private SplitRadixFft() {
+	}
+
+	/**
+	 * @param re length a power of 2, at least 2
+	 * @param im
+	 * @param sign 1.0 for the forward transform, -1.0 for the inverse
+	 */
+	static void transform(double[] re, double[] im, double sign) {
+		Fft.bitReversePermute(re, im);
+		Twiddles twiddles = TwiddleCache.shared().forSize(re.length);
+		recurse(re, im, 0, re.length, twiddles.cosTable(), twiddles.sinTable(), twiddles.stride(), sign);
+	}
+
+	/**
+	 * Transforms the block [offset, offset + n), given in bit-reversed order
+	 * @param tableStride distance between consecutive roots of the top-level
+	 * size in the twiddle table
+	 */
+	private static void recurse(double[] re, double[] im, int offset, int n, double[] cos,
+			double[] sin, int tableStride, double sign) {
+		if (n == 1) {
+			return;
+		}
+		if (n == 2) {
+			int l = offset + 1;
+			double tRe = re[l];
+			double tIm = im[l];
+			re[l] = re[offset] - tRe;
+			im[l] = im[offset] - tIm;
+			re[offset] += tRe;
+			im[offset] += tIm;
+			return;
+		}
+		int quarter = n / 4;
+		recurse(re, im, offset, 2 * quarter, cos, sin, 2 * tableStride, sign);
+		recurse(re, im, offset + 2 * quarter, quarter, cos, sin, 4 * tableStride, sign);
+		recurse(re, im, offset + 3 * quarter, quarter, cos, sin, 4 * tableStride, sign);
+		for (int k = 0; k < quarter; k++) {
+			int i0 = offset + k;
+			int i1 = i0 + quarter;
+			int i2 = i1 + quarter;
+			int i3 = i2 + quarter;
+			double w1Re = cos[k * tableStride];
+			double w1Im = sign * sin[k * tableStride];
+			double w3Re = cos[3 * k * tableStride];
+			double w3Im = sign * sin[3 * k * tableStride];
+			double zRe = w1Re * re[i2] - w1Im * im[i2];
+			double zIm = w1Re * im[i2] + w1Im * re[i2];
+			double z3Re = w3Re * re[i3] - w3Im * im[i3];
+			double z3Im = w3Re * im[i3] + w3Im * re[i3];
+			double sumRe = zRe + z3Re;
+			double sumIm = zIm + z3Im;
+			// (z - z3) times omega_4 = sign * i
+			double dRe = -sign * (zIm - z3Im);
+			double dIm = sign * (zRe - z3Re);
+			double uRe = re[i0];
+			double uIm = im[i0];
+			double u1Re = re[i1];
+			double u1Im = im[i1];
+			re[i0] = uRe + sumRe;
+			im[i0] = uIm + sumIm;
+			re[i2] = uRe - sumRe;
+			im[i2] = uIm - sumIm;
+			re[i1] = u1Re + dRe;
+			im[i1] = u1Im + dIm;
+			re[i3] = u1Re - dRe;
+			im[i3] = u1Im - dIm;
+		}
+	}
+}
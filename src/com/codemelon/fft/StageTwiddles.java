@@ -0,0 +1,89 @@
+package com.codemelon.fft;
+
+/**
+ * The roots of unity of a power-of-2 length n rearranged in the order the
+ * passes of an iterative kernel read them, so that every pass reads its
+ * twiddle factors contiguously (which is what lets FftButterflies load them
+ * a vector at a time). Entries are copied from the shared table, so the
+ * values are exactly those of Twiddles.
+ *
+ * RADIX_2 layout: the pass joining blocks of half-length h reads
+ * omega_(2h)^j, 0 <= j < h, at h - 1 + j; n - 1 entries in all.
+ *
+ * RADIX_4 layout: the pass combining four blocks of length q reads
+ * omega_(4q)^k, omega_(4q)^(2k) and omega_(4q)^(3k), 0 <= k < q, at
+ * q - q0 + k, plus q and plus 2q, where q0 = firstQuarter(n) is the block
+ * length of the first radix-4 pass; n - q0 entries in all.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class StageTwiddles {
+	static final int RADIX_2 = 2;
+	static final int RADIX_4 = 4;
+
+	private final double[] re;
+	private final double[] im;
+
+	private StageTwiddles(double[] re, double[] im) {
+		this.re = re;
+		this.im = im;
+	}
+
+	/**
+	 * @param twiddles roots of unity of a power-of-2 size
+	 * @param radix RADIX_2 or RADIX_4
+	 */
+	static StageTwiddles compute(Twiddles twiddles, int radix) {
+		int n = twiddles.size();
+		if (radix == RADIX_2) {
+			double[] re = new double[Math.max(n - 1, 0)];
+			double[] im = new double[re.length];
+			for (int half = 1; half < n; half <<= 1) {
+				int step = n / (2 * half);
+				for (int j = 0; j < half; j++) {
+					re[half - 1 + j] = twiddles.cos(j * step);
+					im[half - 1 + j] = twiddles.sin(j * step);
+				}
+			}
+			return new StageTwiddles(re, im);
+		}
+		int first = firstQuarter(n);
+		double[] re = new double[Math.max(n - first, 0)];
+		double[] im = new double[re.length];
+		for (int q = first; q < n; q *= 4) {
+			int step = n / (4 * q);
+			int offset = q - first;
+			for (int k = 0; k < q; k++) {
+				re[offset + k] = twiddles.cos(k * step);
+				im[offset + k] = twiddles.sin(k * step);
+				re[offset + q + k] = twiddles.cos(2 * k * step);
+				im[offset + q + k] = twiddles.sin(2 * k * step);
+				re[offset + 2 * q + k] = twiddles.cos(3 * k * step);
+				im[offset + 2 * q + k] = twiddles.sin(3 * k * step);
+			}
+		}
+		return new StageTwiddles(re, im);
+	}
+
+	/**
+	 * @return block length of the first radix-4 pass: 2 if lg n is odd (after
+	 * a twiddle-free radix-2 pass), otherwise 1
+	 */
+	static int firstQuarter(int n) {
+		return Integer.numberOfTrailingZeros(n) % 2 == 1 ? 2 : 1;
+	}
+
+	double[] re() {
+		return re;
+	}
+
+	double[] im() {
+		return im;
+	}
+
+	long tableBytes() {
+		return 16L * re.length;
+	}
+}
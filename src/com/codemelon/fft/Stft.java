@@ -0,0 +1,244 @@
+package com.codemelon.fft;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Short-time Fourier transform of a real stream. Frame k covers samples
+ * [k * hop, k * hop + windowLength) of the stream; they are multiplied by
+ * the window, padded with 0s to fftSize and transformed with RealFft. Each
+ * frame has bins() = fftSize / 2 + 1 bins, 0 through fftSize / 2, the rest
+ * being conjugates of these. As elsewhere in the package, the forward
+ * transform is taken at powers of e^(2 pi i / fftSize), so bin k of a real
+ * signal is the conjugate of what an e^(-2 pi i / fftSize) convention gives;
+ * magnitudes are the same either way.
+ *
+ * Input is read in chunks of any length. next reads until a frame is
+ * complete and writes it into arrays supplied by the caller; the window
+ * history and the transform buffers are allocated once, so analysing a
+ * stream allocates nothing per frame. A hop longer than the window skips
+ * the samples between frames.
+ *
+ * An Stft holds the state of one stream and is not thread-safe.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class Stft {
+
+	/**
+	 * Window functions in their periodic form (w(i) = w(i + length)), whose
+	 * shifts by hop = length / 4 sum to a constant, as do those by
+	 * length / 2 of all but BLACKMAN
+	 */
+	public enum Window {
+		RECTANGULAR,
+		HANN,
+		HAMMING,
+		BLACKMAN;
+
+		/**
+		 * @param length at least 1
+		 * @return the window sampled at 0, ..., length - 1
+		 */
+		public double[] coefficients(int length) {
+			if (length < 1) {
+				throw new IllegalArgumentException("Window length must be positive");
+			}
+			double[] result = new double[length];
+			for (int i = 0; i < length; i++) {
+				double angle = 2.0 * Math.PI * i / length;
+				switch (this) {
+				case HANN:
+					result[i] = 0.5 - 0.5 * Math.cos(angle);
+					break;
+				case HAMMING:
+					result[i] = 0.54 - 0.46 * Math.cos(angle);
+					break;
+				case BLACKMAN:
+					result[i] = 0.42 - 0.5 * Math.cos(angle) + 0.08 * Math.cos(2.0 * angle);
+					break;
+				default:
+					result[i] = 1.0;
+				}
+			}
+			return result;
+		}
+	}
+
+	private final double[] window;
+	private final int hop;
+	private final int n;
+	private final ComplexTransform transform;
+	// the samples of the frame in progress, oldest first
+	private final double[] history;
+	private final double[] x;
+	private final double[] re;
+	private final double[] im;
+	private int count;
+	// samples to drop before the next frame begins, when hop > window length
+	private int skip;
+
+	/**
+	 * @param window applied across the whole FFT
+	 * @param hop samples from the start of one frame to the start of the
+	 * next, at least 1
+	 * @param fftSize even and at least 2; a power of 2 is fastest
+	 */
+	public Stft(Window window, int hop, int fftSize) {
+		this(window.coefficients(fftSize), hop, fftSize);
+	}
+
+	/**
+	 * @param window coefficients, at least 1 and at most fftSize of them
+	 * (the frame is padded with 0s to fftSize)
+	 * @param hop samples from the start of one frame to the start of the
+	 * next, at least 1
+	 * @param fftSize even and at least 2; a power of 2 is fastest
+	 */
+	public Stft(double[] window, int hop, int fftSize) {
+		this(window, hop, fftSize, Fft.sequential());
+	}
+
+	/**
+	 * As Stft(window, hop, fftSize), running the FFTs on the given engine
+	 */
+	public Stft(double[] window, int hop, int fftSize, ComplexTransform transform) {
+		if (fftSize < 2 || fftSize % 2 != 0) {
+			throw new IllegalArgumentException("FFT size must be even and at least 2");
+		}
+		if (window.length < 1 || window.length > fftSize) {
+			throw new IllegalArgumentException("Window length must be between 1 and the FFT size");
+		}
+		if (hop < 1) {
+			throw new IllegalArgumentException("Hop must be positive");
+		}
+		this.window = window.clone();
+		this.hop = hop;
+		this.n = fftSize;
+		this.transform = transform;
+		this.history = new double[window.length];
+		this.x = new double[fftSize];
+		this.re = new double[fftSize / 2];
+		this.im = new double[fftSize / 2];
+	}
+
+	public int windowLength() {
+		return window.length;
+	}
+
+	public int hop() {
+		return hop;
+	}
+
+	public int fftSize() {
+		return n;
+	}
+
+	/**
+	 * @return bins per frame, fftSize / 2 + 1
+	 */
+	public int bins() {
+		return n / 2 + 1;
+	}
+
+	/**
+	 * Reads input until the next frame is complete and writes its bins, or
+	 * reads all of input if it ends first
+	 * @param input
+	 * @param frameRe receives the real parts of bins 0 through fftSize / 2,
+	 * at least bins() long
+	 * @param frameIm receives the imaginary parts
+	 * @return true if a frame was written, false if input ran out first, in
+	 * which case the samples read so far count towards the next frame
+	 */
+	public boolean next(DoubleBuffer input, double[] frameRe, double[] frameIm) {
+		if (frameRe.length < bins() || frameIm.length < bins()) {
+			throw new IllegalArgumentException("Frame arrays must have at least bins() entries");
+		}
+		if (!fill(input)) {
+			return false;
+		}
+		transformFrame();
+		int h = n / 2;
+		frameRe[0] = re[0];
+		frameIm[0] = 0.0;
+		frameRe[h] = im[0];
+		frameIm[h] = 0.0;
+		System.arraycopy(re, 1, frameRe, 1, h - 1);
+		System.arraycopy(im, 1, frameIm, 1, h - 1);
+		return true;
+	}
+
+	/**
+	 * As next, writing the magnitude of each bin
+	 * @param input
+	 * @param magnitudes at least bins() long
+	 * @return true if a frame was written
+	 */
+	public boolean nextMagnitudes(DoubleBuffer input, double[] magnitudes) {
+		if (magnitudes.length < bins()) {
+			throw new IllegalArgumentException("Magnitude array must have at least bins() entries");
+		}
+		if (!fill(input)) {
+			return false;
+		}
+		transformFrame();
+		int h = n / 2;
+		magnitudes[0] = Math.abs(re[0]);
+		magnitudes[h] = Math.abs(im[0]);
+		for (int k = 1; k < h; k++) {
+			magnitudes[k] = Math.sqrt(re[k] * re[k] + im[k] * im[k]);
+		}
+		return true;
+	}
+
+	/**
+	 * Discards the samples of the frame in progress, so that the next
+	 * sample read starts a new stream
+	 */
+	public void reset() {
+		count = 0;
+		skip = 0;
+	}
+
+	/**
+	 * @return true once history holds a whole frame
+	 */
+	private boolean fill(DoubleBuffer input) {
+		if (skip > 0) {
+			int skipped = Math.min(skip, input.remaining());
+			input.position(input.position() + skipped);
+			skip -= skipped;
+			if (skip > 0) {
+				return false;
+			}
+		}
+		int read = Math.min(history.length - count, input.remaining());
+		input.get(history, count, read);
+		count += read;
+		return count == history.length;
+	}
+
+	/**
+	 * Packed RealFft spectrum of the windowed frame into re and im, then
+	 * advances history by hop
+	 */
+	private void transformFrame() {
+		int length = history.length;
+		for (int i = 0; i < length; i++) {
+			x[i] = window[i] * history[i];
+		}
+		Arrays.fill(x, length, n, 0.0);
+		RealFft.forward(x, re, im, transform);
+		if (hop < length) {
+			System.arraycopy(history, hop, history, 0, length - hop);
+			count = length - hop;
+		}
+		else {
+			count = 0;
+			skip = hop - length;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.codemelon.fft;
+
+/**
+ * Cache-blocked matrix transposition of row-major double[] matrices. A
+ * naive transpose reads one matrix along rows and writes the other down
+ * columns, so for large matrices every write touches a new cache line (and
+ * often a new page). Here the matrix is taken in BLOCK x BLOCK tiles, each
+ * read row by row into a small buffer, transposed there, and written out row
+ * by row, so both matrices are accessed a run of BLOCK contiguous entries at
+ * a time.
+ *
+ * Complex matrices held as split arrays are transposed one part at a time.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class Transpose {
+	/**
+	 * 32 x 32 doubles: a tile buffer is 8 KiB
+	 */
+	static final int BLOCK = 32;
+
+	private Transpose() {
+	}
+
+	/**
+	 * Sets dst, a cols x rows matrix, to the transpose of src
+	 * @param src rows x cols matrix, row-major
+	 * @param rows
+	 * @param cols
+	 * @param dst receives the cols x rows transpose, row-major; must not be
+	 * src
+	 * @throws IllegalArgumentException if either array is shorter than
+	 * rows * cols or they are the same array
+	 */
+	public static void transpose(double[] src, int rows, int cols, double[] dst) {
+		if (rows < 0 || cols < 0 || src.length < (long) rows * cols || dst.length < (long) rows * cols) {
+			throw new IllegalArgumentException("Arrays too short for a " + rows + " x " + cols + " matrix");
+		}
+		if (src == dst) {
+			throw new IllegalArgumentException("Use transposeSquare to transpose in place");
+		}
+		double[] tile = new double[BLOCK * BLOCK];
+		for (int i0 = 0; i0 < rows; i0 += BLOCK) {
+			int height = Math.min(BLOCK, rows - i0);
+			for (int j0 = 0; j0 < cols; j0 += BLOCK) {
+				int width = Math.min(BLOCK, cols - j0);
+				load(src, cols, i0, j0, height, width, tile);
+				store(tile, height, width, dst, rows, j0, i0);
+			}
+		}
+	}
+
+	/**
+	 * Transposes the n x n matrix a in place, swapping each tile above the
+	 * diagonal with its mirror image
+	 * @param a n x n matrix, row-major
+	 * @param n
+	 * @throws IllegalArgumentException if a is shorter than n * n
+	 */
+	public static void transposeSquare(double[] a, int n) {
+		if (n < 0 || a.length < (long) n * n) {
+			throw new IllegalArgumentException("Array too short for a " + n + " x " + n + " matrix");
+		}
+		double[] upper = new double[BLOCK * BLOCK];
+		double[] lower = new double[BLOCK * BLOCK];
+		for (int i0 = 0; i0 < n; i0 += BLOCK) {
+			int height = Math.min(BLOCK, n - i0);
+			for (int j0 = i0; j0 < n; j0 += BLOCK) {
+				int width = Math.min(BLOCK, n - j0);
+				load(a, n, i0, j0, height, width, upper);
+				if (j0 != i0) {
+					load(a, n, j0, i0, width, height, lower);
+					store(lower, width, height, a, n, i0, j0);
+				}
+				store(upper, height, width, a, n, j0, i0);
+			}
+		}
+	}
+
+	/**
+	 * Reads the height x width tile of src at (i0, j0) into tile, transposed:
+	 * element (i, j) of the tile to tile[j * BLOCK + i]. Source rows are read
+	 * whole, as are destination rows in store, so no cache line is left half
+	 * used for a later tile to finish (with power-of-2 row lengths, it would
+	 * long have been evicted).
+	 */
+	private static void load(double[] src, int cols, int i0, int j0, int height, int width, double[] tile) {
+		for (int i = 0; i < height; i++) {
+			int from = (i0 + i) * cols + j0;
+			for (int j = 0; j < width; j++) {
+				tile[j * BLOCK + i] = src[from + j];
+			}
+		}
+	}
+
+	/**
+	 * Writes the width x height transposed tile to dst at (j0, i0)
+	 */
+	private static void store(double[] tile, int height, int width, double[] dst, int rows, int j0, int i0) {
+		for (int j = 0; j < width; j++) {
+			System.arraycopy(tile, j * BLOCK, dst, (j0 + j) * rows + i0, height);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package com.codemelon.fft;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe cache of roots-of-unity tables keyed by transform size.
+ * Total table memory is capped; once the cap is exceeded the least recently
+ * used tables are evicted. A request for size n is served by a strided view
+ * of any cached table whose size is a multiple of n, so after one 2^20
+ * transform every smaller power of 2 is free. Sizes need not be powers of 2.
+ *
+ * The cache also holds the stage-ordered copies (StageTwiddles) used by the
+ * iterative power-of-2 kernels, and the quarter-wave tables of RealFft,
+ * which let real transforms of twice the length the cap allows for full
+ * tables be cached. They count towards the same cap and are evicted before
+ * any full table is.
+ *
+ * The shared instance is capped at DEFAULT_MAX_BYTES unless the system
+ * property com.codemelon.fft.twiddleCacheBytes says otherwise.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class TwiddleCache {
+	/**
+	 * 64 MiB, enough for a 2^22 table (16 bytes per root)
+	 */
+	public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+	private static final TwiddleCache SHARED = new TwiddleCache(
+			Long.getLong("com.codemelon.fft.twiddleCacheBytes", DEFAULT_MAX_BYTES));
+
+	private final long maxBytes;
+	// access order, so iteration starts at the least recently used table
+	private final LinkedHashMap<Integer, Twiddles> tables =
+			new LinkedHashMap<Integer, Twiddles>(16, 0.75f, true);
+	// keyed by stageKey(n, radix), also in access order
+	private final LinkedHashMap<Long, StageTwiddles> stageTables =
+			new LinkedHashMap<Long, StageTwiddles>(16, 0.75f, true);
+	// Twiddles.computeQuarter tables keyed by size, also in access order
+	private final LinkedHashMap<Integer, Twiddles> quarterTables =
+			new LinkedHashMap<Integer, Twiddles>(16, 0.75f, true);
+	private long bytes;
+
+	/**
+	 * @param maxBytes upper bound on the memory held by cached tables
+	 */
+	public TwiddleCache(long maxBytes) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("Cache size cannot be negative");
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	public static TwiddleCache shared() {
+		return SHARED;
+	}
+
+	/**
+	 * @param n transform size
+	 * @return the n-th roots of unity
+	 * @throws IllegalArgumentException if n is not positive
+	 */
+	public Twiddles forSize(int n) {
+		if (n <= 0) {
+			throw new IllegalArgumentException("Transform size must be positive");
+		}
+		Twiddles cached = lookup(n);
+		if (cached != null) {
+			return cached;
+		}
+		// trig work happens outside the lock
+		return store(n, Twiddles.compute(n));
+	}
+
+	/**
+	 * @param n transform size, a power of 2
+	 * @param radix StageTwiddles.RADIX_2 or StageTwiddles.RADIX_4
+	 * @return the n-th roots of unity in the order of that kernel's passes
+	 */
+	StageTwiddles stages(int n, int radix) {
+		Long key = stageKey(n, radix);
+		StageTwiddles cached;
+		synchronized (this) {
+			cached = stageTables.get(key);
+		}
+		if (cached != null) {
+			return cached;
+		}
+		return storeStages(key, StageTwiddles.compute(forSize(n), radix));
+	}
+
+	/**
+	 * @param n transform size
+	 * @return omega_n^k for at least 0 <= k < n / 4: a view of a cached full
+	 * table if there is one, otherwise a quarter-wave table
+	 */
+	Twiddles quarterWave(int n) {
+		Twiddles cached = lookup(n);
+		if (cached != null) {
+			return cached;
+		}
+		synchronized (this) {
+			cached = quarterTables.get(n);
+		}
+		if (cached != null) {
+			return cached;
+		}
+		return storeQuarter(n, Twiddles.computeQuarter(n));
+	}
+
+	/**
+	 * @return bytes currently held by cached tables
+	 */
+	public synchronized long bytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return number of cached full tables (views, stage and quarter-wave
+	 * tables do not count)
+	 */
+	public synchronized int tableCount() {
+		return tables.size();
+	}
+
+	public synchronized void clear() {
+		tables.clear();
+		stageTables.clear();
+		quarterTables.clear();
+		bytes = 0L;
+	}
+
+	private synchronized Twiddles lookup(int n) {
+		Twiddles exact = tables.get(n);
+		if (exact != null) {
+			return exact;
+		}
+		int best = 0;
+		for (Integer size : tables.keySet()) {
+			if (size > n && size % n == 0 && (best == 0 || size < best)) {
+				best = size;
+			}
+		}
+		if (best == 0) {
+			return null;
+		}
+		// get() rather than the keySet scan marks the table as recently used
+		return tables.get(best).view(n);
+	}
+
+	private synchronized Twiddles store(int n, Twiddles table) {
+		Twiddles raced = tables.get(n);
+		if (raced != null) {
+			return raced;
+		}
+		if (table.tableBytes() > maxBytes) {
+			return table;
+		}
+		tables.put(n, table);
+		bytes += table.tableBytes();
+		evict(n, null, 0);
+		return table;
+	}
+
+	private synchronized StageTwiddles storeStages(Long key, StageTwiddles stages) {
+		StageTwiddles raced = stageTables.get(key);
+		if (raced != null) {
+			return raced;
+		}
+		if (stages.tableBytes() > maxBytes) {
+			return stages;
+		}
+		stageTables.put(key, stages);
+		bytes += stages.tableBytes();
+		evict(0, key, 0);
+		return stages;
+	}
+
+	private synchronized Twiddles storeQuarter(int n, Twiddles table) {
+		Twiddles raced = quarterTables.get(n);
+		if (raced != null) {
+			return raced;
+		}
+		if (table.tableBytes() > maxBytes) {
+			return table;
+		}
+		quarterTables.put(n, table);
+		bytes += table.tableBytes();
+		evict(0, null, n);
+		return table;
+	}
+
+	/**
+	 * Evicts least recently used stage tables, then quarter-wave tables, then
+	 * tables, until the cap is met, sparing the entry just stored
+	 * @param keptSize size of a table just stored, or 0
+	 * @param keptStages key of a stage table just stored, or null
+	 * @param keptQuarter size of a quarter-wave table just stored, or 0
+	 */
+	private void evict(int keptSize, Long keptStages, int keptQuarter) {
+		Iterator<Map.Entry<Long, StageTwiddles>> eldestStages = stageTables.entrySet().iterator();
+		while (bytes > maxBytes && eldestStages.hasNext()) {
+			Map.Entry<Long, StageTwiddles> entry = eldestStages.next();
+			if (entry.getKey().equals(keptStages)) {
+				continue;
+			}
+			bytes -= entry.getValue().tableBytes();
+			eldestStages.remove();
+		}
+		Iterator<Map.Entry<Integer, Twiddles>> eldestQuarters = quarterTables.entrySet().iterator();
+		while (bytes > maxBytes && eldestQuarters.hasNext()) {
+			Map.Entry<Integer, Twiddles> entry = eldestQuarters.next();
+			if (entry.getKey() == keptQuarter) {
+				continue;
+			}
+			bytes -= entry.getValue().tableBytes();
+			eldestQuarters.remove();
+		}
+		Iterator<Map.Entry<Integer, Twiddles>> eldest = tables.entrySet().iterator();
+		while (bytes > maxBytes && eldest.hasNext()) {
+			Map.Entry<Integer, Twiddles> entry = eldest.next();
+			if (entry.getKey() == keptSize) {
+				continue;
+			}
+			bytes -= entry.getValue().tableBytes();
+			eldest.remove();
+		}
+	}
+
+	private static Long stageKey(int n, int radix) {
+		return ((long) n << 3) | radix;
+	}
+}
@@ -0,0 +1,119 @@
+package com.codemelon.fft;
+
+/**
+ * Read-only view of the n-th roots of unity omega_n^k = e^(2 pi i k / n),
+ * 0 <= k < n. The view may be backed by the table of a larger size N that is
+ * a multiple of n, in which case omega_n^k is read at index k * (N / n).
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class Twiddles {
+	private final double[] cos;
+	private final double[] sin;
+	private final int stride;
+	private final int size;
+
+	Twiddles(double[] cos, double[] sin, int stride) {
+		this(cos, sin, stride, cos.length / stride);
+	}
+
+	private Twiddles(double[] cos, double[] sin, int stride, int size) {
+		this.cos = cos;
+		this.sin = sin;
+		this.stride = stride;
+		this.size = size;
+	}
+
+	/**
+	 * Builds the full table of n-th roots of unity. Every entry is computed
+	 * directly from its angle rather than by repeated multiplication, so the
+	 * error does not grow with n.
+	 * @param n
+	 * @return
+	 */
+	static Twiddles compute(int n) {
+		double[] cos = new double[n];
+		double[] sin = new double[n];
+		for (int k = 0; k < n; k++) {
+			double angle = 2.0 * Math.PI * k / n;
+			cos[k] = Math.cos(angle);
+			sin[k] = Math.sin(angle);
+		}
+		return new Twiddles(cos, sin, 1);
+	}
+
+	/**
+	 * Builds omega_n^k for 0 <= k < n / 4 only, the quarter wave that
+	 * RealFft reads, in a quarter of the memory of the full table. cos and
+	 * sin must not be called from n / 4 on.
+	 * @param n
+	 * @return a table of size() n
+	 */
+	static Twiddles computeQuarter(int n) {
+		int count = Math.max(1, (n + 3) / 4);
+		double[] cos = new double[count];
+		double[] sin = new double[count];
+		for (int k = 0; k < count; k++) {
+			double angle = 2.0 * Math.PI * k / n;
+			cos[k] = Math.cos(angle);
+			sin[k] = Math.sin(angle);
+		}
+		return new Twiddles(cos, sin, 1, n);
+	}
+
+	/**
+	 * @param n must divide size()
+	 * @return view of the n-th roots of unity sharing this view's table
+	 */
+	Twiddles view(int n) {
+		return new Twiddles(cos, sin, stride * (size / n));
+	}
+
+	/**
+	 * @return n such that this view holds the n-th roots of unity
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param k 0 <= k < size()
+	 * @return real part of omega_n^k
+	 */
+	public double cos(int k) {
+		return cos[k * stride];
+	}
+
+	/**
+	 * @param k 0 <= k < size()
+	 * @return imaginary part of omega_n^k
+	 */
+	public double sin(int k) {
+		return sin[k * stride];
+	}
+
+	/**
+	 * Backing arrays and stride are exposed inside the package so that
+	 * transform inner loops can index the table directly
+	 */
+	double[] cosTable() {
+		return cos;
+	}
+
+	double[] sinTable() {
+		return sin;
+	}
+
+	int stride() {
+		return stride;
+	}
+
+	/**
+	 * @return bytes held by the backing table
+	 */
+	long tableBytes() {
+		return 16L * cos.length;
+	}
+}
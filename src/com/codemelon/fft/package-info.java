@@ -0,0 +1,10 @@
+/**
+ * Fast Fourier transform engines operating in place on split real/imaginary
+ * double[] buffers, and the number theoretic transform (Ntt) on int[]
+ * residues
+ * 
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+package com.codemelon.fft;
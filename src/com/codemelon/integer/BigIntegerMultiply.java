@@ -0,0 +1,189 @@
+package com.codemelon.integer;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.codemelon.fft.Ntt;
+
+/**
+ * Multiplication of large BigIntegers by number theoretic transforms, for
+ * sizes at which BigInteger.multiply, whose fastest algorithm is Toom-3,
+ * is slow.
+ *
+ * The magnitudes are split into their 32-bit words, read as the
+ * coefficients of two polynomials in 2^32. Coefficient k of the product of
+ * those polynomials is a sum of at most min(la, lb) products of two words,
+ * so below min(la, lb) 2^64; la and lb, the lengths in words, are at most
+ * Ntt.MAX_LENGTH, so it is below 2^89. The first three primes of Ntt
+ * multiply to M > 2^92, so the convolution mod each of them, recombined
+ * by Garner's algorithm, gives every coefficient exactly, without the
+ * error analysis a floating-point FFT would need. Carries are then
+ * propagated once through the coefficients. Products of more than
+ * Ntt.MAX_LENGTH words are split into products of halves of the longer
+ * factor.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class BigIntegerMultiply {
+	/**
+	 * multiply uses BigInteger.multiply while the shorter factor has fewer
+	 * 32-bit words than this, about 40,000 decimal digits. Measured balanced
+	 * products break even between 4096 and 8192 words; at 2^18 words the
+	 * transforms are 3 to 4 times faster.
+	 */
+	public static final int THRESHOLD = 4096;
+	private static final long MASK = 0xffffffffL;
+	private static final Ntt[] NTTS = { Ntt.forPrime(0), Ntt.forPrime(1), Ntt.forPrime(2) };
+	private static final long P0 = NTTS[0].modulus();
+	private static final long P1 = NTTS[1].modulus();
+	private static final long P2 = NTTS[2].modulus();
+	// p_i^-1 mod p_j
+	private static final long INV01 = inverse(P0, P1);
+	private static final long INV02 = inverse(P0, P2);
+	private static final long INV12 = inverse(P1, P2);
+
+	private BigIntegerMultiply() {
+	}
+
+	/**
+	 * Same result as a.multiply(b)
+	 * @param a
+	 * @param b may be a, which saves a transform per prime
+	 * @return
+	 */
+	public static BigInteger multiply(BigInteger a, BigInteger b) {
+		if (a.signum() == 0 || b.signum() == 0) {
+			return BigInteger.ZERO;
+		}
+		if (Math.min(a.bitLength(), b.bitLength()) < 32 * THRESHOLD) {
+			return a.multiply(b);
+		}
+		int[] x = toWords(a);
+		int[] y = b == a ? x : toWords(b);
+		return fromWords(multiply(x, y, Ntt.MAX_LENGTH), a.signum() * b.signum());
+	}
+
+	/**
+	 * @param x magnitude, least significant word first
+	 * @param y magnitude, least significant word first; may be x
+	 * @param maxLength longest transform to use, a power of 2 of at most
+	 * Ntt.MAX_LENGTH
+	 * @return the magnitude of the product, x.length + y.length words
+	 */
+	static int[] multiply(int[] x, int[] y, int maxLength) {
+		if (x.length + y.length - 1 <= maxLength) {
+			return transformMultiply(x, y);
+		}
+		int[] longer = x.length >= y.length ? x : y;
+		int[] shorter = x.length >= y.length ? y : x;
+		int half = longer.length / 2;
+		int[] result = new int[x.length + y.length];
+		int[] low = multiply(Arrays.copyOf(longer, half), shorter, maxLength);
+		System.arraycopy(low, 0, result, 0, low.length);
+		addInto(result, half, multiply(Arrays.copyOfRange(longer, half, longer.length), shorter, maxLength));
+		return result;
+	}
+
+	private static int[] transformMultiply(int[] x, int[] y) {
+		int length = x.length + y.length - 1;
+		int n = length == 1 ? 1 : Integer.highestOneBit(length - 1) << 1;
+		int[][] residues = new int[NTTS.length][];
+		int[] v = y == x ? null : new int[n];
+		for (int i = 0; i < NTTS.length; i++) {
+			Ntt ntt = NTTS[i];
+			int[] u = new int[n];
+			load(ntt, x, u);
+			ntt.forward(u);
+			if (v == null) {
+				ntt.multiply(u, u);
+			}
+			else {
+				load(ntt, y, v);
+				ntt.forward(v);
+				ntt.multiply(u, v);
+			}
+			ntt.inverse(u);
+			residues[i] = u;
+		}
+		int[] result = new int[length + 1];
+		// below 2^62 throughout
+		long carry = 0L;
+		for (int k = 0; k < length; k++) {
+			// Garner: the coefficient is d0 + p0 (d1 + p1 d2)
+			long d0 = residues[0][k];
+			long d1 = (residues[1][k] - d0 % P1 + P1) % P1 * INV01 % P1;
+			long d2 = (residues[2][k] - d0 % P2 + P2) % P2 * INV02 % P2;
+			d2 = (d2 - d1 % P2 + P2) % P2 * INV12 % P2;
+			long t = d1 + P1 * d2;
+			// below 2^63 + 2^33, so exact as an unsigned long
+			long low = P0 * (t & MASK) + d0 + (carry & MASK);
+			result[k] = (int) low;
+			carry = (low >>> 32) + P0 * (t >>> 32) + (carry >>> 32);
+		}
+		// the product has length + 1 words, so this is the last of them
+		result[length] = (int) carry;
+		return result;
+	}
+
+	private static void load(Ntt ntt, int[] words, int[] residues) {
+		for (int i = 0; i < words.length; i++) {
+			residues[i] = ntt.residue(words[i] & MASK);
+		}
+		Arrays.fill(residues, words.length, residues.length, 0);
+	}
+
+	/**
+	 * result += addend 2^(32 offset), which must not carry out of result
+	 */
+	private static void addInto(int[] result, int offset, int[] addend) {
+		long carry = 0L;
+		int i = 0;
+		for (; i < addend.length; i++) {
+			carry += (result[offset + i] & MASK) + (addend[i] & MASK);
+			result[offset + i] = (int) carry;
+			carry >>>= 32;
+		}
+		for (i += offset; carry != 0L; i++) {
+			carry += result[i] & MASK;
+			result[i] = (int) carry;
+			carry >>>= 32;
+		}
+	}
+
+	/**
+	 * @return the words of |x|, least significant first
+	 */
+	static int[] toWords(BigInteger x) {
+		BigInteger magnitude = x.abs();
+		byte[] bytes = magnitude.toByteArray();
+		int[] result = new int[(magnitude.bitLength() + 31) >>> 5];
+		// toByteArray is big-endian and may lead with a sign byte of 0
+		for (int i = 0, j = bytes.length - 1; i < 4 * result.length && j >= 0; i++, j--) {
+			result[i >>> 2] |= (bytes[j] & 0xff) << 8 * (i & 3);
+		}
+		return result;
+	}
+
+	/**
+	 * @param words magnitude, least significant first
+	 * @param signum -1 or 1; ignored if the magnitude is 0
+	 */
+	static BigInteger fromWords(int[] words, int signum) {
+		byte[] bytes = new byte[4 * words.length];
+		for (int i = 0, j = bytes.length - 1; i < words.length; i++, j -= 4) {
+			int word = words[i];
+			bytes[j] = (byte) word;
+			bytes[j - 1] = (byte) (word >>> 8);
+			bytes[j - 2] = (byte) (word >>> 16);
+			bytes[j - 3] = (byte) (word >>> 24);
+		}
+		BigInteger result = new BigInteger(1, bytes);
+		return signum < 0 ? result.negate() : result;
+	}
+
+	private static long inverse(long a, long p) {
+		return BigInteger.valueOf(a).modInverse(BigInteger.valueOf(p)).longValue();
+	}
+}
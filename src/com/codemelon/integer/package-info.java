@@ -0,0 +1,9 @@
+/**
+ * Arithmetic on large integers built on the transforms of
+ * com.codemelon.fft
+ * 
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+package com.codemelon.integer;
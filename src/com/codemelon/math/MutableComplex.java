@@ -0,0 +1,121 @@
+package com.codemelon.math;
+
+/**
+ * Mutable companion to Complex for accumulating in hot loops without
+ * allocating. Every operation overwrites this object and returns it, so
+ * calls can be chained.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class MutableComplex {
+	private double real;
+	private double imaginary;
+
+	public MutableComplex() {
+	}
+
+	public MutableComplex(double real, double imaginary) {
+		this.real = real;
+		this.imaginary = imaginary;
+	}
+
+	public MutableComplex(Complex c) {
+		this(c.real(), c.imaginary());
+	}
+
+	public double real() {
+		return real;
+	}
+
+	public double imaginary() {
+		return imaginary;
+	}
+
+	public MutableComplex set(double real, double imaginary) {
+		this.real = real;
+		this.imaginary = imaginary;
+		return this;
+	}
+
+	public MutableComplex set(Complex c) {
+		return set(c.real(), c.imaginary());
+	}
+
+	public MutableComplex add(double real, double imaginary) {
+		this.real += real;
+		this.imaginary += imaginary;
+		return this;
+	}
+
+	public MutableComplex add(Complex c) {
+		return add(c.real(), c.imaginary());
+	}
+
+	/**
+	 * this += a * b
+	 * @return this
+	 */
+	public MutableComplex addTimes(double aReal, double aImaginary, double bReal, double bImaginary) {
+		this.real += aReal * bReal - aImaginary * bImaginary;
+		this.imaginary += aReal * bImaginary + aImaginary * bReal;
+		return this;
+	}
+
+	/**
+	 * this += a * b
+	 * @return this
+	 */
+	public MutableComplex addTimes(Complex a, Complex b) {
+		return addTimes(a.real(), a.imaginary(), b.real(), b.imaginary());
+	}
+
+	public MutableComplex multiplyBy(double real, double imaginary) {
+		double newReal = this.real * real - this.imaginary * imaginary;
+		this.imaginary = this.real * imaginary + this.imaginary * real;
+		this.real = newReal;
+		return this;
+	}
+
+	public MutableComplex multiplyBy(Complex c) {
+		return multiplyBy(c.real(), c.imaginary());
+	}
+
+	public MutableComplex multiplyBy(double r) {
+		this.real *= r;
+		this.imaginary *= r;
+		return this;
+	}
+
+	/**
+	 * this = this * m + a, one step of Horner's rule
+	 * @return this
+	 */
+	public MutableComplex multiplyAdd(double mReal, double mImaginary, double aReal, double aImaginary) {
+		double newReal = this.real * mReal - this.imaginary * mImaginary + aReal;
+		this.imaginary = this.real * mImaginary + this.imaginary * mReal + aImaginary;
+		this.real = newReal;
+		return this;
+	}
+
+	/**
+	 * this = this * m + a, one step of Horner's rule
+	 * @return this
+	 */
+	public MutableComplex multiplyAdd(Complex m, Complex a) {
+		return multiplyAdd(m.real(), m.imaginary(), a.real(), a.imaginary());
+	}
+
+	/**
+	 * @return immutable snapshot of the current value
+	 */
+	public Complex toComplex() {
+		return new Complex(real, imaginary);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(real) + "+" + String.valueOf(imaginary) + "*i";
+	}
+}
@@ -0,0 +1,61 @@
+package com.codemelon.math;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Finds SIMD implementations of the library's inner loops. The library
+ * itself is built for Java 8 and only has scalar loops; the optional
+ * fast-fourier-transform-simd artifact, built against the
+ * jdk.incubator.vector module, registers vector implementations with
+ * ServiceLoader. load returns the first of those that can actually be
+ * instantiated, and the scalar fallback otherwise: the artifact is not on
+ * the class path, the JVM is older than 16, the JVM was started without
+ * --add-modules jdk.incubator.vector, or the system property
+ * com.codemelon.vectorKernels is "false".
+ *
+ * Vector and scalar implementations are required to give bit-for-bit the
+ * same results, so which one is loaded only changes the speed.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class VectorKernels {
+	public static final String ENABLED_PROPERTY = "com.codemelon.vectorKernels";
+
+	private VectorKernels() {
+	}
+
+	/**
+	 * @param service interface of the kernel
+	 * @param fallback scalar implementation
+	 * @return a vector implementation of service if one is available,
+	 * otherwise fallback
+	 */
+	public static <T> T load(Class<T> service, T fallback) {
+		if ("false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY))) {
+			return fallback;
+		}
+		try {
+			Iterator<T> providers = ServiceLoader.load(service, service.getClassLoader()).iterator();
+			while (providers.hasNext()) {
+				try {
+					return providers.next();
+				}
+				// a provider whose vector classes cannot be linked on this JVM
+				catch (ServiceConfigurationError e) {
+					continue;
+				}
+				catch (LinkageError e) {
+					continue;
+				}
+			}
+		}
+		catch (ServiceConfigurationError e) {
+			return fallback;
+		}
+		return fallback;
+	}
+}
@@ -3,35 +3,65 @@ package com.codemelon.polynomial;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import com.codemelon.fft.BatchFft;
+import com.codemelon.fft.ComplexTransform;
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.ParallelFft;
+import com.codemelon.fft.TwiddleCache;
+import com.codemelon.fft.Twiddles;
 import com.codemelon.math.Complex;
+import com.codemelon.math.ComplexVector;
+import com.codemelon.math.MutableComplex;
 
 /**
  * Polynomials with complex coefficients
  * 
+ * Coefficients are held in a ComplexVector (parallel real and imaginary
+ * arrays) of which the first size entries are significant.
+ * 
  * @author Marshall Farrier
  * @my.created Sep 16, 2013
- * @my.edited Sep 16, 2013
+ * @my.edited Oct 18, 2026
  */
 public class ComplexPolynomial {
 	
-	private static final int FOURIER_MULTIPLY_DEGREE_THRESHOLD = 2;
-
-	private ArrayList<Complex> coefficients;
+	/**
+	 * evaluate(Complex[]) uses batched Horner below this many points
+	 */
+	static final int MULTIPOINT_EVALUATION_THRESHOLD = Polynomial.MULTIPOINT_EVALUATION_THRESHOLD;
+	
+	private final ComplexVector coefficients;
+	// number of significant entries in coefficients, at least 1
+	private final int size;
 	
 	public ComplexPolynomial(List<Complex> coefficients) {
 		if (coefficients == null || coefficients.size() == 0) {
 			throw new IllegalArgumentException("Polynomial must have at least 1 coefficient");
 		}
-		this.coefficients = new ArrayList<Complex>(coefficients);
-		trimZeroCoefficients(this.coefficients);
-		validateCoefficients();
+		validateCoefficients(coefficients);
+		this.coefficients = ComplexVector.fromComplex(coefficients);
+		this.size = trimmedSize(this.coefficients, this.coefficients.length());
 	}
 	
 	public ComplexPolynomial(Complex[] coefficients) {
 		this(Arrays.asList(coefficients));
 	}
 	
+	/**
+	 * Copies the given coefficients, so later changes to the vector do not
+	 * affect the polynomial
+	 * @param coefficients coefficient of x^i at index i
+	 * @return
+	 */
+	public static ComplexPolynomial fromVector(ComplexVector coefficients) {
+		if (coefficients == null || coefficients.length() == 0) {
+			throw new IllegalArgumentException("Polynomial must have at least 1 coefficient");
+		}
+		return new ComplexPolynomial(coefficients.copyOf(coefficients.length()), coefficients.length());
+	}
+	
 	/**
 	 * Construct a polynomial of the given degree where every coefficient is set
 	 * to 1
@@ -39,16 +69,28 @@ public class ComplexPolynomial {
 	 * @param degree
 	 */
 	public static ComplexPolynomial fromDegree(int degree) {
-		ComplexPolynomial result = new ComplexPolynomial(degree, Complex.ONE);
 		if (degree < 0) {
-			result.coefficients.add(Complex.ZERO);
+			return new ComplexPolynomial(new ComplexVector(1), 1);
 		}
-		return result;
+		ComplexVector coefficients = new ComplexVector(degree + 1);
+		Arrays.fill(coefficients.realParts(), 1.0);
+		return new ComplexPolynomial(coefficients, degree + 1);
+	}
+	
+	/**
+	 * Internal use only: adopts the given vector without copying. The caller
+	 * must not modify it afterwards.
+	 * @param coefficients
+	 * @param size number of leading entries to consider, at least 1
+	 */
+	private ComplexPolynomial(ComplexVector coefficients, int size) {
+		this.coefficients = coefficients;
+		this.size = trimmedSize(coefficients, size);
 	}
 	
 	public int degree() {
-		if (coefficients.size() > 1 || !coefficients.get(0).equalWithinDelta(Complex.ZERO)) {
-			return coefficients.size() - 1;
+		if (size > 1 || !isZero(coefficients, 0)) {
+			return size - 1;
 		}
 		return -1;
 	}
@@ -57,12 +99,20 @@ public class ComplexPolynomial {
 		if (i < 0) {
 			throw new IllegalArgumentException("Coefficient index must be non-negative");
 		}
-		if (i >= coefficients.size()) {
+		if (i >= size) {
 			return Complex.ZERO;
 		}
 		return coefficients.get(i);
 	}
 	
+	/**
+	 * @return a new vector holding the coefficients up to and including the
+	 * leading one (a single 0 for the 0 polynomial)
+	 */
+	public ComplexVector toVector() {
+		return coefficients.copyOf(size);
+	}
+	
 	public ComplexPolynomial plus(ComplexPolynomial p) {
 		if (this.degree() <= p.degree()) {
 			return add(p, this);
@@ -71,88 +121,451 @@ public class ComplexPolynomial {
 	}
 	
 	public ComplexPolynomial minus(ComplexPolynomial p) {
-		return subtract(this.coefficients, p.coefficients);
+		ComplexVector result = this.coefficients.copyOf(Math.max(this.size, p.size));
+		double[] re = result.realParts();
+		double[] im = result.imaginaryParts();
+		double[] pRe = p.coefficients.realParts();
+		double[] pIm = p.coefficients.imaginaryParts();
+		Arrays.fill(re, this.size, re.length, 0.0);
+		Arrays.fill(im, this.size, im.length, 0.0);
+		for (int i = 0; i < p.size; i++) {
+			re[i] -= pRe[i];
+			im[i] -= pIm[i];
+		}
+		return new ComplexPolynomial(result, result.length());
 	}
 	
+	/**
+	 * The algorithm is the one MultiplyDispatcher predicts to be fastest for
+	 * the degrees of the operands
+	 * @param p
+	 * @return
+	 */
 	public ComplexPolynomial times(ComplexPolynomial p) {
+		return times(p, Fft.sequential());
+	}
+	
+	/**
+	 * As times(p), but large FFT products run their transforms as fork/join
+	 * tasks in the given pool (see ParallelFft)
+	 * @param p
+	 * @param pool
+	 * @return
+	 */
+	public ComplexPolynomial times(ComplexPolynomial p, ForkJoinPool pool) {
+		return times(p, new ParallelFft(pool));
+	}
+	
+	/**
+	 * As times(p), running any FFTs on the given engine, for example an
+	 * FftPlanner so that repeated products reuse measured plans
+	 * @param p
+	 * @param transform
+	 * @return
+	 */
+	public ComplexPolynomial times(ComplexPolynomial p, ComplexTransform transform) {
 		if (this.degree() < 0 || p.degree() < 0) {
 			return fromDegree(-1);
 		}
-		if (this.degree() < FOURIER_MULTIPLY_DEGREE_THRESHOLD || 
-				p.degree() < FOURIER_MULTIPLY_DEGREE_THRESHOLD || 
-				this.degree() < Math.log(p.degree()) || 
-				p.degree() < Math.log(this.degree())) {
-			return schoolMultiply(this, p);
+		return multiply(MultiplyDispatcher.chooseComplex(this.degree(), p.degree()), this, p, transform);
+	}
+	
+	/**
+	 * Multiplies each polynomial in the list by p. All products are computed
+	 * at one power-of-2 length: p is transformed once and the others are
+	 * transformed together with a BatchFft, so the setup cost of the
+	 * transforms is paid once for the whole list.
+	 * @param polynomials
+	 * @param p
+	 * @return the products, in the order of the list
+	 */
+	public static List<ComplexPolynomial> multiplyAll(List<ComplexPolynomial> polynomials, 
+			ComplexPolynomial p) {
+		List<ComplexPolynomial> result = new ArrayList<ComplexPolynomial>(polynomials.size());
+		int maxSize = 0;
+		for (ComplexPolynomial polynomial : polynomials) {
+			if (polynomial.degree() >= 0) {
+				maxSize = Math.max(maxSize, polynomial.size);
+			}
+		}
+		if (maxSize == 0 || p.degree() < 0) {
+			for (int i = 0; i < polynomials.size(); i++) {
+				result.add(fromDegree(-1));
+			}
+			return result;
 		}
-		return fourierMultiply(this, p);
+		int n = Fft.nextPowerOfTwo(maxSize + p.size - 1);
+		int count = polynomials.size();
+		ComplexVector spectrum = p.paddedCoefficients(n);
+		Fft.forward(spectrum.realParts(), spectrum.imaginaryParts());
+		double[] re = new double[count * n];
+		double[] im = new double[count * n];
+		for (int b = 0; b < count; b++) {
+			ComplexPolynomial polynomial = polynomials.get(b);
+			System.arraycopy(polynomial.coefficients.realParts(), 0, re, b * n, polynomial.size);
+			System.arraycopy(polynomial.coefficients.imaginaryParts(), 0, im, b * n, polynomial.size);
+		}
+		BatchFft batch = BatchFft.contiguous(n, count);
+		batch.forward(re, im);
+		double[] spectrumRe = spectrum.realParts();
+		double[] spectrumIm = spectrum.imaginaryParts();
+		for (int b = 0; b < count; b++) {
+			for (int k = 0, i = b * n; k < n; k++, i++) {
+				double productRe = re[i] * spectrumRe[k] - im[i] * spectrumIm[k];
+				im[i] = re[i] * spectrumIm[k] + im[i] * spectrumRe[k];
+				re[i] = productRe;
+			}
+		}
+		batch.inverse(re, im);
+		for (int b = 0; b < count; b++) {
+			ComplexPolynomial polynomial = polynomials.get(b);
+			if (polynomial.degree() < 0) {
+				result.add(fromDegree(-1));
+				continue;
+			}
+			int resultSize = polynomial.size + p.size - 1;
+			ComplexVector product = new ComplexVector(resultSize);
+			System.arraycopy(re, b * n, product.realParts(), 0, resultSize);
+			System.arraycopy(im, b * n, product.imaginaryParts(), 0, resultSize);
+			result.add(new ComplexPolynomial(product, resultSize));
+		}
+		return result;
 	}
 	
 	/**
 	 * Horner's rule
 	 * Cf. CLRS, p. 900
+	 * Accumulates in a single MutableComplex, so only O(1) objects are
+	 * allocated whatever the degree.
 	 * 
 	 * @param c
 	 * @return
 	 */
 	public Complex evaluate(Complex c) {
-		if (coefficients.size() == 1 || c.equalWithinDelta(Complex.ZERO)) {
+		if (size == 1 || c.equalWithinDelta(Complex.ZERO)) {
 			return coefficients.get(0);
 		}
-		Complex result = coefficients.get(coefficients.size() - 1);
-		for (int i = this.coefficients.size() - 2; i >= 0; i--) {
-			result = this.coefficients.get(i).plus(c.times(result));
+		double[] re = coefficients.realParts();
+		double[] im = coefficients.imaginaryParts();
+		double cRe = c.real();
+		double cIm = c.imaginary();
+		MutableComplex result = new MutableComplex(re[size - 1], im[size - 1]);
+		for (int i = size - 2; i >= 0; i--) {
+			result.multiplyAdd(cRe, cIm, re[i], im[i]);
+		}
+		return result.toComplex();
+	}
+	
+	/**
+	 * Values at many points. Below MULTIPOINT_EVALUATION_THRESHOLD points this
+	 * is evaluateBatch; above it the points go into a ComplexSubproductTree
+	 * and the polynomial is reduced modulo the tree's nodes on the way down,
+	 * which takes O(n log^2 n) rather than O(n m) operations. The tree is
+	 * only accurate for points spread around the unit circle; for any others
+	 * it is abandoned early for Horner's rule (see ComplexSubproductTree).
+	 * @param points
+	 * @return the value at points[i] in position i
+	 */
+	public Complex[] evaluate(Complex[] points) {
+		double[] pointsRe = new double[points.length];
+		double[] pointsIm = new double[points.length];
+		for (int i = 0; i < points.length; i++) {
+			pointsRe[i] = points[i].real();
+			pointsIm[i] = points[i].imaginary();
+		}
+		double[] resultRe;
+		double[] resultIm;
+		if (points.length < MULTIPOINT_EVALUATION_THRESHOLD || 
+				degree() < Polynomial.MULTIPOINT_EVALUATION_MIN_DEGREE) {
+			resultRe = new double[points.length];
+			resultIm = new double[points.length];
+			horner(pointsRe, pointsIm, 0, points.length, resultRe, resultIm);
+		}
+		else {
+			ComplexVector values = new ComplexSubproductTree(pointsRe, pointsIm).evaluate(this);
+			resultRe = values.realParts();
+			resultIm = values.imaginaryParts();
+		}
+		Complex[] result = new Complex[points.length];
+		for (int i = 0; i < points.length; i++) {
+			result[i] = new Complex(resultRe[i], resultIm[i]);
 		}
 		return result;
 	}
 	
 	/**
-	 * For internal use only: Creates a polynomial with the given degree for which
-	 * all coefficients are set to the given value (Complex.ZERO is also allowed)
-	 * @param degree
-	 * @param coefficient
+	 * Horner's rule at every point, without allocating: entry j of out is set
+	 * to the value at entry j of points. Points are evaluated several at a
+	 * time, as in Polynomial.evaluateBatch.
+	 * @param points
+	 * @param out at least as long as points
 	 */
-	private ComplexPolynomial(int degree, Complex coefficient) {
-		this(degree);
-		for (int i = 0; i <= degree; i++) {
-			this.coefficients.add(coefficient);
+	public void evaluateBatch(ComplexVector points, ComplexVector out) {
+		if (out.length() < points.length()) {
+			throw new IllegalArgumentException("Output must have room for every point");
 		}
+		horner(points.realParts(), points.imaginaryParts(), 0, points.length(), 
+				out.realParts(), out.imaginaryParts());
 	}
 	
 	/**
-	 * Internal use only: Creates a polynomial with an empty coefficient list
-	 * with capacity for the given coefficients
-	 * @param degree
+	 * Horner's rule at the points [from, to), results to the same positions
+	 * of resultRe and resultIm
 	 */
-	private ComplexPolynomial(int degree) {
-		this.coefficients = new ArrayList<Complex>(degree + 1);
+	void horner(double[] pointsRe, double[] pointsIm, int from, int to, double[] resultRe, double[] resultIm) {
+		Polynomial.HORNER_KERNEL.evaluate(coefficients.realParts(), coefficients.imaginaryParts(), size, 
+				pointsRe, pointsIm, from, to, resultRe, resultIm);
 	}
 	
 	/**
-	 * The first input polynomial must have degree <= the degree of the second
+	 * @return the monic polynomial with the given roots
+	 */
+	static ComplexPolynomial fromRoots(double[] rootsRe, double[] rootsIm, int from, int to) {
+		ComplexVector result = new ComplexVector(to - from + 1);
+		double[] re = result.realParts();
+		double[] im = result.imaginaryParts();
+		re[0] = 1.0;
+		// multiply by (x - root) one root at a time
+		for (int k = 0; k < to - from; k++) {
+			double rootRe = rootsRe[from + k];
+			double rootIm = rootsIm[from + k];
+			re[k + 1] = re[k];
+			im[k + 1] = im[k];
+			for (int i = k; i >= 0; i--) {
+				double productRe = rootRe * re[i] - rootIm * im[i];
+				double productIm = rootRe * im[i] + rootIm * re[i];
+				re[i] = (i > 0 ? re[i - 1] : 0.0) - productRe;
+				im[i] = (i > 0 ? im[i - 1] : 0.0) - productIm;
+			}
+		}
+		return new ComplexPolynomial(result, result.length());
+	}
+	
+	double maxAbsCoefficient() {
+		double result = 0.0;
+		for (int i = 0; i < size; i++) {
+			result = Math.max(result, Math.hypot(coefficients.real(i), coefficients.imaginary(i)));
+		}
+		return result;
+	}
+	
+	/**
+	 * Polynomial division, as in Polynomial.divideAndRemainder
+	 * @param divisor
+	 * @return { quotient, remainder }
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	public ComplexPolynomial[] divideAndRemainder(ComplexPolynomial divisor) {
+		return divide(this, divisor);
+	}
+	
+	/**
+	 * Quotient of divideAndRemainder, without the product that the remainder
+	 * takes when dividing by Newton iteration
+	 * @param divisor
+	 * @return
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	public ComplexPolynomial div(ComplexPolynomial divisor) {
+		if (divisor.degree() < 0) {
+			throw new ArithmeticException("Division by the 0 polynomial");
+		}
+		if (degree() < divisor.degree()) {
+			return fromDegree(-1);
+		}
+		if (Polynomial.isNewtonDivision(degree(), divisor.degree())) {
+			return newtonQuotient(this, divisor);
+		}
+		return schoolDivide(this, divisor)[0];
+	}
+	
+	/**
+	 * Remainder of divideAndRemainder
+	 * @param divisor
+	 * @return
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	public ComplexPolynomial mod(ComplexPolynomial divisor) {
+		return divide(this, divisor)[1];
+	}
+	
+	/**
+	 * Schoolbook long division for small divisors or quotients, otherwise
+	 * Newton iteration
+	 * @return { quotient, remainder }
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	static ComplexPolynomial[] divide(ComplexPolynomial dividend, ComplexPolynomial divisor) {
+		if (divisor.degree() < 0) {
+			throw new ArithmeticException("Division by the 0 polynomial");
+		}
+		if (dividend.degree() < divisor.degree()) {
+			return new ComplexPolynomial[] { fromDegree(-1), dividend };
+		}
+		if (Polynomial.isNewtonDivision(dividend.degree(), divisor.degree())) {
+			return newtonDivide(dividend, divisor);
+		}
+		return schoolDivide(dividend, divisor);
+	}
+	
+	/**
+	 * Cf. Knuth, TAOCP vol. 2, 4.6.1, Algorithm D
+	 * @return { quotient, remainder }
+	 */
+	static ComplexPolynomial[] schoolDivide(ComplexPolynomial dividend, ComplexPolynomial divisor) {
+		int m = divisor.size - 1;
+		ComplexVector remainder = dividend.coefficients.copyOf(dividend.size);
+		ComplexVector quotient = new ComplexVector(dividend.size - m);
+		double[] rRe = remainder.realParts();
+		double[] rIm = remainder.imaginaryParts();
+		double[] qRe = quotient.realParts();
+		double[] qIm = quotient.imaginaryParts();
+		double[] bRe = divisor.coefficients.realParts();
+		double[] bIm = divisor.coefficients.imaginaryParts();
+		// multiply by 1 / lead rather than divide each time
+		double norm = bRe[m] * bRe[m] + bIm[m] * bIm[m];
+		double inverseRe = bRe[m] / norm;
+		double inverseIm = -bIm[m] / norm;
+		for (int k = qRe.length - 1; k >= 0; k--) {
+			double cRe = rRe[k + m] * inverseRe - rIm[k + m] * inverseIm;
+			double cIm = rRe[k + m] * inverseIm + rIm[k + m] * inverseRe;
+			qRe[k] = cRe;
+			qIm[k] = cIm;
+			for (int j = 0; j < m; j++) {
+				rRe[k + j] -= cRe * bRe[j] - cIm * bIm[j];
+				rIm[k + j] -= cRe * bIm[j] + cIm * bRe[j];
+			}
+		}
+		if (m == 0) {
+			return new ComplexPolynomial[] { new ComplexPolynomial(quotient, qRe.length), fromDegree(-1) };
+		}
+		return new ComplexPolynomial[] { new ComplexPolynomial(quotient, qRe.length), 
+				new ComplexPolynomial(remainder, m) };
+	}
+	
+	/**
+	 * Division by Newton iteration, as in Polynomial.newtonDivide
+	 * @return { quotient, remainder }
+	 */
+	static ComplexPolynomial[] newtonDivide(ComplexPolynomial dividend, ComplexPolynomial divisor) {
+		int m = divisor.size - 1;
+		ComplexPolynomial quotient = newtonQuotient(dividend, divisor);
+		ComplexPolynomial product = divisor.times(quotient);
+		ComplexVector remainder = new ComplexVector(Math.max(m, 1));
+		for (int i = 0; i < m; i++) {
+			remainder.set(i, dividend.coefficients.real(i) - (i < product.size ? product.coefficients.real(i) : 0.0),
+					dividend.coefficients.imaginary(i) - (i < product.size ? product.coefficients.imaginary(i) : 0.0));
+		}
+		return new ComplexPolynomial[] { quotient, new ComplexPolynomial(remainder, remainder.length()) };
+	}
+	
+	/**
+	 * @return the quotient of newtonDivide
+	 */
+	private static ComplexPolynomial newtonQuotient(ComplexPolynomial dividend, ComplexPolynomial divisor) {
+		int n = dividend.size - 1;
+		int m = divisor.size - 1;
+		int k = n - m + 1;
+		ComplexPolynomial inverse = inverseSeries(divisor.reversed(m + 1), k);
+		ComplexPolynomial reversedQuotient = dividend.reversed(n + 1).truncated(k).times(inverse).truncated(k);
+		return reversedQuotient.reversed(k);
+	}
+	
+	/**
+	 * @param f constant term non-zero
+	 * @param k
+	 * @return g with f g = 1 mod x^k, by the iteration g <- g (2 - f g),
+	 * taking the second product of halves as in Polynomial.inverseSeries
+	 */
+	static ComplexPolynomial inverseSeries(ComplexPolynomial f, int k) {
+		double norm = f.coefficients.real(0) * f.coefficients.real(0) + 
+				f.coefficients.imaginary(0) * f.coefficients.imaginary(0);
+		ComplexVector result = new ComplexVector(k);
+		result.set(0, f.coefficients.real(0) / norm, -f.coefficients.imaginary(0) / norm);
+		for (int precision = 1; precision < k; ) {
+			int next = Math.min(2 * precision, k);
+			ComplexPolynomial g = new ComplexPolynomial(result.copyOf(precision), precision);
+			ComplexPolynomial product = f.truncated(next).times(g);
+			ComplexVector e = new ComplexVector(next - precision);
+			for (int i = 0; i < e.length(); i++) {
+				if (precision + i < product.size) {
+					e.set(i, product.coefficients.real(precision + i), product.coefficients.imaginary(precision + i));
+				}
+			}
+			ComplexPolynomial correction = g.times(new ComplexPolynomial(e, e.length()));
+			for (int i = precision; i < next && i - precision < correction.size; i++) {
+				result.set(i, -correction.coefficients.real(i - precision), 
+						-correction.coefficients.imaginary(i - precision));
+			}
+			precision = next;
+		}
+		return new ComplexPolynomial(result, k);
+	}
+	
+	/**
+	 * @return x^(length - 1) p(1/x), length at least size
+	 */
+	private ComplexPolynomial reversed(int length) {
+		ComplexVector result = new ComplexVector(length);
+		for (int i = 0; i < size; i++) {
+			result.set(length - 1 - i, coefficients.real(i), coefficients.imaginary(i));
+		}
+		return new ComplexPolynomial(result, length);
+	}
+	
+	/**
+	 * @return this polynomial mod x^k
+	 */
+	private ComplexPolynomial truncated(int k) {
+		if (k >= size) {
+			return this;
+		}
+		return new ComplexPolynomial(coefficients.copyOf(k), k);
+	}
+	
+	/**
+	 * The first input polynomial must have degree >= the degree of the second
 	 * polynomial
-	 * @param smaller
 	 * @param larger
+	 * @param smaller
 	 * @return
 	 */
 	private static ComplexPolynomial add(ComplexPolynomial larger, ComplexPolynomial smaller) {
-		ComplexPolynomial result = new ComplexPolynomial(larger.coefficients);
-		for (int i = 0; i < smaller.coefficients.size(); i++) {
-			result.coefficients.set(i, smaller.coefficients.get(i).plus(larger.coefficients.get(i)));
+		ComplexVector result = larger.coefficients.copyOf(larger.size);
+		double[] re = result.realParts();
+		double[] im = result.imaginaryParts();
+		double[] smallerRe = smaller.coefficients.realParts();
+		double[] smallerIm = smaller.coefficients.imaginaryParts();
+		for (int i = 0; i < smaller.size; i++) {
+			re[i] += smallerRe[i];
+			im[i] += smallerIm[i];
 		}
-		trimZeroCoefficients(result.coefficients);
-		return result;
+		return new ComplexPolynomial(result, result.length());
 	}
 	
-	private static ComplexPolynomial subtract(ArrayList<Complex> first, ArrayList<Complex> second) {
-		ArrayList<Complex> resultCoefficients = new ArrayList<Complex>(first);
-		// pad first with 0s to make length at least the size of second
-		while (resultCoefficients.size() < second.size()) {
-			resultCoefficients.add(Complex.ZERO);
-		}
-		for (int i = 0; i < second.size(); i++) {
-			resultCoefficients.set(i, resultCoefficients.get(i).minus(second.get(i)));
+	/**
+	 * Neither input polynomial can be 0 (degree -1)
+	 * @param strategy
+	 * @param p1
+	 * @param p2
+	 * @param transform engine for the FFT-based strategies
+	 * @return
+	 */
+	static ComplexPolynomial multiply(MultiplyStrategy strategy, ComplexPolynomial p1, ComplexPolynomial p2, 
+			ComplexTransform transform) {
+		switch (strategy) {
+		case SCHOOLBOOK:
+			return schoolMultiply(p1, p2);
+		case KARATSUBA:
+		case TOOM_3:
+			return toomCookMultiply(strategy, p1, p2);
+		case FOURIER:
+			return fourierMultiply(p1, p2, transform);
+		case UNBALANCED:
+			return unbalancedMultiply(p1, p2, transform);
+		default:
+			throw new AssertionError(strategy);
 		}
-		return new ComplexPolynomial(resultCoefficients);
 	}
 	
 	/**
@@ -161,68 +574,151 @@ public class ComplexPolynomial {
 	 * @param p2
 	 * @return
 	 */
-	private static ComplexPolynomial schoolMultiply(ComplexPolynomial p1, ComplexPolynomial p2) {
-		int resultDegree = p1.degree() + p2.degree();
-		ComplexPolynomial result = new ComplexPolynomial(resultDegree, Complex.ZERO);
-		for (int i = 0; i < p1.coefficients.size(); i++) {
-			for (int j = 0; j < p2.coefficients.size(); j++) {
-				result.coefficients.set(i + j, result.coefficients.get(i + j) 
-						.plus(p1.coefficients.get(i).times(p2.coefficients.get(j))));
+	static ComplexPolynomial schoolMultiply(ComplexPolynomial p1, ComplexPolynomial p2) {
+		int resultSize = p1.size + p2.size - 1;
+		ComplexVector result = new ComplexVector(resultSize);
+		double[] re1 = p1.coefficients.realParts();
+		double[] im1 = p1.coefficients.imaginaryParts();
+		double[] re2 = p2.coefficients.realParts();
+		double[] im2 = p2.coefficients.imaginaryParts();
+		MutableComplex sum = new MutableComplex();
+		// one output coefficient at a time, so each is written exactly once
+		for (int k = 0; k < resultSize; k++) {
+			sum.set(0.0, 0.0);
+			for (int i = Math.max(0, k - p2.size + 1); i <= Math.min(k, p1.size - 1); i++) {
+				sum.addTimes(re1[i], im1[i], re2[k - i], im2[k - i]);
 			}
+			result.set(k, sum.real(), sum.imaginary());
 		}
-		trimZeroCoefficients(result.coefficients);
-		return result;
+		return new ComplexPolynomial(result, resultSize);
+	}
+	
+	/**
+	 * Neither input polynomial can be 0 (degree -1)
+	 * Three real products instead of four (Gauss): with p1 = a + bi and
+	 * p2 = c + di, k1 = c(a + b), k2 = a(d - c) and k3 = b(c + d) give
+	 * p1 p2 = (k1 - k3) + (k1 + k2)i.
+	 * @param strategy KARATSUBA or TOOM_3
+	 * @param p1
+	 * @param p2
+	 * @return
+	 */
+	static ComplexPolynomial toomCookMultiply(MultiplyStrategy strategy, ComplexPolynomial p1, 
+			ComplexPolynomial p2) {
+		double[] a = p1.coefficients.realParts();
+		double[] b = p1.coefficients.imaginaryParts();
+		double[] c = p2.coefficients.realParts();
+		double[] d = p2.coefficients.imaginaryParts();
+		double[] aPlusB = new double[p1.size];
+		for (int i = 0; i < p1.size; i++) {
+			aPlusB[i] = a[i] + b[i];
+		}
+		double[] dMinusC = new double[p2.size];
+		double[] cPlusD = new double[p2.size];
+		for (int i = 0; i < p2.size; i++) {
+			dMinusC[i] = d[i] - c[i];
+			cPlusD[i] = c[i] + d[i];
+		}
+		double[] k1 = ToomCook.multiply(strategy, c, p2.size, aPlusB, p1.size);
+		double[] k2 = ToomCook.multiply(strategy, a, p1.size, dMinusC, p2.size);
+		double[] k3 = ToomCook.multiply(strategy, b, p1.size, cPlusD, p2.size);
+		for (int i = 0; i < k1.length; i++) {
+			k2[i] += k1[i];
+			k1[i] -= k3[i];
+		}
+		return new ComplexPolynomial(ComplexVector.wrap(k1, k2), k1.length);
 	}
 	
 	/**
 	 * Neither input can be 0
+	 * Runs in place at the cheapest length the engine offers that holds the
+	 * product (for Fft, a smooth length; see FftLengths) rather than always
+	 * the next power of 2. The pointwise product is a single pass over the
+	 * two spectra.
 	 * @param p1
 	 * @param p2
+	 * @param transform
 	 * @return
 	 */
-	private static ComplexPolynomial fourierMultiply(ComplexPolynomial p1, ComplexPolynomial p2) {
-		int p1CoefficientsSize = p1.coefficients.size();
-		int p2CoefficientsSize = p2.coefficients.size();
-		int productArraySize = p1.degree() + p2.degree() + 1;
-		int powerOfTwo = 1;
-		while (powerOfTwo < productArraySize) {
-			powerOfTwo *= 2;
-		}
-		productArraySize = powerOfTwo;
-		Complex[] p1PaddedCoefficients = new Complex[productArraySize];
-		Complex[] p2PaddedCoefficients = new Complex[productArraySize];
-		for (int i = 0; i < productArraySize; i++) {
-			if (i < p1CoefficientsSize) {
-				p1PaddedCoefficients[i] = p1.coefficients.get(i);
-			}
-			else {
-				p1PaddedCoefficients[i] = Complex.ZERO;
-			}
-			if (i < p2CoefficientsSize) {
-				p2PaddedCoefficients[i] = p2.coefficients.get(i);
-			}
-			else {
-				p2PaddedCoefficients[i] = Complex.ZERO;
+	static ComplexPolynomial fourierMultiply(ComplexPolynomial p1, ComplexPolynomial p2, 
+			ComplexTransform transform) {
+		int resultSize = p1.size + p2.size - 1;
+		int n = transform.transformLength(resultSize);
+		ComplexVector values1 = p1.paddedCoefficients(n);
+		ComplexVector values2 = p2.paddedCoefficients(n);
+		transform.forward(values1.realParts(), values1.imaginaryParts());
+		transform.forward(values2.realParts(), values2.imaginaryParts());
+		values1.multiplyInPlace(values2);
+		transform.inverse(values1.realParts(), values1.imaginaryParts());
+		return new ComplexPolynomial(values1, resultSize);
+	}
+	
+	/**
+	 * Neither input can be 0
+	 * Overlap-add: the shorter operand is transformed once, and the longer
+	 * one block at a time, each block product being added into the result at
+	 * the block's offset. Apart from the result, only the buffers for one
+	 * block are allocated.
+	 * @param p1
+	 * @param p2
+	 * @param transform
+	 * @return
+	 */
+	static ComplexPolynomial unbalancedMultiply(ComplexPolynomial p1, ComplexPolynomial p2, 
+			ComplexTransform transform) {
+		ComplexPolynomial longer = p1.size >= p2.size ? p1 : p2;
+		ComplexPolynomial shorter = p1.size >= p2.size ? p2 : p1;
+		int m = shorter.size;
+		int n = transform.transformLength(MultiplyStrategy.blockTransformLength(m));
+		int block = n - m + 1;
+		ComplexVector spectrum = shorter.paddedCoefficients(n);
+		transform.forward(spectrum.realParts(), spectrum.imaginaryParts());
+		ComplexVector result = new ComplexVector(longer.size + m - 1);
+		double[] resultRe = result.realParts();
+		double[] resultIm = result.imaginaryParts();
+		double[] longerRe = longer.coefficients.realParts();
+		double[] longerIm = longer.coefficients.imaginaryParts();
+		ComplexVector values = new ComplexVector(n);
+		double[] re = values.realParts();
+		double[] im = values.imaginaryParts();
+		for (int start = 0; start < longer.size; start += block) {
+			int length = Math.min(block, longer.size - start);
+			System.arraycopy(longerRe, start, re, 0, length);
+			System.arraycopy(longerIm, start, im, 0, length);
+			Arrays.fill(re, length, n, 0.0);
+			Arrays.fill(im, length, n, 0.0);
+			transform.forward(re, im);
+			values.multiplyInPlace(spectrum);
+			transform.inverse(re, im);
+			for (int i = 0; i < length + m - 1; i++) {
+				resultRe[start + i] += re[i];
+				resultIm[start + i] += im[i];
 			}
 		}
-		Complex[] p1Values = recursiveFFT(p1PaddedCoefficients);
-		Complex[] p2Values = recursiveFFT(p2PaddedCoefficients);
-		Complex[] productValues = new Complex[productArraySize];
-		for (int i = 0; i < productArraySize; i++) {
-			productValues[i] = p1Values[i].times(p2Values[i]);
-		}
-		return new ComplexPolynomial(recursiveFFTInverse(productValues));
+		return new ComplexPolynomial(result, result.length());
+	}
+	
+	private ComplexVector paddedCoefficients(int n) {
+		ComplexVector result = new ComplexVector(n);
+		System.arraycopy(coefficients.realParts(), 0, result.realParts(), 0, size);
+		System.arraycopy(coefficients.imaginaryParts(), 0, result.imaginaryParts(), 0, size);
+		return result;
 	}
 
 	//The most significant coefficient cannot be 0 unless it is the 0 polynomial
-	private static void trimZeroCoefficients(ArrayList<Complex> _coefficients) {
-		while(_coefficients.get(_coefficients.size() - 1).equalWithinDelta(Complex.ZERO) &&
-				_coefficients.size() > 1) {
-			_coefficients.remove(_coefficients.size() - 1);
+	private static int trimmedSize(ComplexVector _coefficients, int size) {
+		while (size > 1 && isZero(_coefficients, size - 1)) {
+			size--;
 		}
+		return size;
+	}
+	
+	// same test as Complex.equalWithinDelta(Complex.ZERO)
+	private static boolean isZero(ComplexVector v, int i) {
+		return Math.abs(v.real(i)) < Complex.DELTA && Math.abs(v.imaginary(i)) < Complex.DELTA;
 	}
 	
-	private void validateCoefficients() {
+	private static void validateCoefficients(List<Complex> coefficients) {
 		for (Complex coefficient : coefficients) {
 			if (coefficient == null) {
 				throw new NullPointerException("Coefficient cannot be null");
@@ -232,6 +728,8 @@ public class ComplexPolynomial {
 	
 	/**
 	 * Implementation following to CLRS, p. 911
+	 * Powers of omega are read from the shared TwiddleCache rather than
+	 * accumulated by repeated multiplication.
 	 * 
 	 * @param a array representing a complex polynomial (often padded with 0s
 	 * to guarantee a power of 2
@@ -243,8 +741,7 @@ public class ComplexPolynomial {
 			return a;
 		}
 		int nOverTwo = n / 2;
-		Complex omegaN = Complex.fromPolar(1.0, 2.0 * Math.PI / n);
-		Complex omega = Complex.ONE;
+		Twiddles twiddles = TwiddleCache.shared().forSize(n);
 		Complex[] a0 = new Complex[nOverTwo];
 		Complex[] a1 = new Complex[nOverTwo];
 		for (int i = 0; i < nOverTwo; i++) {
@@ -255,9 +752,9 @@ public class ComplexPolynomial {
 		Complex[] y1 = recursiveFFT(a1);
 		Complex[] y = new Complex[n];
 		for (int i = 0; i < nOverTwo; i++) {
+			Complex omega = new Complex(twiddles.cos(i), twiddles.sin(i));
 			y[i] = y0[i].plus(omega.times(y1[i]));
 			y[i + nOverTwo] = y0[i].minus(omega.times(y1[i]));
-			omega = omega.times(omegaN);
 		}
 		return y;
 	}
@@ -284,8 +781,7 @@ public class ComplexPolynomial {
 			return y;
 		}
 		int nOverTwo = n / 2;
-		Complex omegaNReciprocal = Complex.fromPolar(1.0, -2.0 * Math.PI / n);
-		Complex omega = Complex.ONE;
+		Twiddles twiddles = TwiddleCache.shared().forSize(n);
 		Complex[] y0 = new Complex[nOverTwo];
 		Complex[] y1 = new Complex[nOverTwo];
 		for (int i = 0; i < nOverTwo; i++) {
@@ -296,9 +792,10 @@ public class ComplexPolynomial {
 		Complex[] a1 = recursiveFFTInverseInternal(y1);
 		Complex[] a = new Complex[n];
 		for (int i = 0; i < nOverTwo; i++) {
+			// omega_n^(-i) is the conjugate of omega_n^i
+			Complex omega = new Complex(twiddles.cos(i), -twiddles.sin(i));
 			a[i] = a0[i].plus(omega.times(a1[i]));
 			a[i + nOverTwo] = a0[i].minus(omega.times(a1[i]));
-			omega = omega.times(omegaNReciprocal);
 		}
 		return a;
 	}
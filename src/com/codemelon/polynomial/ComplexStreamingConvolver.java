@@ -0,0 +1,279 @@
+package com.codemelon.polynomial;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import com.codemelon.fft.ComplexTransform;
+import com.codemelon.fft.Fft;
+import com.codemelon.math.ComplexVector;
+
+/**
+ * StreamingConvolver for a complex filter and a complex stream, each held
+ * as real and imaginary parts. A real stream is a complex one with
+ * imaginary parts 0. Blocks go through one complex FFT of transformLength()
+ * points; the methods, latency and memory are those of StreamingConvolver.
+ *
+ * A convolver holds the state of one stream and is not thread-safe.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class ComplexStreamingConvolver {
+	private final StreamingConvolver.Method method;
+	private final ComplexTransform transform;
+	// number of filter coefficients
+	private final int m;
+	private final int block;
+	private final int n;
+	private final ComplexVector filterSpectrum;
+	// OVERLAP_ADD: tail of the last block product; OVERLAP_SAVE: last m - 1 inputs
+	private final double[] carryRe;
+	private final double[] carryIm;
+	private final double[] inputRe;
+	private final double[] inputIm;
+	private final double[] outputRe;
+	private final double[] outputIm;
+	private final ComplexVector values;
+	private final double[] re;
+	private final double[] im;
+	private int pending;
+	// true once any input has arrived since the last flush or reset
+	private boolean started;
+
+	/**
+	 * OVERLAP_SAVE with blocks of about 3 times the filter length
+	 * @param filter impulse response
+	 */
+	public ComplexStreamingConvolver(ComplexPolynomial filter) {
+		this(filter, StreamingConvolver.Method.OVERLAP_SAVE,
+				defaultBlockLength(filter.toVector().length(), Fft.sequential()));
+	}
+
+	/**
+	 * @param filter impulse response
+	 * @param method
+	 * @param blockLength input samples per transform, which bounds the
+	 * latency; at least 1
+	 */
+	public ComplexStreamingConvolver(ComplexPolynomial filter, StreamingConvolver.Method method, int blockLength) {
+		this(filter, method, blockLength, Fft.sequential());
+	}
+
+	/**
+	 * As ComplexStreamingConvolver(filter, method, blockLength), running the
+	 * FFTs on the given engine
+	 */
+	public ComplexStreamingConvolver(ComplexPolynomial filter, StreamingConvolver.Method method, int blockLength,
+			ComplexTransform transform) {
+		if (method == null) {
+			throw new NullPointerException("Method cannot be null");
+		}
+		if (blockLength < 1) {
+			throw new IllegalArgumentException("Block length must be positive");
+		}
+		ComplexVector h = filter.toVector();
+		this.method = method;
+		this.transform = transform;
+		this.m = h.length();
+		this.block = blockLength;
+		this.n = transform.transformLength(blockLength + m - 1);
+		this.filterSpectrum = h.copyOf(n);
+		transform.forward(filterSpectrum.realParts(), filterSpectrum.imaginaryParts());
+		this.carryRe = new double[m - 1];
+		this.carryIm = new double[m - 1];
+		this.inputRe = new double[blockLength];
+		this.inputIm = new double[blockLength];
+		this.outputRe = new double[blockLength];
+		this.outputIm = new double[blockLength];
+		this.values = new ComplexVector(n);
+		this.re = values.realParts();
+		this.im = values.imaginaryParts();
+	}
+
+	static int defaultBlockLength(int m, ComplexTransform transform) {
+		return transform.transformLength(MultiplyStrategy.blockTransformLength(m)) - m + 1;
+	}
+
+	public StreamingConvolver.Method method() {
+		return method;
+	}
+
+	/**
+	 * @return input samples per transform, one more than the greatest
+	 * latency
+	 */
+	public int blockLength() {
+		return block;
+	}
+
+	/**
+	 * @return length of the complex FFT run per block
+	 */
+	public int transformLength() {
+		return n;
+	}
+
+	/**
+	 * @return input samples waiting for their block to fill
+	 */
+	public int pending() {
+		return pending;
+	}
+
+	/**
+	 * Reads input and writes the outputs of every block it completes, until
+	 * either input is used up or output lacks room for the next block, in
+	 * which case input is left at the first sample not read.
+	 * @param inputRe
+	 * @param inputIm same number of samples remaining as inputRe
+	 * @param outputRe
+	 * @param outputIm
+	 * @return number of outputs written
+	 */
+	public int process(DoubleBuffer inputRe, DoubleBuffer inputIm, DoubleBuffer outputRe, DoubleBuffer outputIm) {
+		if (inputRe.remaining() != inputIm.remaining()) {
+			throw new IllegalArgumentException("Real and imaginary parts must have the same length");
+		}
+		int room = Math.min(outputRe.remaining(), outputIm.remaining());
+		int written = 0;
+		while (inputRe.hasRemaining()) {
+			int count = Math.min(block - pending, inputRe.remaining());
+			if (pending + count == block && room - written < block) {
+				break;
+			}
+			inputRe.get(this.inputRe, pending, count);
+			inputIm.get(this.inputIm, pending, count);
+			pending += count;
+			started = true;
+			if (pending == block) {
+				transformBlock();
+				outputRe.put(this.outputRe, 0, block);
+				outputIm.put(this.outputIm, 0, block);
+				written += block;
+				pending = 0;
+			}
+		}
+		return written;
+	}
+
+	/**
+	 * @param re real parts of the next input samples
+	 * @param im imaginary parts, same length as re
+	 * @return the outputs of every block the chunk completes
+	 */
+	public ComplexVector process(double[] re, double[] im) {
+		ComplexVector result = new ComplexVector((pending + re.length) / block * block);
+		process(DoubleBuffer.wrap(re), DoubleBuffer.wrap(im),
+				DoubleBuffer.wrap(result.realParts()), DoubleBuffer.wrap(result.imaginaryParts()));
+		return result;
+	}
+
+	/**
+	 * Ends the stream: writes the outputs of the pending samples followed by
+	 * the m - 1 outputs of the filter's tail, then resets the convolver for a
+	 * new stream. Nothing is written if no input has arrived.
+	 * @param outputRe
+	 * @param outputIm
+	 * @return number of outputs written
+	 * @throws BufferOverflowException if either output has fewer than
+	 * flushLength() samples remaining, in which case nothing is written
+	 */
+	public int flush(DoubleBuffer outputRe, DoubleBuffer outputIm) {
+		int total = flushLength();
+		if (outputRe.remaining() < total || outputIm.remaining() < total) {
+			throw new BufferOverflowException();
+		}
+		for (int remaining = total; remaining > 0; remaining -= block) {
+			Arrays.fill(inputRe, pending, block, 0.0);
+			Arrays.fill(inputIm, pending, block, 0.0);
+			transformBlock();
+			outputRe.put(this.outputRe, 0, Math.min(block, remaining));
+			outputIm.put(this.outputIm, 0, Math.min(block, remaining));
+			pending = 0;
+		}
+		reset();
+		return total;
+	}
+
+	/**
+	 * @return the rest of the output stream
+	 */
+	public ComplexVector flush() {
+		ComplexVector result = new ComplexVector(flushLength());
+		flush(DoubleBuffer.wrap(result.realParts()), DoubleBuffer.wrap(result.imaginaryParts()));
+		return result;
+	}
+
+	/**
+	 * @return number of outputs flush will write
+	 */
+	public int flushLength() {
+		return started ? pending + m - 1 : 0;
+	}
+
+	/**
+	 * Discards pending input and the history of the stream
+	 */
+	public void reset() {
+		Arrays.fill(carryRe, 0.0);
+		Arrays.fill(carryIm, 0.0);
+		pending = 0;
+		started = false;
+	}
+
+	/**
+	 * Convolves the full input block with the filter into output, updating
+	 * carry
+	 */
+	private void transformBlock() {
+		int overlap = m - 1;
+		if (method == StreamingConvolver.Method.OVERLAP_ADD) {
+			System.arraycopy(inputRe, 0, re, 0, block);
+			System.arraycopy(inputIm, 0, im, 0, block);
+			Arrays.fill(re, block, n, 0.0);
+			Arrays.fill(im, block, n, 0.0);
+			convolve();
+			for (int i = 0; i < block; i++) {
+				outputRe[i] = i < overlap ? re[i] + carryRe[i] : re[i];
+				outputIm[i] = i < overlap ? im[i] + carryIm[i] : im[i];
+			}
+			// the tail of this product plus whatever of the old tail reaches past the block
+			for (int i = 0; i < overlap; i++) {
+				boolean old = block + i < overlap;
+				carryRe[i] = old ? re[block + i] + carryRe[block + i] : re[block + i];
+				carryIm[i] = old ? im[block + i] + carryIm[block + i] : im[block + i];
+			}
+			return;
+		}
+		System.arraycopy(carryRe, 0, re, 0, overlap);
+		System.arraycopy(carryIm, 0, im, 0, overlap);
+		System.arraycopy(inputRe, 0, re, overlap, block);
+		System.arraycopy(inputIm, 0, im, overlap, block);
+		Arrays.fill(re, overlap + block, n, 0.0);
+		Arrays.fill(im, overlap + block, n, 0.0);
+		convolve();
+		System.arraycopy(re, overlap, outputRe, 0, block);
+		System.arraycopy(im, overlap, outputIm, 0, block);
+		if (block >= overlap) {
+			System.arraycopy(inputRe, block - overlap, carryRe, 0, overlap);
+			System.arraycopy(inputIm, block - overlap, carryIm, 0, overlap);
+		}
+		else {
+			System.arraycopy(carryRe, block, carryRe, 0, overlap - block);
+			System.arraycopy(carryIm, block, carryIm, 0, overlap - block);
+			System.arraycopy(inputRe, 0, carryRe, overlap - block, block);
+			System.arraycopy(inputIm, 0, carryIm, overlap - block, block);
+		}
+	}
+
+	/**
+	 * Replaces values with their circular convolution with the filter
+	 */
+	private void convolve() {
+		transform.forward(re, im);
+		values.multiplyInPlace(filterSpectrum);
+		transform.inverse(re, im);
+	}
+}
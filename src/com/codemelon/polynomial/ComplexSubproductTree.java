@@ -0,0 +1,141 @@
+package com.codemelon.polynomial;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.codemelon.math.ComplexVector;
+
+/**
+ * Subproduct tree over a set of complex points, built and used as
+ * SubproductTree is for real ones. Here the points are sorted by argument
+ * before being dealt to the nodes, so points spread around the unit circle
+ * give nodes close to x^k - c, which are perfectly conditioned: perturbed
+ * roots of unity stay within 1e-11 of Horner's rule up to 2^16 points as
+ * long as each is within a few spacings of its place. Uniformly random
+ * points, and points clustered anywhere, make the node coefficients grow
+ * past SubproductTree.MAX_COEFFICIENT, and those fall back to Horner's
+ * rule.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class ComplexSubproductTree {
+	static final int LEAF_SIZE = SubproductTree.LEAF_SIZE;
+
+	// points in tree order: node [from, to) holds the points in that range
+	private final double[] pointsRe;
+	private final double[] pointsIm;
+	// position in tree order of the caller's point i
+	private final int[] positions;
+	// null if the tree was abandoned
+	private final Node root;
+
+	ComplexSubproductTree(double[] pointsRe, double[] pointsIm) {
+		int n = pointsRe.length;
+		final double[] arguments = new double[n];
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			arguments[i] = Math.atan2(pointsIm[i], pointsRe[i]);
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				return Double.compare(arguments[i], arguments[j]);
+			}
+		});
+		int[] sorted = new int[n];
+		for (int i = 0; i < n; i++) {
+			sorted[i] = order[i];
+		}
+		SubproductTree.deal(sorted, 0, n, new int[n]);
+		this.pointsRe = new double[n];
+		this.pointsIm = new double[n];
+		this.positions = new int[n];
+		for (int i = 0; i < n; i++) {
+			this.pointsRe[i] = pointsRe[sorted[i]];
+			this.pointsIm[i] = pointsIm[sorted[i]];
+			this.positions[sorted[i]] = i;
+		}
+		this.root = build(0, n);
+	}
+
+	/**
+	 * @return false if the tree was abandoned for Horner's rule
+	 */
+	boolean isConditioned() {
+		return root != null;
+	}
+
+	/**
+	 * @param f
+	 * @return the value of f at point i in position i
+	 */
+	ComplexVector evaluate(ComplexPolynomial f) {
+		int n = pointsRe.length;
+		double[] valuesRe = new double[n];
+		double[] valuesIm = new double[n];
+		if (root == null) {
+			f.horner(pointsRe, pointsIm, 0, n, valuesRe, valuesIm);
+		}
+		else {
+			descend(root, f.mod(root.product), valuesRe, valuesIm);
+		}
+		ComplexVector result = new ComplexVector(n);
+		for (int i = 0; i < n; i++) {
+			result.set(i, valuesRe[positions[i]], valuesIm[positions[i]]);
+		}
+		return result;
+	}
+
+	/**
+	 * @param remainder f modulo the node's product
+	 */
+	private void descend(Node node, ComplexPolynomial remainder, double[] valuesRe, double[] valuesIm) {
+		if (node.left == null) {
+			remainder.horner(pointsRe, pointsIm, node.from, node.to, valuesRe, valuesIm);
+			return;
+		}
+		descend(node.left, remainder.mod(node.left.product), valuesRe, valuesIm);
+		descend(node.right, remainder.mod(node.right.product), valuesRe, valuesIm);
+	}
+
+	/**
+	 * @return the node for points [from, to), null if any node below it
+	 * exceeds SubproductTree.MAX_COEFFICIENT
+	 */
+	private Node build(int from, int to) {
+		Node result;
+		if (to - from <= LEAF_SIZE) {
+			result = new Node(from, to, ComplexPolynomial.fromRoots(pointsRe, pointsIm, from, to), null, null);
+		}
+		else {
+			int middle = SubproductTree.middle(from, to);
+			Node left = build(from, middle);
+			Node right = left == null ? null : build(middle, to);
+			if (right == null) {
+				return null;
+			}
+			result = new Node(from, to, left.product.times(right.product), left, right);
+		}
+		return result.product.maxAbsCoefficient() > SubproductTree.MAX_COEFFICIENT ? null : result;
+	}
+
+	private static final class Node {
+		private final int from;
+		private final int to;
+		private final ComplexPolynomial product;
+		// both null at a leaf
+		private final Node left;
+		private final Node right;
+
+		private Node(int from, int to, ComplexPolynomial product, Node left, Node right) {
+			this.from = from;
+			this.to = to;
+			this.product = product;
+			this.left = left;
+			this.right = right;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.codemelon.polynomial;
+
+/**
+ * Inner loop of batched Horner evaluation: one polynomial at many points.
+ * For every point the value is accumulated as acc = acc * x + c, coefficient
+ * by coefficient from the leading one down, with a separate multiply and add
+ * (never a fused multiply-add), so that every implementation gives the same
+ * bits as SCALAR.
+ *
+ * The implementation in use is found by VectorKernels; see Polynomial and
+ * ComplexPolynomial evaluateBatch.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public interface HornerKernel {
+	/**
+	 * Plain Java loops, always available
+	 */
+	HornerKernel SCALAR = new ScalarHornerKernel();
+
+	/**
+	 * Real coefficients at real points
+	 * @param coefficients coefficient of x^i at index i
+	 * @param size number of coefficients to use, at least 1
+	 * @param xs
+	 * @param from first point
+	 * @param to end of the points, exclusive
+	 * @param out value at xs[j] to out[j]
+	 */
+	void evaluate(double[] coefficients, int size, double[] xs, int from, int to, double[] out);
+
+	/**
+	 * Complex coefficients at complex points, in split arrays
+	 */
+	void evaluate(double[] coefficientsRe, double[] coefficientsIm, int size, double[] xsRe, double[] xsIm, 
+			int from, int to, double[] outRe, double[] outIm);
+}
@@ -0,0 +1,168 @@
+package com.codemelon.polynomial;
+
+import java.util.Arrays;
+
+/**
+ * Polynomials with integer coefficients, held unboxed in a long[], with
+ * exact arithmetic: sums and products are computed in full or throw
+ * ArithmeticException if a coefficient overflows a long, never rounded the
+ * way the double FFT behind Polynomial.times rounds once products pass
+ * 2^53.
+ *
+ * times multiplies by schoolbook for short operands and otherwise by number
+ * theoretic transforms mod up to six word-sized primes with Montgomery
+ * arithmetic (com.codemelon.fft.Ntt), recombined by the Chinese remainder
+ * theorem (NttConvolution). The number of primes follows from the size of
+ * the coefficients, so small ones cost as few as one transform per operand
+ * and prime. An NTT of n points is about as fast as a complex FFT of n
+ * points, but Polynomial.times transforms real data at half length, so where
+ * both are exact the double product is still some 3 to 5 times faster.
+ *
+ * LongPolynomials are immutable.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class LongPolynomial {
+	/**
+	 * times uses schoolbook multiplication while the shorter operand has
+	 * fewer coefficients than this and the product cannot overflow; the
+	 * loop has no reductions, so it stays ahead of a two-prime NTT for
+	 * longer than the double schoolbook stays ahead of the FFT
+	 */
+	static final int SCHOOLBOOK_THRESHOLD = 512;
+	// trimmed: the leading entry is non-zero unless this is the 0 polynomial
+	private final long[] coefficients;
+
+	/**
+	 * Internal use only: adopts the given array without copying. The caller
+	 * must not modify it afterwards.
+	 */
+	private LongPolynomial(long[] coefficients) {
+		this.coefficients = coefficients;
+	}
+
+	/**
+	 * Copies the given coefficients, so later changes to the array do not
+	 * affect the polynomial
+	 * @param coefficients coefficient of x^i at index i, at least 1 of them
+	 * @return
+	 */
+	public static LongPolynomial fromArray(long[] coefficients) {
+		if (coefficients == null || coefficients.length == 0) {
+			throw new IllegalArgumentException("Polynomial must have at least 1 coefficient");
+		}
+		return trimmed(coefficients.clone());
+	}
+
+	private static LongPolynomial trimmed(long[] coefficients) {
+		int size = coefficients.length;
+		while (size > 1 && coefficients[size - 1] == 0L) {
+			size--;
+		}
+		return new LongPolynomial(size == coefficients.length ? coefficients : Arrays.copyOf(coefficients, size));
+	}
+
+	/**
+	 * The 0 polynomial is taken to have degree -1
+	 */
+	public int degree() {
+		if (coefficients.length > 1 || coefficients[0] != 0L) {
+			return coefficients.length - 1;
+		}
+		return -1;
+	}
+
+	public long coefficient(int i) {
+		if (i < 0) {
+			throw new IllegalArgumentException("Coefficient index must be non-negative");
+		}
+		if (i >= coefficients.length) {
+			return 0L;
+		}
+		return coefficients[i];
+	}
+
+	/**
+	 * @return a new array holding the coefficients up to and including the
+	 * leading one (a single 0 for the 0 polynomial)
+	 */
+	public long[] toArray() {
+		return coefficients.clone();
+	}
+
+	/**
+	 * @return the same polynomial with double coefficients, rounded if they
+	 * exceed 2^53
+	 */
+	public Polynomial toPolynomial() {
+		double[] values = new double[coefficients.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = coefficients[i];
+		}
+		return Polynomial.fromArray(values);
+	}
+
+	/**
+	 * @param p
+	 * @return
+	 * @throws ArithmeticException if a coefficient of the sum overflows
+	 */
+	public LongPolynomial plus(LongPolynomial p) {
+		long[] longer = coefficients.length >= p.coefficients.length ? coefficients : p.coefficients;
+		long[] shorter = coefficients.length >= p.coefficients.length ? p.coefficients : coefficients;
+		long[] result = longer.clone();
+		for (int i = 0; i < shorter.length; i++) {
+			result[i] = Math.addExact(result[i], shorter[i]);
+		}
+		return trimmed(result);
+	}
+
+	/**
+	 * @param p
+	 * @return
+	 * @throws ArithmeticException if a coefficient of the product overflows
+	 */
+	public LongPolynomial times(LongPolynomial p) {
+		if (degree() < 0 || p.degree() < 0) {
+			return new LongPolynomial(new long[1]);
+		}
+		long[] a = coefficients;
+		long[] b = p == this ? a : p.coefficients;
+		// arithmetic mod 2^64 is exact when the bound says nothing overflows
+		if (Math.min(a.length, b.length) < SCHOOLBOOK_THRESHOLD && NttConvolution.boundBits(a, b) < 62.0) {
+			return new LongPolynomial(schoolMultiply(a, b));
+		}
+		return new LongPolynomial(NttConvolution.multiply(a, b));
+	}
+
+	/**
+	 * Products wrap mod 2^64
+	 */
+	static long[] schoolMultiply(long[] a, long[] b) {
+		long[] result = new long[a.length + b.length - 1];
+		for (int i = 0; i < a.length; i++) {
+			long c = a[i];
+			for (int j = 0; j < b.length; j++) {
+				result[i + j] += c * b[j];
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof LongPolynomial && Arrays.equals(coefficients, ((LongPolynomial) o).coefficients);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(coefficients);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(coefficients);
+	}
+}
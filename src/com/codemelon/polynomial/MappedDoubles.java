@@ -0,0 +1,158 @@
+package com.codemelon.polynomial;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An array of doubles of long length held in a memory-mapped file, the
+ * value at index i being the 8 bytes at file offset 8 i. A single mapping
+ * is limited to 2 GiB, so the file is mapped in segments of 2^shift
+ * doubles (1 GiB by default), and the bulk operations split ranges at
+ * segment boundaries.
+ *
+ * The mappings stay valid after the file is closed and are released when
+ * the MappedDoubles is garbage collected; there is no way to unmap them
+ * earlier. Bulk operations move the position of a shared view, so a
+ * MappedDoubles is not thread-safe.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class MappedDoubles {
+	static final int SEGMENT_SHIFT = 27;
+
+	private final MappedByteBuffer[] mappings;
+	private final DoubleBuffer[] segments;
+	private final long length;
+	private final int shift;
+	private final int mask;
+
+	private MappedDoubles(MappedByteBuffer[] mappings, DoubleBuffer[] segments, long length, int shift) {
+		this.mappings = mappings;
+		this.segments = segments;
+		this.length = length;
+		this.shift = shift;
+		this.mask = (1 << shift) - 1;
+	}
+
+	/**
+	 * Maps an existing file in full
+	 * @param file size a positive multiple of 8 bytes
+	 * @param order byte order of the values in the file
+	 */
+	static MappedDoubles open(Path file, ByteOrder order) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			long size = channel.size();
+			if (size == 0 || size % 8 != 0) {
+				throw new IllegalArgumentException("File size must be a positive multiple of 8 bytes");
+			}
+			return map(channel, size / 8, order, SEGMENT_SHIFT);
+		}
+	}
+
+	/**
+	 * Creates the file, replacing any existing one, and maps it
+	 * @param file
+	 * @param length at least 1; every value starts at 0.0
+	 * @param order
+	 */
+	static MappedDoubles create(Path file, long length, ByteOrder order) throws IOException {
+		return create(file, length, order, SEGMENT_SHIFT);
+	}
+
+	static MappedDoubles create(Path file, long length, ByteOrder order, int shift) throws IOException {
+		if (length < 1) {
+			throw new IllegalArgumentException("Length must be positive");
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			return map(channel, length, order, shift);
+		}
+	}
+
+	/**
+	 * Mapping read-write past the end of the file extends it with 0s
+	 */
+	private static MappedDoubles map(FileChannel channel, long length, ByteOrder order, int shift)
+			throws IOException {
+		int count = (int) ((length - 1 >>> shift) + 1);
+		MappedByteBuffer[] mappings = new MappedByteBuffer[count];
+		DoubleBuffer[] segments = new DoubleBuffer[count];
+		for (int s = 0; s < count; s++) {
+			long first = (long) s << shift;
+			long size = Math.min(1L << shift, length - first);
+			mappings[s] = channel.map(FileChannel.MapMode.READ_WRITE, 8 * first, 8 * size);
+			mappings[s].order(order);
+			segments[s] = mappings[s].asDoubleBuffer();
+		}
+		return new MappedDoubles(mappings, segments, length, shift);
+	}
+
+	long length() {
+		return length;
+	}
+
+	double get(long i) {
+		return segments[(int) (i >>> shift)].get((int) i & mask);
+	}
+
+	void set(long i, double value) {
+		segments[(int) (i >>> shift)].put((int) i & mask, value);
+	}
+
+	/**
+	 * Copies values [from, from + count) into dst starting at offset
+	 */
+	void get(long from, double[] dst, int offset, int count) {
+		checkRange(from, count);
+		while (count > 0) {
+			DoubleBuffer segment = segments[(int) (from >>> shift)];
+			int start = (int) from & mask;
+			int n = Math.min(count, segment.capacity() - start);
+			segment.position(start);
+			segment.get(dst, offset, n);
+			from += n;
+			offset += n;
+			count -= n;
+		}
+	}
+
+	/**
+	 * Copies count values of src, starting at offset, to [from, from + count)
+	 */
+	void put(long from, double[] src, int offset, int count) {
+		checkRange(from, count);
+		while (count > 0) {
+			DoubleBuffer segment = segments[(int) (from >>> shift)];
+			int start = (int) from & mask;
+			int n = Math.min(count, segment.capacity() - start);
+			segment.position(start);
+			segment.put(src, offset, n);
+			from += n;
+			offset += n;
+			count -= n;
+		}
+	}
+
+	/**
+	 * Writes any changes through to the file
+	 */
+	void force() {
+		for (MappedByteBuffer mapping : mappings) {
+			mapping.force();
+		}
+	}
+
+	private void checkRange(long from, int count) {
+		if (from < 0 || count < 0 || from + count > length) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + (from + count) + ") outside [0, "
+					+ length + ")");
+		}
+	}
+}
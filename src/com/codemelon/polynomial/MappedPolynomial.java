@@ -0,0 +1,213 @@
+package com.codemelon.polynomial;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+/**
+ * Polynomial with real coefficients held in a memory-mapped file rather
+ * than on the heap, for polynomials too long for a double[] or for memory.
+ * The file is nothing but the coefficients as little-endian IEEE 754
+ * doubles, the coefficient of x^i at byte 8 i, so length() is the file size
+ * over 8 and any tool that writes raw doubles can produce one.
+ *
+ * Coefficients are read and written in place through the mapping; the
+ * operating system pages them in and out, so the heap holds none of them.
+ * times writes the product straight to a new file by an out-of-core FFT
+ * (OutOfCoreConvolution) whose heap use is bounded by a working memory
+ * budget, so the size of a product is limited by disk rather than heap:
+ * besides the output file it needs scratch space of 16 N bytes per factor,
+ * N being the least power of 2 of at least the product's length.
+ *
+ * Unlike Polynomial, a MappedPolynomial is mutable and keeps trailing zero
+ * coefficients, which count towards length() but not degree(). The mapping
+ * is released only when the object is garbage collected. A MappedPolynomial
+ * is not thread-safe.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class MappedPolynomial {
+	/**
+	 * Heap used by times unless told otherwise: 64 MiB
+	 */
+	public static final long DEFAULT_WORKING_MEMORY = 64L << 20;
+	static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	private final Path file;
+	private final MappedDoubles coefficients;
+
+	private MappedPolynomial(Path file, MappedDoubles coefficients) {
+		this.file = file;
+		this.coefficients = coefficients;
+	}
+
+	/**
+	 * Maps an existing coefficient file
+	 * @param file size a positive multiple of 8 bytes
+	 * @return
+	 * @throws IOException
+	 */
+	public static MappedPolynomial open(Path file) throws IOException {
+		return new MappedPolynomial(file, MappedDoubles.open(file, BYTE_ORDER));
+	}
+
+	/**
+	 * Creates a coefficient file, replacing any existing one, with every
+	 * coefficient 0
+	 * @param file
+	 * @param length number of coefficients, at least 1
+	 * @return
+	 * @throws IOException
+	 */
+	public static MappedPolynomial create(Path file, long length) throws IOException {
+		return new MappedPolynomial(file, MappedDoubles.create(file, length, BYTE_ORDER));
+	}
+
+	/**
+	 * Writes the coefficients of p, up to and including the leading one, to a
+	 * new coefficient file
+	 * @param file replaced if it exists
+	 * @param p
+	 * @return
+	 * @throws IOException
+	 */
+	public static MappedPolynomial write(Path file, Polynomial p) throws IOException {
+		double[] values = p.toArray();
+		MappedPolynomial result = create(file, values.length);
+		result.coefficients.put(0, values, 0, values.length);
+		return result;
+	}
+
+	public Path file() {
+		return file;
+	}
+
+	/**
+	 * @return number of coefficients in the file
+	 */
+	public long length() {
+		return coefficients.length();
+	}
+
+	/**
+	 * Scans back from the end of the file for the leading coefficient
+	 * @return degree, -1 for the 0 polynomial
+	 */
+	public long degree() {
+		long i = coefficients.length() - 1;
+		while (i >= 0 && Math.abs(coefficients.get(i)) < Polynomial.DELTA) {
+			i--;
+		}
+		return i;
+	}
+
+	/**
+	 * @param i
+	 * @return coefficient of x^i, 0.0 beyond the end of the file
+	 */
+	public double coefficient(long i) {
+		if (i < 0) {
+			throw new IllegalArgumentException("Coefficient index must be non-negative");
+		}
+		if (i >= coefficients.length()) {
+			return 0.0;
+		}
+		return coefficients.get(i);
+	}
+
+	/**
+	 * @param i less than length()
+	 * @param value new coefficient of x^i
+	 */
+	public void setCoefficient(long i, double value) {
+		if (i < 0 || i >= coefficients.length()) {
+			throw new IndexOutOfBoundsException("Coefficient index " + i + " outside the file");
+		}
+		coefficients.set(i, value);
+	}
+
+	/**
+	 * Copies coefficients [from, from + count) into dst
+	 * @param from
+	 * @param dst
+	 * @param offset index in dst of the first coefficient
+	 * @param count
+	 */
+	public void read(long from, double[] dst, int offset, int count) {
+		if (offset < 0 || offset + count > dst.length) {
+			throw new IndexOutOfBoundsException("Range outside the destination array");
+		}
+		coefficients.get(from, dst, offset, count);
+	}
+
+	/**
+	 * Replaces coefficients [from, from + count) with those of src
+	 * @param from
+	 * @param src
+	 * @param offset index in src of the first coefficient
+	 * @param count
+	 */
+	public void write(long from, double[] src, int offset, int count) {
+		if (offset < 0 || offset + count > src.length) {
+			throw new IndexOutOfBoundsException("Range outside the source array");
+		}
+		coefficients.put(from, src, offset, count);
+	}
+
+	/**
+	 * Writes changes to the coefficients through to the file
+	 */
+	public void force() {
+		coefficients.force();
+	}
+
+	/**
+	 * @return the polynomial on the heap
+	 * @throws IllegalStateException if the coefficients up to the leading one
+	 * do not fit in an array
+	 */
+	public Polynomial toPolynomial() {
+		long size = Math.max(1L, degree() + 1);
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Polynomial is too long for an array");
+		}
+		double[] values = new double[(int) size];
+		coefficients.get(0, values, 0, values.length);
+		return Polynomial.fromArray(values);
+	}
+
+	/**
+	 * As times(p, output, DEFAULT_WORKING_MEMORY)
+	 */
+	public MappedPolynomial times(MappedPolynomial p, Path output) throws IOException {
+		return times(p, output, DEFAULT_WORKING_MEMORY);
+	}
+
+	/**
+	 * Multiplies by an out-of-core FFT, with scratch files in the directory
+	 * of output. p may be this polynomial, which saves a transform and a
+	 * scratch file.
+	 * @param p
+	 * @param output coefficient file of the product, length() + p.length() - 1
+	 * coefficients; replaced if it exists and must not be the file of a
+	 * factor
+	 * @param workingMemory bytes of heap for transform data; at least a
+	 * row of the transform matrix and 512 of its columns (8 KiB per row) are
+	 * held whatever the budget
+	 * @return the product, mapped
+	 * @throws IOException
+	 */
+	public MappedPolynomial times(MappedPolynomial p, Path output, long workingMemory) throws IOException {
+		Path target = output.toAbsolutePath().normalize();
+		if (target.equals(file.toAbsolutePath().normalize()) || target.equals(p.file.toAbsolutePath().normalize())) {
+			throw new IllegalArgumentException("Output cannot be the file of a factor");
+		}
+		long length = length() + p.length() - 1;
+		MappedPolynomial result = create(output, length);
+		OutOfCoreConvolution convolution = new OutOfCoreConvolution(length, workingMemory);
+		convolution.multiply(coefficients, p.coefficients, result.coefficients, target.getParent());
+		return result;
+	}
+}
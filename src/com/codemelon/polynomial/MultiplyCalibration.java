@@ -0,0 +1,162 @@
+package com.codemelon.polynomial;
+
+import java.util.Random;
+
+import com.codemelon.fft.Fft;
+import com.codemelon.math.Complex;
+
+/**
+ * Fits a MultiplyCostModel by timing every strategy on random operands of a
+ * few balanced and unbalanced sizes. Takes under a second.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class MultiplyCalibration {
+	// operand sizes (coefficient counts) timed for every strategy
+	private static final int[][] SIZES = {
+		{ 16, 16 }, { 64, 64 }, { 256, 256 }, { 1024, 1024 }, { 16, 1024 }, { 64, 4096 }, { 8, 16384 }
+	};
+	private static final long MIN_TRIAL_NANOS = 1000000L;
+	private static final int TRIALS = 5;
+
+	private MultiplyCalibration() {
+	}
+
+	/**
+	 * One pair of operands, multiplied by whichever strategy is asked for
+	 */
+	private abstract static class Operands {
+		abstract void multiply(MultiplyStrategy strategy);
+	}
+
+	static MultiplyCostModel real() {
+		Random random = new Random(1);
+		Operands[] operands = new Operands[SIZES.length];
+		for (int i = 0; i < SIZES.length; i++) {
+			final Polynomial p1 = Polynomial.fromArray(randomArray(random, SIZES[i][0]));
+			final Polynomial p2 = Polynomial.fromArray(randomArray(random, SIZES[i][1]));
+			operands[i] = new Operands() {
+				@Override
+				void multiply(MultiplyStrategy strategy) {
+					Polynomial.multiply(strategy, p1, p2, Fft.sequential());
+				}
+			};
+		}
+		return fit(operands);
+	}
+
+	static MultiplyCostModel complex() {
+		Random random = new Random(2);
+		Operands[] operands = new Operands[SIZES.length];
+		for (int i = 0; i < SIZES.length; i++) {
+			final ComplexPolynomial p1 = new ComplexPolynomial(randomComplex(random, SIZES[i][0]));
+			final ComplexPolynomial p2 = new ComplexPolynomial(randomComplex(random, SIZES[i][1]));
+			operands[i] = new Operands() {
+				@Override
+				void multiply(MultiplyStrategy strategy) {
+					ComplexPolynomial.multiply(strategy, p1, p2, Fft.sequential());
+				}
+			};
+		}
+		return fit(operands);
+	}
+
+	private static MultiplyCostModel fit(Operands[] operands) {
+		MultiplyStrategy[] strategies = MultiplyStrategy.values();
+		// one full pass untimed so that every path is compiled before it is
+		// measured
+		for (Operands pair : operands) {
+			for (MultiplyStrategy strategy : strategies) {
+				time(pair, strategy);
+			}
+		}
+		double[] nanosPerUnit = new double[strategies.length];
+		double[] overheadNanos = new double[strategies.length];
+		for (MultiplyStrategy strategy : strategies) {
+			double[] work = new double[operands.length];
+			double[] nanos = new double[operands.length];
+			for (int i = 0; i < operands.length; i++) {
+				work[i] = strategy.work(SIZES[i][0], SIZES[i][1]);
+				nanos[i] = time(operands[i], strategy);
+			}
+			double[] line = leastSquares(work, nanos);
+			nanosPerUnit[strategy.ordinal()] = line[0];
+			overheadNanos[strategy.ordinal()] = line[1];
+		}
+		return new MultiplyCostModel(nanosPerUnit, overheadNanos);
+	}
+
+	/**
+	 * @return best of TRIALS average times per product, each trial running
+	 * long enough for the clock to be accurate
+	 */
+	private static double time(Operands pair, MultiplyStrategy strategy) {
+		double best = Double.POSITIVE_INFINITY;
+		int runs = 1;
+		for (int trial = 0; trial < TRIALS; ) {
+			long start = System.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				pair.multiply(strategy);
+			}
+			long elapsed = System.nanoTime() - start;
+			if (elapsed < MIN_TRIAL_NANOS) {
+				runs *= 2;
+				continue;
+			}
+			best = Math.min(best, (double) elapsed / runs);
+			trial++;
+		}
+		return best;
+	}
+
+	/**
+	 * Fits nanos = slope * work + intercept, minimizing the relative rather
+	 * than the absolute error so that the small sizes, where the choice is
+	 * closest, count as much as the large ones. The slope is kept positive
+	 * and the intercept non-negative.
+	 * @return { slope, intercept }
+	 */
+	static double[] leastSquares(double[] work, double[] nanos) {
+		// weighted normal equations with weights 1 / nanos^2
+		double sw = 0.0;
+		double sx = 0.0;
+		double sy = 0.0;
+		double sxx = 0.0;
+		double sxy = 0.0;
+		for (int i = 0; i < work.length; i++) {
+			double weight = 1.0 / (nanos[i] * nanos[i]);
+			sw += weight;
+			sx += weight * work[i];
+			sy += weight * nanos[i];
+			sxx += weight * work[i] * work[i];
+			sxy += weight * work[i] * nanos[i];
+		}
+		double determinant = sw * sxx - sx * sx;
+		double slope = determinant > 0.0 ? (sw * sxy - sx * sy) / determinant : 0.0;
+		double intercept = determinant > 0.0 ? (sy - slope * sx) / sw : -1.0;
+		if (intercept < 0.0 || slope <= 0.0) {
+			// line through the origin instead
+			slope = sxy / sxx;
+			intercept = 0.0;
+		}
+		return new double[] { Math.max(slope, Double.MIN_NORMAL), intercept };
+	}
+
+	private static double[] randomArray(Random random, int n) {
+		double[] result = new double[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = random.nextDouble() - 0.5;
+		}
+		return result;
+	}
+
+	private static Complex[] randomComplex(Random random, int n) {
+		Complex[] result = new Complex[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = new Complex(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+		}
+		return result;
+	}
+}
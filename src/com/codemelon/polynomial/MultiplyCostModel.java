@@ -0,0 +1,144 @@
+package com.codemelon.polynomial;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Predicts the running time of each MultiplyStrategy as
+ * nanosPerUnit * work + overheadNanos, where work is the strategy's own
+ * function of the operand sizes, and picks the cheapest. The two constants
+ * per strategy come from built-in defaults, from timing each strategy on the
+ * running JVM (see MultiplyDispatcher.calibrate), or from a stored profile.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class MultiplyCostModel {
+
+	// indexed by MultiplyStrategy.ordinal()
+	private final double[] nanosPerUnit;
+	private final double[] overheadNanos;
+
+	/**
+	 * @param nanosPerUnit indexed by MultiplyStrategy.ordinal(), each
+	 * positive
+	 * @param overheadNanos indexed by MultiplyStrategy.ordinal(), each
+	 * non-negative
+	 */
+	MultiplyCostModel(double[] nanosPerUnit, double[] overheadNanos) {
+		int strategies = MultiplyStrategy.values().length;
+		if (nanosPerUnit.length != strategies || overheadNanos.length != strategies) {
+			throw new IllegalArgumentException("One cost per strategy is required");
+		}
+		for (int i = 0; i < strategies; i++) {
+			if (!(nanosPerUnit[i] > 0.0) || !(overheadNanos[i] >= 0.0)) {
+				throw new IllegalArgumentException("Costs must be positive and overheads non-negative");
+			}
+		}
+		this.nanosPerUnit = nanosPerUnit.clone();
+		this.overheadNanos = overheadNanos.clone();
+	}
+
+	public double nanosPerUnit(MultiplyStrategy strategy) {
+		return nanosPerUnit[strategy.ordinal()];
+	}
+
+	public double overheadNanos(MultiplyStrategy strategy) {
+		return overheadNanos[strategy.ordinal()];
+	}
+
+	/**
+	 * @param strategy
+	 * @param degree1 degree of one operand, at least 0
+	 * @param degree2 degree of the other operand, at least 0
+	 * @return predicted running time in nanoseconds
+	 */
+	public double estimate(MultiplyStrategy strategy, int degree1, int degree2) {
+		if (degree1 < 0 || degree2 < 0) {
+			throw new IllegalArgumentException("Operands cannot be the 0 polynomial");
+		}
+		int i = strategy.ordinal();
+		return nanosPerUnit[i] * strategy.work(degree1 + 1, degree2 + 1) + overheadNanos[i];
+	}
+
+	/**
+	 * @return the predicted running time of every strategy, in nanoseconds
+	 */
+	public Map<MultiplyStrategy, Double> estimates(int degree1, int degree2) {
+		Map<MultiplyStrategy, Double> result = new EnumMap<MultiplyStrategy, Double>(MultiplyStrategy.class);
+		for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+			result.put(strategy, estimate(strategy, degree1, degree2));
+		}
+		return result;
+	}
+
+	/**
+	 * @return the strategy with the lowest predicted running time
+	 */
+	public MultiplyStrategy choose(int degree1, int degree2) {
+		MultiplyStrategy best = null;
+		double bestNanos = Double.POSITIVE_INFINITY;
+		for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+			double nanos = estimate(strategy, degree1, degree2);
+			if (nanos < bestNanos) {
+				best = strategy;
+				bestNanos = nanos;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Writes the constants as prefix.STRATEGY.nanosPerUnit and
+	 * prefix.STRATEGY.overheadNanos
+	 */
+	void store(Properties properties, String prefix) {
+		for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+			properties.setProperty(prefix + "." + strategy + ".nanosPerUnit", 
+					Double.toString(nanosPerUnit(strategy)));
+			properties.setProperty(prefix + "." + strategy + ".overheadNanos", 
+					Double.toString(overheadNanos(strategy)));
+		}
+	}
+
+	/**
+	 * Reads constants written by store. Strategies missing from the
+	 * properties, for example those added since the profile was written,
+	 * keep the constants of fallback.
+	 * @throws IllegalArgumentException if a value is malformed
+	 */
+	static MultiplyCostModel load(Properties properties, String prefix, MultiplyCostModel fallback) {
+		int strategies = MultiplyStrategy.values().length;
+		double[] perUnit = new double[strategies];
+		double[] overhead = new double[strategies];
+		for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+			int i = strategy.ordinal();
+			String perUnitValue = properties.getProperty(prefix + "." + strategy + ".nanosPerUnit");
+			String overheadValue = properties.getProperty(prefix + "." + strategy + ".overheadNanos");
+			if (perUnitValue == null || overheadValue == null) {
+				perUnit[i] = fallback.nanosPerUnit[i];
+				overhead[i] = fallback.overheadNanos[i];
+			}
+			else {
+				perUnit[i] = Double.parseDouble(perUnitValue);
+				overhead[i] = Double.parseDouble(overheadValue);
+			}
+		}
+		return new MultiplyCostModel(perUnit, overhead);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("MultiplyCostModel[");
+		for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+			if (strategy.ordinal() > 0) {
+				result.append(", ");
+			}
+			result.append(strategy).append(": ").append(nanosPerUnit(strategy))
+					.append(" ns/unit + ").append(overheadNanos(strategy)).append(" ns");
+		}
+		return result.append(']').toString();
+	}
+}
@@ -0,0 +1,130 @@
+package com.codemelon.polynomial;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Holds the cost models that Polynomial.times and ComplexPolynomial.times
+ * use to choose a MultiplyStrategy, one for real and one for complex
+ * coefficients. chooseReal and chooseComplex report the choice for a given
+ * pair of degrees without multiplying anything.
+ *
+ * The models are set when the class is loaded, according to the system
+ * property com.codemelon.polynomial.multiplyCosts: "calibrate" times every
+ * strategy on the running JVM, any other value is the path of a profile
+ * written by storeProfile, and if the property is unset (or the profile
+ * cannot be read) built-in defaults are used.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class MultiplyDispatcher {
+	public static final String COSTS_PROPERTY = "com.codemelon.polynomial.multiplyCosts";
+
+	// rounded from calibrate() on an x86-64 server, Java 17
+	// (SCHOOLBOOK, KARATSUBA, TOOM_3, FOURIER, UNBALANCED)
+	static final MultiplyCostModel DEFAULT_REAL = new MultiplyCostModel(
+			new double[] { 0.85, 1.65, 1.7, 7.7, 4.5 }, new double[] { 60.0, 100.0, 150.0, 500.0, 1000.0 });
+	static final MultiplyCostModel DEFAULT_COMPLEX = new MultiplyCostModel(
+			new double[] { 2.0, 4.7, 4.8, 9.0, 7.5 }, new double[] { 250.0, 300.0, 350.0, 400.0, 1200.0 });
+
+	private static final String REAL = "real";
+	private static final String COMPLEX = "complex";
+
+	private static volatile MultiplyCostModel realModel = DEFAULT_REAL;
+	private static volatile MultiplyCostModel complexModel = DEFAULT_COMPLEX;
+
+	static {
+		String costs = System.getProperty(COSTS_PROPERTY);
+		if ("calibrate".equals(costs)) {
+			calibrate();
+		}
+		else if (costs != null) {
+			try {
+				loadProfile(Paths.get(costs));
+			}
+			catch (IOException | IllegalArgumentException e) {
+				// keep the defaults; an unreadable profile must not break multiplication
+			}
+		}
+	}
+
+	private MultiplyDispatcher() {
+	}
+
+	public static MultiplyCostModel realModel() {
+		return realModel;
+	}
+
+	public static MultiplyCostModel complexModel() {
+		return complexModel;
+	}
+
+	public static void setModels(MultiplyCostModel real, MultiplyCostModel complex) {
+		if (real == null || complex == null) {
+			throw new NullPointerException("Cost models cannot be null");
+		}
+		realModel = real;
+		complexModel = complex;
+	}
+
+	/**
+	 * @return the strategy Polynomial.times uses for operands of these
+	 * degrees, both at least 0
+	 */
+	public static MultiplyStrategy chooseReal(int degree1, int degree2) {
+		return realModel.choose(degree1, degree2);
+	}
+
+	/**
+	 * @return the strategy ComplexPolynomial.times uses for operands of these
+	 * degrees, both at least 0
+	 */
+	public static MultiplyStrategy chooseComplex(int degree1, int degree2) {
+		return complexModel.choose(degree1, degree2);
+	}
+
+	/**
+	 * Times every strategy on this JVM and installs the fitted models
+	 */
+	public static void calibrate() {
+		setModels(MultiplyCalibration.real(), MultiplyCalibration.complex());
+	}
+
+	/**
+	 * Writes both models as a properties file
+	 * @param path
+	 * @throws IOException
+	 */
+	public static void storeProfile(Path path) throws IOException {
+		Properties properties = new Properties();
+		realModel.store(properties, REAL);
+		complexModel.store(properties, COMPLEX);
+		try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			properties.store(out, "com.codemelon.polynomial multiply costs");
+		}
+	}
+
+	/**
+	 * Installs the models of a profile written by storeProfile. Strategies
+	 * the profile does not mention keep the built-in defaults.
+	 * @param path
+	 * @throws IOException
+	 * @throws IllegalArgumentException if a value is malformed
+	 */
+	public static void loadProfile(Path path) throws IOException {
+		Properties properties = new Properties();
+		try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			properties.load(in);
+		}
+		setModels(MultiplyCostModel.load(properties, REAL, DEFAULT_REAL), 
+				MultiplyCostModel.load(properties, COMPLEX, DEFAULT_COMPLEX));
+	}
+}
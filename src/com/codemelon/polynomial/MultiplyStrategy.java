@@ -0,0 +1,124 @@
+package com.codemelon.polynomial;
+
+/**
+ * Algorithms for multiplying two non-zero polynomials. Each strategy
+ * describes the shape of its running time as a function of the operand
+ * sizes; MultiplyCostModel turns that into nanoseconds for the running
+ * machine.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public enum MultiplyStrategy {
+	/**
+	 * Every coefficient of one operand times every coefficient of the other
+	 */
+	SCHOOLBOOK {
+		@Override
+		double work(int size1, int size2) {
+			return (double) size1 * size2;
+		}
+	},
+	/**
+	 * Karatsuba: three half-size products per level. An unbalanced product
+	 * is a sequence of balanced ones the size of the shorter operand.
+	 */
+	KARATSUBA {
+		@Override
+		double work(int size1, int size2) {
+			return balancedPieces(size1, size2) * karatsubaWork(Math.min(size1, size2));
+		}
+	},
+	/**
+	 * Toom-3: five third-size products per level, otherwise as KARATSUBA
+	 */
+	TOOM_3 {
+		@Override
+		double work(int size1, int size2) {
+			return balancedPieces(size1, size2) * toom3Work(Math.min(size1, size2));
+		}
+	},
+	/**
+	 * Pointwise product of the transforms of both operands, padded to the
+	 * size of the product
+	 */
+	FOURIER {
+		@Override
+		double work(int size1, int size2) {
+			double n = size1 + size2 - 1;
+			return n * Math.log(n) / Math.log(2.0);
+		}
+	},
+	/**
+	 * Overlap-add: the longer operand is cut into blocks so that each block
+	 * product fits a transform about BLOCK_FACTOR times the length of the
+	 * shorter operand, which is transformed only once. Time grows as
+	 * N log m rather than N log N, and only a few block buffers are live.
+	 */
+	UNBALANCED {
+		@Override
+		double work(int size1, int size2) {
+			int shorter = Math.min(size1, size2);
+			int longer = Math.max(size1, size2);
+			double n = blockTransformLength(shorter);
+			double block = n - shorter + 1;
+			return Math.ceil(longer / block) * n * Math.log(n) / Math.log(2.0);
+		}
+	};
+
+	/**
+	 * Block transforms in UNBALANCED are about this many times the length of
+	 * the shorter operand
+	 */
+	static final int BLOCK_FACTOR = 4;
+	/**
+	 * and never shorter than this
+	 */
+	static final int MIN_BLOCK_TRANSFORM = 64;
+
+	private static final double LOG_2_OF_3 = Math.log(3.0) / Math.log(2.0);
+	private static final double LOG_3_OF_5 = Math.log(5.0) / Math.log(3.0);
+
+	/**
+	 * @param size1 number of coefficients of one operand, at least 1
+	 * @param size2 number of coefficients of the other, at least 1
+	 * @return a quantity the running time is roughly proportional to
+	 */
+	abstract double work(int size1, int size2);
+
+	/**
+	 * Schoolbook below the cutoff, three products per halving above it
+	 */
+	private static double karatsubaWork(int n) {
+		int cutoff = ToomCook.KARATSUBA_CUTOFF;
+		if (n <= cutoff) {
+			return (double) n * n;
+		}
+		return (double) cutoff * cutoff * Math.pow((double) n / cutoff, LOG_2_OF_3);
+	}
+
+	/**
+	 * Karatsuba below the cutoff, five products per division by 3 above it
+	 */
+	private static double toom3Work(int n) {
+		int cutoff = ToomCook.TOOM_3_CUTOFF;
+		if (n <= cutoff) {
+			return karatsubaWork(n);
+		}
+		return karatsubaWork(cutoff) * Math.pow((double) n / cutoff, LOG_3_OF_5);
+	}
+
+	/**
+	 * @return the target transform length for UNBALANCED blocks, before
+	 * rounding to a length the engine handles well
+	 */
+	static int blockTransformLength(int shorterSize) {
+		return Math.max(BLOCK_FACTOR * shorterSize, MIN_BLOCK_TRANSFORM);
+	}
+
+	private static double balancedPieces(int size1, int size2) {
+		int shorter = Math.min(size1, size2);
+		return (Math.max(size1, size2) + shorter - 1) / shorter;
+	}
+}
@@ -0,0 +1,219 @@
+package com.codemelon.polynomial;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.codemelon.fft.Ntt;
+
+/**
+ * Exact linear convolution of long[] sequences by number theoretic
+ * transforms mod several primes and Chinese remaindering.
+ *
+ * Every coefficient c of the product satisfies |c| <= B = min(la, lb)
+ * max|a| max|b|. The product is transformed mod the first k primes of Ntt,
+ * k the fewest whose product M exceeds 2B, so that c is the unique value in
+ * (-M/2, M/2) with the computed residues. Garner's algorithm recovers c from
+ * them in mixed radix, x = y_0 + p_0 (y_1 + p_1 (y_2 + ...)), x in [0, M);
+ * c is x, or x - M when x exceeds (M - 1) / 2. Comparing the digits with
+ * those of the limits tells whether c fits in a long, throwing
+ * ArithmeticException if not; if it does, evaluating the digits mod 2^64 is
+ * exact. Small coefficients therefore cost one or two primes; the full range
+ * of long, with lengths up to Ntt.MAX_LENGTH, needs five or six.
+ *
+ * Products longer than Ntt.MAX_LENGTH are split into products of halves of
+ * the longer factor, which are then added; these partial products must fit
+ * in a long as well.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class NttConvolution {
+	private static final int K = Ntt.PRIME_COUNT;
+	private static final long[] PRIMES = new long[K];
+	// log2 of the product of the first k primes, at k - 1
+	private static final double[] MODULUS_BITS = new double[K];
+	// INVERSES[i][j] = p_j^-1 mod p_i for j < i
+	private static final long[][] INVERSES = new long[K][];
+	// at k - 1, M mod 2^64 and the mixed-radix digits of (M - 1) / 2, M the product of the first k primes
+	private static final long[] MODULI = new long[K];
+	private static final long[][] HALF_DIGITS = new long[K][];
+	// at k - 1, digits of Long.MAX_VALUE and of M + Long.MIN_VALUE, or null if M < 2^63
+	private static final long[][] MAX_DIGITS = new long[K][];
+	private static final long[][] MIN_DIGITS = new long[K][];
+	static {
+		BigInteger modulus = BigInteger.ONE;
+		double bits = 0.0;
+		for (int i = 0; i < K; i++) {
+			PRIMES[i] = Ntt.forPrime(i).modulus();
+			BigInteger p = BigInteger.valueOf(PRIMES[i]);
+			INVERSES[i] = new long[i];
+			for (int j = 0; j < i; j++) {
+				INVERSES[i][j] = BigInteger.valueOf(PRIMES[j]).modInverse(p).longValue();
+			}
+			modulus = modulus.multiply(p);
+			bits += Math.log(PRIMES[i]) / Math.log(2.0);
+			MODULUS_BITS[i] = bits;
+			MODULI[i] = modulus.longValue();
+			HALF_DIGITS[i] = digits(modulus.shiftRight(1), i + 1);
+			if (modulus.bitLength() > 63) {
+				MAX_DIGITS[i] = digits(BigInteger.valueOf(Long.MAX_VALUE), i + 1);
+				MIN_DIGITS[i] = digits(modulus.add(BigInteger.valueOf(Long.MIN_VALUE)), i + 1);
+			}
+		}
+	}
+
+	private NttConvolution() {
+	}
+
+	/**
+	 * @param a at least 1 entry
+	 * @param b at least 1 entry; may be a
+	 * @return the a.length + b.length - 1 coefficients of the product
+	 * @throws ArithmeticException if one of them overflows a long
+	 */
+	static long[] multiply(long[] a, long[] b) {
+		return multiply(a, b, Ntt.MAX_LENGTH);
+	}
+
+	/**
+	 * @param maxLength longest transform to use, a power of 2 of at most
+	 * Ntt.MAX_LENGTH
+	 */
+	static long[] multiply(long[] a, long[] b, int maxLength) {
+		int length = a.length + b.length - 1;
+		if (length <= maxLength) {
+			return transformMultiply(a, b, length);
+		}
+		long[] longer = a.length >= b.length ? a : b;
+		long[] shorter = a.length >= b.length ? b : a;
+		int half = longer.length / 2;
+		long[] low = multiply(Arrays.copyOf(longer, half), shorter, maxLength);
+		long[] high = multiply(Arrays.copyOfRange(longer, half, longer.length), shorter, maxLength);
+		long[] result = new long[length];
+		System.arraycopy(low, 0, result, 0, low.length);
+		for (int i = 0; i < high.length; i++) {
+			result[half + i] = Math.addExact(result[half + i], high[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return log2 of the bound B on the coefficients of the product
+	 */
+	static double boundBits(long[] a, long[] b) {
+		return Math.log(Math.min(a.length, b.length)) / Math.log(2.0) + magnitudeBits(a) + magnitudeBits(b);
+	}
+
+	/**
+	 * @return number of primes whose product exceeds twice 2^bits, with a
+	 * bit to spare for rounding in bits
+	 */
+	static int primesFor(double bits) {
+		for (int k = 1; k <= K; k++) {
+			if (MODULUS_BITS[k - 1] > bits + 2.0) {
+				return k;
+			}
+		}
+		throw new AssertionError("Coefficient bound of 2^" + bits + " exceeds the primes");
+	}
+
+	private static long[] transformMultiply(long[] a, long[] b, int length) {
+		int k = primesFor(boundBits(a, b));
+		int n = length == 1 ? 1 : Integer.highestOneBit(length - 1) << 1;
+		int[][] residues = new int[k][];
+		int[] x = new int[n];
+		int[] y = b == a ? null : new int[n];
+		for (int i = 0; i < k; i++) {
+			Ntt ntt = Ntt.forPrime(i);
+			load(ntt, a, x);
+			ntt.forward(x);
+			if (y == null) {
+				ntt.multiply(x, x);
+			}
+			else {
+				load(ntt, b, y);
+				ntt.forward(y);
+				ntt.multiply(x, y);
+			}
+			ntt.inverse(x);
+			residues[i] = Arrays.copyOf(x, length);
+		}
+		long[] result = new long[length];
+		long[] digits = new long[k];
+		for (int c = 0; c < length; c++) {
+			result[c] = reconstruct(residues, c, k, digits);
+		}
+		return result;
+	}
+
+	private static void load(Ntt ntt, long[] values, int[] residues) {
+		for (int i = 0; i < values.length; i++) {
+			residues[i] = ntt.residue(values[i]);
+		}
+		Arrays.fill(residues, values.length, residues.length, 0);
+	}
+
+	/**
+	 * Garner's algorithm on coefficient c
+	 * @param digits scratch, at least k long
+	 */
+	private static long reconstruct(int[][] residues, int c, int k, long[] digits) {
+		for (int i = 0; i < k; i++) {
+			long p = PRIMES[i];
+			long t = residues[i][c];
+			for (int j = 0; j < i; j++) {
+				t -= digits[j] % p;
+				if (t < 0) {
+					t += p;
+				}
+				t = t * INVERSES[i][j] % p;
+			}
+			digits[i] = t;
+		}
+		boolean negative = compare(digits, HALF_DIGITS[k - 1], k) > 0;
+		if (MAX_DIGITS[k - 1] != null && (negative ? compare(digits, MIN_DIGITS[k - 1], k) < 0
+				: compare(digits, MAX_DIGITS[k - 1], k) > 0)) {
+			throw new ArithmeticException("long overflow");
+		}
+		long value = digits[k - 1];
+		for (int i = k - 2; i >= 0; i--) {
+			value = value * PRIMES[i] + digits[i];
+		}
+		return negative ? value - MODULI[k - 1] : value;
+	}
+
+	/**
+	 * Compares two numbers by their first k mixed-radix digits
+	 */
+	private static int compare(long[] digits, long[] other, int k) {
+		for (int i = k - 1; i >= 0; i--) {
+			if (digits[i] != other[i]) {
+				return digits[i] > other[i] ? 1 : -1;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * @return the mixed-radix digits of x in [0, M), M the product of the
+	 * first k primes
+	 */
+	private static long[] digits(BigInteger x, int k) {
+		long[] result = new long[k];
+		for (int i = 0; i < k; i++) {
+			BigInteger[] qr = x.divideAndRemainder(BigInteger.valueOf(PRIMES[i]));
+			result[i] = qr[1].longValue();
+			x = qr[0];
+		}
+		return result;
+	}
+
+	private static double magnitudeBits(long[] values) {
+		double max = 1.0;
+		for (long value : values) {
+			max = Math.max(max, Math.abs((double) value));
+		}
+		return Math.log(max) / Math.log(2.0);
+	}
+}
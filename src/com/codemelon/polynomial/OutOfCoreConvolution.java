@@ -0,0 +1,255 @@
+package com.codemelon.polynomial;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.codemelon.fft.BatchFft;
+
+/**
+ * Product of two MappedPolynomials through files, in working memory
+ * independent of their length.
+ *
+ * The transform is the four-step one of FourStepFft with the data on disk:
+ * N = n2 n1 points, element j = j1 + n1 j2 at row j2 and column j1 of an
+ * n2 x n1 row-major matrix. A forward transform is a column pass (transform
+ * the columns, multiply element (k2, j1) by omega_N^(j1 k2)) followed by a
+ * row pass (transform the rows), which leaves X[k2 + n2 k1] at row k2 and
+ * column k1. The final transpose is not needed: the pointwise product does
+ * not care about order, and the inverse transform run in the opposite order
+ * (rows, conjugate twiddles, columns) takes the transposed spectrum back to
+ * coefficients in natural order. The multiplication is then four passes
+ * over the data:
+ *
+ * 1. columns of the first factor, read from its file, into scratch file A;
+ * 2. the same for the second factor into scratch file B;
+ * 3. rows of A and B: forward transforms, product, inverse transform and
+ * conjugate twiddles, back into A;
+ * 4. columns of A: inverse transforms, real parts into the output file.
+ *
+ * Row passes hold a tile of whole rows, one contiguous run of the files.
+ * Column passes hold a tile of adjacent columns, read a run of the tile's
+ * width from each row, so the tile is at least PAGE_COLUMNS wide (one 4 KiB
+ * page of doubles) whatever the working memory: narrower runs would fault
+ * every page in several times per pass once the files no longer fit in the
+ * page cache. To keep such a tile within the working memory the matrix is
+ * made wider than it is tall (n1 > n2) as far as a row still fits, which
+ * at the default 64 MiB reaches N = 2^33; beyond that, or with smaller
+ * budgets, the column tile exceeds the budget by up to 8 KiB per row.
+ * Scratch files hold N real parts followed by N imaginary parts, 16 N bytes
+ * each, in the directory of the output, and are deleted before multiply
+ * returns. Squaring needs only scratch file A.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class OutOfCoreConvolution {
+	/**
+	 * Least width of a column tile, in doubles: one 4 KiB page of each row
+	 */
+	static final int PAGE_COLUMNS = 512;
+
+	private final long outputLength;
+	// transform length N and its factors
+	private final long n;
+	private final int n1;
+	private final int n2;
+	private final int lgN1;
+	// columns per column tile and rows per row tile
+	private final int columns;
+	private final int rows;
+	// omega_N^i for i < n1 and omega_N^(n1 i) for i < n2
+	private final double[] lowRe;
+	private final double[] lowIm;
+	private final double[] highRe;
+	private final double[] highIm;
+	private final double[] tileRe;
+	private final double[] tileIm;
+
+	/**
+	 * @param outputLength number of coefficients of the product
+	 * @param workingMemory bytes of transform data to hold at once; never
+	 * less than PAGE_COLUMNS columns (or all of them) and one row
+	 */
+	OutOfCoreConvolution(long outputLength, long workingMemory) {
+		this.outputLength = outputLength;
+		this.n = Math.max(4L, Long.highestOneBit(outputLength - 1) << 1);
+		int lgN = Long.numberOfTrailingZeros(n);
+		// the row pass holds two factors' worth of the tile
+		long points = Math.min(1L << 30, workingMemory / 32);
+		int lgWidth = lgN / 2;
+		// widen the matrix while the narrowest column tile is over budget
+		// and a whole row still fits
+		while (lgWidth < lgN - 1 && Math.min(1L << lgWidth, PAGE_COLUMNS) << (lgN - lgWidth) > points && 
+				2L << lgWidth <= points) {
+			lgWidth++;
+		}
+		this.lgN1 = lgWidth;
+		this.n1 = 1 << lgN1;
+		this.n2 = 1 << (lgN - lgN1);
+		this.columns = (int) Math.max(Math.min(n1, PAGE_COLUMNS), Math.min(n1, Long.highestOneBit(points / n2)));
+		this.rows = (int) Math.min(n2, Math.max(1L, Long.highestOneBit(points / n1)));
+		this.lowRe = new double[n1];
+		this.lowIm = new double[n1];
+		for (int i = 0; i < n1; i++) {
+			double angle = 2.0 * Math.PI * i / n;
+			lowRe[i] = Math.cos(angle);
+			lowIm[i] = Math.sin(angle);
+		}
+		this.highRe = new double[n2];
+		this.highIm = new double[n2];
+		for (int i = 0; i < n2; i++) {
+			double angle = 2.0 * Math.PI * i / n2;
+			highRe[i] = Math.cos(angle);
+			highIm[i] = Math.sin(angle);
+		}
+		int tileLength = Math.max(columns * n2, rows * n1);
+		this.tileRe = new double[tileLength];
+		this.tileIm = new double[tileLength];
+	}
+
+	/**
+	 * @return the transform length N
+	 */
+	long transformLength() {
+		return n;
+	}
+
+	int columnTile() {
+		return columns;
+	}
+
+	int rowTile() {
+		return rows;
+	}
+
+	/**
+	 * Writes the product of a and b, which may be the same object, to output
+	 */
+	void multiply(MappedDoubles a, MappedDoubles b, MappedDoubles output, Path scratchDirectory)
+			throws IOException {
+		Path fileA = Files.createTempFile(scratchDirectory, "convolution", ".tmp");
+		Path fileB = null;
+		try {
+			MappedDoubles scratchA = MappedDoubles.create(fileA, 2 * n, ByteOrder.nativeOrder());
+			forwardColumns(a, scratchA);
+			MappedDoubles scratchB = scratchA;
+			if (b != a) {
+				fileB = Files.createTempFile(scratchDirectory, "convolution", ".tmp");
+				scratchB = MappedDoubles.create(fileB, 2 * n, ByteOrder.nativeOrder());
+				forwardColumns(b, scratchB);
+			}
+			multiplyRows(scratchA, scratchB);
+			inverseColumns(scratchA, output);
+		}
+		finally {
+			Files.deleteIfExists(fileA);
+			if (fileB != null) {
+				Files.deleteIfExists(fileB);
+			}
+		}
+	}
+
+	/**
+	 * Pass 1 or 2: column transforms and twiddles of the coefficients in
+	 * input, zero-padded to N, into scratch
+	 */
+	private void forwardColumns(MappedDoubles input, MappedDoubles scratch) {
+		BatchFft batch = BatchFft.interleaved(n2, columns);
+		int length = columns * n2;
+		for (int c0 = 0; c0 < n1; c0 += columns) {
+			for (int r = 0; r < n2; r++) {
+				long from = (long) r * n1 + c0;
+				int count = (int) Math.max(0L, Math.min(columns, input.length() - from));
+				if (count > 0) {
+					input.get(from, tileRe, r * columns, count);
+				}
+				Arrays.fill(tileRe, r * columns + count, (r + 1) * columns, 0.0);
+			}
+			Arrays.fill(tileIm, 0, length, 0.0);
+			batch.forward(tileRe, tileIm);
+			for (int r = 0; r < n2; r++) {
+				for (int t = 0; t < columns; t++) {
+					twiddle(r * columns + t, (long) (c0 + t) * r, 1.0);
+				}
+				long to = (long) r * n1 + c0;
+				scratch.put(to, tileRe, r * columns, columns);
+				scratch.put(n + to, tileIm, r * columns, columns);
+			}
+		}
+	}
+
+	/**
+	 * Pass 3: row transforms of both spectra, their product, inverse row
+	 * transforms and conjugate twiddles, into a
+	 */
+	private void multiplyRows(MappedDoubles a, MappedDoubles b) {
+		BatchFft batch = BatchFft.contiguous(n1, rows);
+		int length = rows * n1;
+		double[] otherRe = b == a ? tileRe : new double[length];
+		double[] otherIm = b == a ? tileIm : new double[length];
+		for (int r0 = 0; r0 < n2; r0 += rows) {
+			long from = (long) r0 * n1;
+			a.get(from, tileRe, 0, length);
+			a.get(n + from, tileIm, 0, length);
+			batch.forward(tileRe, tileIm);
+			if (b != a) {
+				b.get(from, otherRe, 0, length);
+				b.get(n + from, otherIm, 0, length);
+				batch.forward(otherRe, otherIm);
+			}
+			for (int i = 0; i < length; i++) {
+				double re = tileRe[i] * otherRe[i] - tileIm[i] * otherIm[i];
+				tileIm[i] = tileRe[i] * otherIm[i] + tileIm[i] * otherRe[i];
+				tileRe[i] = re;
+			}
+			batch.inverse(tileRe, tileIm);
+			for (int r = 0; r < rows; r++) {
+				for (int c = 0; c < n1; c++) {
+					twiddle(r * n1 + c, (long) c * (r0 + r), -1.0);
+				}
+			}
+			a.put(from, tileRe, 0, length);
+			a.put(n + from, tileIm, 0, length);
+		}
+	}
+
+	/**
+	 * Pass 4: inverse column transforms, real parts of the first
+	 * outputLength points into output
+	 */
+	private void inverseColumns(MappedDoubles scratch, MappedDoubles output) {
+		BatchFft batch = BatchFft.interleaved(n2, columns);
+		for (int c0 = 0; c0 < n1; c0 += columns) {
+			for (int r = 0; r < n2; r++) {
+				long from = (long) r * n1 + c0;
+				scratch.get(from, tileRe, r * columns, columns);
+				scratch.get(n + from, tileIm, r * columns, columns);
+			}
+			batch.inverse(tileRe, tileIm);
+			for (int r = 0; r < n2; r++) {
+				long to = (long) r * n1 + c0;
+				int count = (int) Math.max(0L, Math.min(columns, outputLength - to));
+				if (count > 0) {
+					output.put(to, tileRe, r * columns, count);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Multiplies tile entry i by omega_N^(sign p), p < N
+	 */
+	private void twiddle(int i, long p, double sign) {
+		int low = (int) p & (n1 - 1);
+		int high = (int) (p >>> lgN1);
+		double wRe = highRe[high] * lowRe[low] - highIm[high] * lowIm[low];
+		double wIm = sign * (highRe[high] * lowIm[low] + highIm[high] * lowRe[low]);
+		double re = tileRe[i];
+		tileRe[i] = wRe * re - wIm * tileIm[i];
+		tileIm[i] = wRe * tileIm[i] + wIm * re;
+	}
+}
@@ -1,70 +1,110 @@
 package com.codemelon.polynomial;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import com.codemelon.fft.ComplexTransform;
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.ParallelFft;
+import com.codemelon.fft.RealFft;
 import com.codemelon.math.Complex;
+import com.codemelon.math.MutableComplex;
+import com.codemelon.math.VectorKernels;
 
 /**
  * Polynomials with real coefficients
- * 
+ *
+ * Coefficients are held unboxed in a double[] of which the first size
+ * entries are significant. Arrays built internally (sums, products) are
+ * adopted without copying; arrays crossing the public API are copied.
+ *
  * @author Marshall Farrier
  * @my.created Sep 16, 2013
- * @my.edited Sep 16, 2013
+ * @my.edited Oct 18, 2026
  */
 public class Polynomial {
 	/**
 	 * Coefficients are considered equal if their difference is within DELTA
 	 */
 	public static final double DELTA = 0.0000000000001;
-	private static final int FOURIER_MULTIPLY_DEGREE_THRESHOLD = 8;
-	private ArrayList<Double> coefficients;
+	/**
+	 * evaluate(double[]) uses batched Horner below this many points
+	 */
+	static final int MULTIPOINT_EVALUATION_THRESHOLD = 1 << 14;
+	/**
+	 * evaluate(double[]) uses batched Horner below this degree
+	 */
+	static final int MULTIPOINT_EVALUATION_MIN_DEGREE = 1 << 10;
+	/**
+	 * Division uses Newton iteration once both the divisor and the quotient
+	 * have at least this degree. Long division, with its short inner loop,
+	 * was measured faster for a dividend of twice the divisor's degree up
+	 * to about 2048 and 3 times slower at 4096.
+	 */
+	static final int NEWTON_DIVISION_THRESHOLD = 2048;
+	/**
+	 * Batched Horner, vector if available
+	 */
+	static final HornerKernel HORNER_KERNEL = VectorKernels.load(HornerKernel.class, HornerKernel.SCALAR);
+	private final double[] coefficients;
+	// number of significant entries in coefficients, at least 1
+	private final int size;
 	
 	public Polynomial(List<Double> coefficients) {
 		if (coefficients == null || coefficients.size() == 0) {
 			throw new IllegalArgumentException("Polynomial must have at least 1 coefficient");
 		}
-		this.coefficients = new ArrayList<Double>(coefficients);
-		trimZeroCoefficients(this.coefficients);
+		this.coefficients = new double[coefficients.size()];
+		int i = 0;
+		for (Double coefficient : coefficients) {
+			this.coefficients[i++] = coefficient;
+		}
+		this.size = trimmedSize(this.coefficients, this.coefficients.length);
 	}
 	
 	/**
-	 * Construct a polynomial of the given degree where every coefficient is set
-	 * to 1
-	 * The 0 polynomial is taken to have degree -1
-	 * @param degree
+	 * Copies the given coefficients, so later changes to the array do not
+	 * affect the polynomial
+	 * @param coefficients coefficient of x^i at index i
+	 * @return
 	 */
-	public static Polynomial fromDegree(int degree) {
-		Polynomial result = new Polynomial(degree, 1.0);
-		if (degree < 0) {
-			result.coefficients.add(0.0);
+	public static Polynomial fromArray(double[] coefficients) {
+		if (coefficients == null || coefficients.length == 0) {
+			throw new IllegalArgumentException("Polynomial must have at least 1 coefficient");
 		}
-		return result;
+		return new Polynomial(coefficients.clone(), coefficients.length);
 	}
 	
 	/**
-	 * For internal use only: Creates a 0 polynomial with the given degree.
+	 * Construct a polynomial of the given degree where every coefficient is set
+	 * to 1
+	 * The 0 polynomial is taken to have degree -1
 	 * @param degree
 	 */
-	private Polynomial(int degree, double coefficient) {
-		this(degree);
-		for (int i = 0; i <= degree; i++) {
-			this.coefficients.add(coefficient);
+	public static Polynomial fromDegree(int degree) {
+		if (degree < 0) {
+			return new Polynomial(new double[1], 1);
 		}
+		double[] coefficients = new double[degree + 1];
+		Arrays.fill(coefficients, 1.0);
+		return new Polynomial(coefficients, coefficients.length);
 	}
 	
 	/**
-	 * Internal use only: Creates a polynomial with an empty coefficient list
-	 * with capacity for the given coefficients
-	 * @param degree
+	 * Internal use only: adopts the given array without copying. The caller
+	 * must not modify it afterwards.
+	 * @param coefficients
+	 * @param size number of leading entries to consider, at least 1
 	 */
-	private Polynomial(int degree) {
-		this.coefficients = new ArrayList<Double>(degree + 1);
+	private Polynomial(double[] coefficients, int size) {
+		this.coefficients = coefficients;
+		this.size = trimmedSize(coefficients, size);
 	}
 	
 	public int degree() {
-		if (coefficients.size() > 1 || Math.abs(coefficients.get(0)) >= DELTA) {
-			return coefficients.size() - 1;
+		if (size > 1 || Math.abs(coefficients[0]) >= DELTA) {
+			return size - 1;
 		}
 		return -1;
 	}
@@ -73,10 +113,18 @@ public class Polynomial {
 		if (i < 0) {
 			throw new IllegalArgumentException("Coefficient index must be non-negative");
 		}
-		if (i >= coefficients.size()) {
+		if (i >= size) {
 			return 0.0;
 		}
-		return coefficients.get(i);
+		return coefficients[i];
+	}
+	
+	/**
+	 * @return a new array holding the coefficients up to and including the
+	 * leading one (a single 0.0 for the 0 polynomial)
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(coefficients, size);
 	}
 	
 	public Polynomial plus(Polynomial p) {
@@ -86,17 +134,39 @@ public class Polynomial {
 		return add(p, this);
 	}
 	
+	/**
+	 * The algorithm is the one MultiplyDispatcher predicts to be fastest for
+	 * the degrees of the operands
+	 * @param p
+	 * @return
+	 */
 	public Polynomial times(Polynomial p) {
+		return times(p, Fft.sequential());
+	}
+	
+	/**
+	 * As times(p), but large FFT products run their transforms as fork/join
+	 * tasks in the given pool (see ParallelFft)
+	 * @param p
+	 * @param pool
+	 * @return
+	 */
+	public Polynomial times(Polynomial p, ForkJoinPool pool) {
+		return times(p, new ParallelFft(pool));
+	}
+	
+	/**
+	 * As times(p), running any FFTs on the given engine, for example an
+	 * FftPlanner so that repeated products reuse measured plans
+	 * @param p
+	 * @param transform
+	 * @return
+	 */
+	public Polynomial times(Polynomial p, ComplexTransform transform) {
 		if (this.degree() < 0 || p.degree() < 0) {
-			return new Polynomial(-1, 0.0);
+			return fromDegree(-1);
 		}
-		if (this.degree() < FOURIER_MULTIPLY_DEGREE_THRESHOLD || 
-				p.degree() < FOURIER_MULTIPLY_DEGREE_THRESHOLD || 
-				this.degree() < Math.log(p.degree()) || 
-				p.degree() < Math.log(this.degree())) {
-			return schoolMultiply(this, p);
-		}
-		return fourierMultiply(this, p);
+		return multiply(MultiplyDispatcher.chooseReal(this.degree(), p.degree()), this, p, transform);
 	}
 	
 	public double evaluate(double r) {
@@ -105,26 +175,74 @@ public class Polynomial {
 		}
 		double currentPower = 1.0;
 		double result = 0.0;
-		for (int i = 0; i < this.coefficients.size() - 1; i++) {
-			result += currentPower * this.coefficients.get(i);
+		for (int i = 0; i < size - 1; i++) {
+			result += currentPower * coefficients[i];
 			currentPower *= r;
 		}
-		result += currentPower * this.coefficients.get(this.coefficients.size() - 1);
+		result += currentPower * coefficients[size - 1];
 		return result;
 	}
 	
+	/**
+	 * Values at many points. Below MULTIPOINT_EVALUATION_THRESHOLD points this
+	 * is evaluateBatch; above it the points go into a subproduct tree and the
+	 * polynomial is reduced modulo the tree's nodes on the way down (a
+	 * remainder tree), which takes O(n log^2 n) rather than O(n m)
+	 * operations. The tree is only accurate for small, well spread points;
+	 * for any others it is abandoned early for Horner's rule (see
+	 * SubproductTree).
+	 * @param points
+	 * @return the value at points[i] in position i
+	 */
+	public double[] evaluate(double[] points) {
+		if (points.length < MULTIPOINT_EVALUATION_THRESHOLD || degree() < MULTIPOINT_EVALUATION_MIN_DEGREE) {
+			double[] result = new double[points.length];
+			horner(points, 0, points.length, result);
+			return result;
+		}
+		return new SubproductTree(points).evaluate(this);
+	}
+	
+	/**
+	 * Horner's rule at every point, without allocating: out[j] is set to the
+	 * value at xs[j]. Points are evaluated several at a time, in SIMD lanes
+	 * when the fast-fourier-transform-simd artifact and the
+	 * jdk.incubator.vector module are available (see VectorKernels); the
+	 * results are the same either way.
+	 * @param xs
+	 * @param out at least as long as xs
+	 */
+	public void evaluateBatch(double[] xs, double[] out) {
+		if (out.length < xs.length) {
+			throw new IllegalArgumentException("Output must have room for every point");
+		}
+		horner(xs, 0, xs.length, out);
+	}
+	
+	/**
+	 * Horner's rule at points[from, to), results to the same positions of
+	 * result
+	 */
+	void horner(double[] points, int from, int to, double[] result) {
+		HORNER_KERNEL.evaluate(coefficients, size, points, from, to, result);
+	}
+	
+	/**
+	 * Horner's rule, accumulating in a single MutableComplex
+	 * @param c
+	 * @return
+	 */
 	public Complex evaluate(Complex c) {
 		if (this.degree() < 0) {
 			return new Complex(0.0, 0.0);
 		}
-		Complex currentPower = new Complex(1.0, 0.0);
-		Complex result = Complex.ZERO;
-		for (int i = 0; i < this.coefficients.size() - 1; i++) {
-			result = result.plus(currentPower.times(this.coefficients.get(i)));
-			currentPower = currentPower.times(c);
+		double cRe = c.real();
+		double cIm = c.imaginary();
+		MutableComplex result = new MutableComplex(coefficients[size - 1], 0.0);
+		for (int i = size - 2; i >= 0; i--) {
+			result.multiplyAdd(cRe, cIm, coefficients[i], 0.0);
 		}
-		result = result.plus(currentPower.times(this.coefficients.get(this.coefficients.size() - 1)));
-		return result;
+		return result.toComplex();
 	}
 	
 	/**
@@ -135,63 +253,342 @@ public class Polynomial {
 	 * @return
 	 */
 	private static Polynomial add(Polynomial smaller, Polynomial larger) {
-		Polynomial result = new Polynomial(larger.coefficients);
-		for (int i = 0; i < smaller.coefficients.size(); i++) {
-			result.coefficients.set(i, smaller.coefficients.get(i) + larger.coefficients.get(i));
+		double[] result = Arrays.copyOf(larger.coefficients, larger.size);
+		for (int i = 0; i < smaller.size; i++) {
+			result[i] += smaller.coefficients[i];
+		}
+		return new Polynomial(result, result.length);
+	}
+	
+	/**
+	 * @return the monic polynomial with the given roots
+	 */
+	static Polynomial fromRoots(double[] roots, int from, int to) {
+		double[] result = new double[to - from + 1];
+		result[0] = 1.0;
+		// multiply by (x - root) one root at a time
+		for (int k = 0; k < to - from; k++) {
+			double root = roots[from + k];
+			result[k + 1] = result[k];
+			for (int i = k; i > 0; i--) {
+				result[i] = result[i - 1] - root * result[i];
+			}
+			result[0] *= -root;
+		}
+		return new Polynomial(result, result.length);
+	}
+	
+	double maxAbsCoefficient() {
+		double result = 0.0;
+		for (int i = 0; i < size; i++) {
+			result = Math.max(result, Math.abs(coefficients[i]));
 		}
-		trimZeroCoefficients(result.coefficients);
 		return result;
 	}
-
+	
+	/**
+	 * Polynomial division: this = quotient divisor + remainder, with the
+	 * remainder of lower degree than the divisor. Schoolbook long division
+	 * for small divisors or quotients, otherwise O(M(n)) by Newton
+	 * iteration, M(n) the cost of times.
+	 * @param divisor
+	 * @return { quotient, remainder }
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	public Polynomial[] divideAndRemainder(Polynomial divisor) {
+		return divide(this, divisor);
+	}
+	
+	/**
+	 * Quotient of divideAndRemainder, without the product that the remainder
+	 * takes when dividing by Newton iteration
+	 * @param divisor
+	 * @return
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	public Polynomial div(Polynomial divisor) {
+		if (divisor.degree() < 0) {
+			throw new ArithmeticException("Division by the 0 polynomial");
+		}
+		if (degree() < divisor.degree()) {
+			return fromDegree(-1);
+		}
+		if (isNewtonDivision(degree(), divisor.degree())) {
+			return newtonQuotient(this, divisor);
+		}
+		return schoolDivide(this, divisor)[0];
+	}
+	
+	/**
+	 * Remainder of divideAndRemainder
+	 * @param divisor
+	 * @return
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	public Polynomial mod(Polynomial divisor) {
+		return divide(this, divisor)[1];
+	}
+	
+	/**
+	 * Schoolbook long division for small divisors or quotients, otherwise
+	 * Newton iteration
+	 * @return { quotient, remainder }
+	 * @throws ArithmeticException if the divisor is the 0 polynomial
+	 */
+	static Polynomial[] divide(Polynomial dividend, Polynomial divisor) {
+		if (divisor.degree() < 0) {
+			throw new ArithmeticException("Division by the 0 polynomial");
+		}
+		if (dividend.degree() < divisor.degree()) {
+			return new Polynomial[] { fromDegree(-1), dividend };
+		}
+		if (isNewtonDivision(dividend.degree(), divisor.degree())) {
+			return newtonDivide(dividend, divisor);
+		}
+		return schoolDivide(dividend, divisor);
+	}
+	
+	/**
+	 * Long division takes about m (n - m) steps, so Newton iteration only
+	 * pays once both the divisor and the quotient are long
+	 * @param n degree of the dividend
+	 * @param m degree of the divisor, at most n
+	 */
+	static boolean isNewtonDivision(int n, int m) {
+		return m >= NEWTON_DIVISION_THRESHOLD && n - m >= NEWTON_DIVISION_THRESHOLD;
+	}
+	
+	/**
+	 * Cf. Knuth, TAOCP vol. 2, 4.6.1, Algorithm D
+	 * @return { quotient, remainder }
+	 */
+	static Polynomial[] schoolDivide(Polynomial dividend, Polynomial divisor) {
+		int m = divisor.size - 1;
+		double[] r = Arrays.copyOf(dividend.coefficients, dividend.size);
+		double[] q = new double[dividend.size - m];
+		double lead = divisor.coefficients[m];
+		for (int k = q.length - 1; k >= 0; k--) {
+			double c = r[k + m] / lead;
+			q[k] = c;
+			for (int j = 0; j < m; j++) {
+				r[k + j] -= c * divisor.coefficients[j];
+			}
+		}
+		if (m == 0) {
+			return new Polynomial[] { new Polynomial(q, q.length), fromDegree(-1) };
+		}
+		return new Polynomial[] { new Polynomial(q, q.length), new Polynomial(r, m) };
+	}
+	
+	/**
+	 * Division by Newton iteration, cf. von zur Gathen and Gerhard, Modern
+	 * Computer Algebra, 9.1: with rev_k(p) = x^k p(1/x), the reversed
+	 * quotient is rev(a) / rev(b) mod x^(n - m + 1), where 1 / rev(b) is
+	 * found by Newton iteration in about twice the time of one product.
+	 * @return { quotient, remainder }
+	 */
+	static Polynomial[] newtonDivide(Polynomial dividend, Polynomial divisor) {
+		int m = divisor.size - 1;
+		Polynomial quotient = newtonQuotient(dividend, divisor);
+		Polynomial product = divisor.times(quotient);
+		double[] r = new double[Math.max(m, 1)];
+		for (int i = 0; i < m; i++) {
+			r[i] = dividend.coefficient(i) - product.coefficient(i);
+		}
+		return new Polynomial[] { quotient, new Polynomial(r, r.length) };
+	}
+	
+	/**
+	 * @return the quotient of newtonDivide
+	 */
+	private static Polynomial newtonQuotient(Polynomial dividend, Polynomial divisor) {
+		int n = dividend.size - 1;
+		int m = divisor.size - 1;
+		int k = n - m + 1;
+		Polynomial inverse = inverseSeries(divisor.reversed(m + 1), k);
+		Polynomial reversedQuotient = dividend.reversed(n + 1).truncated(k).times(inverse).truncated(k);
+		return reversedQuotient.reversed(k);
+	}
+	
+	/**
+	 * @param f constant term non-zero
+	 * @param k
+	 * @return g with f g = 1 mod x^k, by the iteration g <- g (2 - f g),
+	 * which doubles the precision each step. With g correct mod x^l, f g is
+	 * 1 + x^l e mod x^(2l), so the step is g - x^l (g e mod x^l): the
+	 * second product is of two halves, not of g and the full correction.
+	 */
+	static Polynomial inverseSeries(Polynomial f, int k) {
+		double[] result = new double[k];
+		result[0] = 1.0 / f.coefficients[0];
+		for (int precision = 1; precision < k; ) {
+			int next = Math.min(2 * precision, k);
+			Polynomial g = new Polynomial(Arrays.copyOf(result, precision), precision);
+			Polynomial product = f.truncated(next).times(g);
+			double[] e = new double[next - precision];
+			for (int i = 0; i < e.length; i++) {
+				e[i] = product.coefficient(precision + i);
+			}
+			Polynomial correction = g.times(new Polynomial(e, e.length));
+			for (int i = precision; i < next; i++) {
+				result[i] = -correction.coefficient(i - precision);
+			}
+			precision = next;
+		}
+		return new Polynomial(result, k);
+	}
+	
+	/**
+	 * @return x^(length - 1) p(1/x), length at least size
+	 */
+	private Polynomial reversed(int length) {
+		double[] result = new double[length];
+		for (int i = 0; i < size; i++) {
+			result[length - 1 - i] = coefficients[i];
+		}
+		return new Polynomial(result, length);
+	}
+	
+	/**
+	 * @return this polynomial mod x^k
+	 */
+	private Polynomial truncated(int k) {
+		if (k >= size) {
+			return this;
+		}
+		return new Polynomial(Arrays.copyOf(coefficients, k), k);
+	}
+	
 	//The most significant coefficient cannot be 0 unless it is the 0 polynomial
-	private static void trimZeroCoefficients(ArrayList<Double> _coefficients) {
-		while (Math.abs(_coefficients.get(_coefficients.size() - 1)) < DELTA &&
-				_coefficients.size() > 1) {
-			_coefficients.remove(_coefficients.size() - 1);
+	private static int trimmedSize(double[] _coefficients, int size) {
+		while (size > 1 && Math.abs(_coefficients[size - 1]) < DELTA) {
+			size--;
 		}
+		return size;
 	}
 	
 	/**
 	 * Neither input polynomial can be 0 (degree -1)
+	 * @param strategy
 	 * @param p1
 	 * @param p2
+	 * @param transform engine for the FFT-based strategies
 	 * @return
 	 */
-	private static Polynomial schoolMultiply(Polynomial p1, Polynomial p2) {
-		int resultDegree = p1.degree() + p2.degree();
-		Polynomial result = new Polynomial(resultDegree, 0.0);
-		for (int i = 0; i < p1.coefficients.size(); i++) {
-			for (int j = 0; j < p2.coefficients.size(); j++) {
-				result.coefficients.set(i + j, result.coefficients.get(i + j) + 
-						p1.coefficients.get(i) * p2.coefficients.get(j));
+	static Polynomial multiply(MultiplyStrategy strategy, Polynomial p1, Polynomial p2, 
+			ComplexTransform transform) {
+		switch (strategy) {
+		case SCHOOLBOOK:
+			return schoolMultiply(p1, p2);
+		case KARATSUBA:
+		case TOOM_3:
+			return toomCookMultiply(strategy, p1, p2);
+		case FOURIER:
+			return fourierMultiply(p1, p2, transform);
+		case UNBALANCED:
+			return unbalancedMultiply(p1, p2, transform);
+		default:
+			throw new AssertionError(strategy);
+		}
+	}
+	
+	/**
+	 * Neither input polynomial can be 0 (degree -1)
+	 * @param p1
+	 * @param p2
+	 * @return
+	 */
+	static Polynomial schoolMultiply(Polynomial p1, Polynomial p2) {
+		double[] result = new double[p1.size + p2.size - 1];
+		for (int i = 0; i < p1.size; i++) {
+			double a = p1.coefficients[i];
+			for (int j = 0; j < p2.size; j++) {
+				result[i + j] += a * p2.coefficients[j];
 			}
 		}
-		trimZeroCoefficients(result.coefficients);
-		return result;
+		return new Polynomial(result, result.length);
 	}
 	
-	private static Polynomial fourierMultiply(Polynomial p1, Polynomial p2) {
-		// TODO
-		return null;
+	/**
+	 * Neither input polynomial can be 0 (degree -1)
+	 * @param strategy KARATSUBA or TOOM_3
+	 * @param p1
+	 * @param p2
+	 * @return
+	 */
+	static Polynomial toomCookMultiply(MultiplyStrategy strategy, Polynomial p1, Polynomial p2) {
+		double[] result = ToomCook.multiply(strategy, p1.coefficients, p1.size, p2.coefficients, p2.size);
+		return new Polynomial(result, result.length);
 	}
 	
 	/**
-	 * The size n of the coefficients array is assumed to be a power of 2, and
-	 * omega is an n-th root of unity
-	 * Cf. Papadimitriou, p. 68
-	 * @param coefficients
-	 * @param rootOfUnity
+	 * Neither input can be 0
+	 * Both operands are real, so each forward transform and the inverse run
+	 * as half-length complex transforms (RealFft) rather than going through
+	 * ComplexPolynomial. The length is the cheapest even one that holds the
+	 * product, judged on the half-length complex transform.
+	 * @param p1
+	 * @param p2
+	 * @param transform
 	 * @return
 	 */
-	private static Complex[] coefficientsToValues(double[] coefficients, Complex omega) {
-		int n = coefficients.length;
-		Complex[] result = new Complex[n];
-		if (omega.equalWithinDelta(Complex.ONE)) {
-			// n is 1 in this case
-			result[0] = new Complex(coefficients[0], 0.0);
-			return result;
+	static Polynomial fourierMultiply(Polynomial p1, Polynomial p2, ComplexTransform transform) {
+		int resultSize = p1.size + p2.size - 1;
+		int n = 2 * transform.transformLength((resultSize + 1) / 2);
+		double[] x1 = p1.paddedCoefficients(n);
+		double[] x2 = p2.paddedCoefficients(n);
+		double[] re1 = new double[n / 2];
+		double[] im1 = new double[n / 2];
+		double[] re2 = new double[n / 2];
+		double[] im2 = new double[n / 2];
+		RealFft.forward(x1, re1, im1, transform);
+		RealFft.forward(x2, re2, im2, transform);
+		RealFft.multiply(re1, im1, re2, im2);
+		RealFft.inverse(re1, im1, x1, transform);
+		return new Polynomial(x1, resultSize);
+	}
+	
+	/**
+	 * Neither input can be 0
+	 * Overlap-add: the shorter operand is transformed once, and the longer
+	 * one block at a time, each block product being added into the result at
+	 * the block's offset. Apart from the result, only the buffers for one
+	 * block are allocated.
+	 * @param p1
+	 * @param p2
+	 * @param transform
+	 * @return
+	 */
+	static Polynomial unbalancedMultiply(Polynomial p1, Polynomial p2, ComplexTransform transform) {
+		Polynomial longer = p1.size >= p2.size ? p1 : p2;
+		Polynomial shorter = p1.size >= p2.size ? p2 : p1;
+		int m = shorter.size;
+		int n = 2 * transform.transformLength((MultiplyStrategy.blockTransformLength(m) + 1) / 2);
+		int block = n - m + 1;
+		double[] shortRe = new double[n / 2];
+		double[] shortIm = new double[n / 2];
+		RealFft.forward(shorter.paddedCoefficients(n), shortRe, shortIm, transform);
+		double[] result = new double[longer.size + m - 1];
+		double[] x = new double[n];
+		double[] re = new double[n / 2];
+		double[] im = new double[n / 2];
+		for (int start = 0; start < longer.size; start += block) {
+			int length = Math.min(block, longer.size - start);
+			System.arraycopy(longer.coefficients, start, x, 0, length);
+			Arrays.fill(x, length, n, 0.0);
+			RealFft.forward(x, re, im, transform);
+			RealFft.multiply(re, im, shortRe, shortIm);
+			RealFft.inverse(re, im, x, transform);
+			for (int i = 0; i < length + m - 1; i++) {
+				result[start + i] += x[i];
+			}
 		}
-		// TODO
+		return new Polynomial(result, result.length);
+	}
+	
+	private double[] paddedCoefficients(int n) {
+		double[] result = new double[n];
+		System.arraycopy(coefficients, 0, result, 0, size);
 		return result;
 	}
 }
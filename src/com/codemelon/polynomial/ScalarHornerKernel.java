@@ -0,0 +1,55 @@
+package com.codemelon.polynomial;
+
+/**
+ * HornerKernel.SCALAR. Points are taken in blocks of BLOCK with the
+ * coefficient loop outermost, so the accumulators of a block stay in L1
+ * and each coefficient is read once per block.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class ScalarHornerKernel implements HornerKernel {
+	static final int BLOCK = 256;
+
+	@Override
+	public void evaluate(double[] coefficients, int size, double[] xs, int from, int to, double[] out) {
+		for (int block = from; block < to; block += BLOCK) {
+			int end = Math.min(block + BLOCK, to);
+			double lead = coefficients[size - 1];
+			for (int j = block; j < end; j++) {
+				out[j] = lead;
+			}
+			for (int i = size - 2; i >= 0; i--) {
+				double c = coefficients[i];
+				for (int j = block; j < end; j++) {
+					out[j] = out[j] * xs[j] + c;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void evaluate(double[] coefficientsRe, double[] coefficientsIm, int size, double[] xsRe, double[] xsIm, 
+			int from, int to, double[] outRe, double[] outIm) {
+		for (int block = from; block < to; block += BLOCK) {
+			int end = Math.min(block + BLOCK, to);
+			double leadRe = coefficientsRe[size - 1];
+			double leadIm = coefficientsIm[size - 1];
+			for (int j = block; j < end; j++) {
+				outRe[j] = leadRe;
+				outIm[j] = leadIm;
+			}
+			for (int i = size - 2; i >= 0; i--) {
+				double cRe = coefficientsRe[i];
+				double cIm = coefficientsIm[i];
+				for (int j = block; j < end; j++) {
+					double accRe = outRe[j];
+					double accIm = outIm[j];
+					outRe[j] = accRe * xsRe[j] - accIm * xsIm[j] + cRe;
+					outIm[j] = accRe * xsIm[j] + accIm * xsRe[j] + cIm;
+				}
+			}
+		}
+	}
+}
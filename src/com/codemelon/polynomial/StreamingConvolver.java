@@ -0,0 +1,275 @@
+package com.codemelon.polynomial;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import com.codemelon.fft.ComplexTransform;
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.RealFft;
+
+/**
+ * Convolves an unbounded real stream with a fixed FIR filter, the filter's
+ * coefficients being its impulse response: output sample t is
+ * sum over k of h_k x_(t - k), exactly the coefficients of the product of
+ * the stream (as a polynomial) and the filter, without ever holding the
+ * stream.
+ *
+ * Input is accepted in chunks of any length and buffered into blocks of
+ * blockLength() samples. Each complete block goes through one real FFT of
+ * transformLength() points against the filter spectrum, computed once, and
+ * its blockLength() outputs are emitted straight away. An output sample
+ * therefore leaves at most blockLength() - 1 samples after the input sample
+ * with the same index, and memory is a few arrays of transformLength()
+ * whatever the length of the stream. flush() ends the stream, emitting the
+ * outputs still pending and the filter's tail of m - 1 samples, m being the
+ * number of coefficients.
+ *
+ * Two block methods give the same outputs up to rounding:
+ * OVERLAP_ADD transforms each block alone and adds the last m - 1 samples of
+ * its product into the start of the next block's; OVERLAP_SAVE transforms
+ * each block behind the last m - 1 inputs of the one before and keeps only
+ * the outputs free of wrap-around.
+ *
+ * A convolver holds the state of one stream and is not thread-safe.
+ * ComplexStreamingConvolver does the same for complex filters and streams.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public final class StreamingConvolver {
+
+	public enum Method {
+		OVERLAP_ADD,
+		OVERLAP_SAVE
+	}
+
+	private final Method method;
+	private final ComplexTransform transform;
+	// number of filter coefficients
+	private final int m;
+	private final int block;
+	private final int n;
+	// packed RealFft spectrum of the filter
+	private final double[] filterRe;
+	private final double[] filterIm;
+	// OVERLAP_ADD: tail of the last block product; OVERLAP_SAVE: last m - 1 inputs
+	private final double[] carry;
+	private final double[] input;
+	private final double[] output;
+	private final double[] x;
+	private final double[] re;
+	private final double[] im;
+	private int pending;
+	// true once any input has arrived since the last flush or reset
+	private boolean started;
+
+	/**
+	 * OVERLAP_SAVE with blocks of about 3 times the filter length, the
+	 * proportions UNBALANCED multiplication uses
+	 * @param filter impulse response
+	 */
+	public StreamingConvolver(Polynomial filter) {
+		this(filter, Method.OVERLAP_SAVE, defaultBlockLength(filter.toArray().length, Fft.sequential()));
+	}
+
+	/**
+	 * @param filter impulse response
+	 * @param method
+	 * @param blockLength input samples per transform, which bounds the
+	 * latency; at least 1
+	 */
+	public StreamingConvolver(Polynomial filter, Method method, int blockLength) {
+		this(filter, method, blockLength, Fft.sequential());
+	}
+
+	/**
+	 * As StreamingConvolver(filter, method, blockLength), running the FFTs on
+	 * the given engine
+	 */
+	public StreamingConvolver(Polynomial filter, Method method, int blockLength, ComplexTransform transform) {
+		if (method == null) {
+			throw new NullPointerException("Method cannot be null");
+		}
+		if (blockLength < 1) {
+			throw new IllegalArgumentException("Block length must be positive");
+		}
+		double[] h = filter.toArray();
+		this.method = method;
+		this.transform = transform;
+		this.m = h.length;
+		this.block = blockLength;
+		// linear, not circular, convolution of a block with the filter
+		this.n = 2 * transform.transformLength((blockLength + m) / 2);
+		this.filterRe = new double[n / 2];
+		this.filterIm = new double[n / 2];
+		RealFft.forward(Arrays.copyOf(h, n), filterRe, filterIm, transform);
+		this.carry = new double[m - 1];
+		this.input = new double[blockLength];
+		this.output = new double[blockLength];
+		this.x = new double[n];
+		this.re = new double[n / 2];
+		this.im = new double[n / 2];
+	}
+
+	static int defaultBlockLength(int m, ComplexTransform transform) {
+		int n = 2 * transform.transformLength((MultiplyStrategy.blockTransformLength(m) + 1) / 2);
+		return n - m + 1;
+	}
+
+	public Method method() {
+		return method;
+	}
+
+	/**
+	 * @return input samples per transform, one more than the greatest
+	 * latency
+	 */
+	public int blockLength() {
+		return block;
+	}
+
+	/**
+	 * @return length of the real FFT run per block
+	 */
+	public int transformLength() {
+		return n;
+	}
+
+	/**
+	 * @return input samples waiting for their block to fill
+	 */
+	public int pending() {
+		return pending;
+	}
+
+	/**
+	 * Reads input and writes the outputs of every block it completes, until
+	 * either input is used up or output lacks room for the next block, in
+	 * which case input is left at the first sample not read.
+	 * @param input
+	 * @param output
+	 * @return number of outputs written
+	 */
+	public int process(DoubleBuffer input, DoubleBuffer output) {
+		int written = 0;
+		while (input.hasRemaining()) {
+			int count = Math.min(block - pending, input.remaining());
+			if (pending + count == block && output.remaining() < block) {
+				break;
+			}
+			input.get(this.input, pending, count);
+			pending += count;
+			started = true;
+			if (pending == block) {
+				transformBlock();
+				output.put(this.output, 0, block);
+				written += block;
+				pending = 0;
+			}
+		}
+		return written;
+	}
+
+	/**
+	 * @param chunk next input samples
+	 * @return the outputs of every block the chunk completes
+	 */
+	public double[] process(double[] chunk) {
+		double[] result = new double[(pending + chunk.length) / block * block];
+		process(DoubleBuffer.wrap(chunk), DoubleBuffer.wrap(result));
+		return result;
+	}
+
+	/**
+	 * Ends the stream: writes the outputs of the pending samples followed by
+	 * the m - 1 outputs of the filter's tail, then resets the convolver for a
+	 * new stream. Nothing is written if no input has arrived.
+	 * @param output
+	 * @return number of outputs written
+	 * @throws BufferOverflowException if output has fewer than
+	 * flushLength() samples remaining, in which case nothing is written
+	 */
+	public int flush(DoubleBuffer output) {
+		int total = flushLength();
+		if (output.remaining() < total) {
+			throw new BufferOverflowException();
+		}
+		for (int remaining = total; remaining > 0; remaining -= block) {
+			Arrays.fill(input, pending, block, 0.0);
+			transformBlock();
+			output.put(this.output, 0, Math.min(block, remaining));
+			pending = 0;
+		}
+		reset();
+		return total;
+	}
+
+	/**
+	 * @return the rest of the output stream
+	 */
+	public double[] flush() {
+		double[] result = new double[flushLength()];
+		flush(DoubleBuffer.wrap(result));
+		return result;
+	}
+
+	/**
+	 * @return number of outputs flush will write
+	 */
+	public int flushLength() {
+		return started ? pending + m - 1 : 0;
+	}
+
+	/**
+	 * Discards pending input and the history of the stream
+	 */
+	public void reset() {
+		Arrays.fill(carry, 0.0);
+		pending = 0;
+		started = false;
+	}
+
+	/**
+	 * Convolves the full input block with the filter into output, updating
+	 * carry
+	 */
+	private void transformBlock() {
+		int overlap = m - 1;
+		if (method == Method.OVERLAP_ADD) {
+			System.arraycopy(input, 0, x, 0, block);
+			Arrays.fill(x, block, n, 0.0);
+			convolve();
+			for (int i = 0; i < block; i++) {
+				output[i] = i < overlap ? x[i] + carry[i] : x[i];
+			}
+			// the tail of this product plus whatever of the old tail reaches past the block
+			for (int i = 0; i < overlap; i++) {
+				carry[i] = block + i < overlap ? x[block + i] + carry[block + i] : x[block + i];
+			}
+			return;
+		}
+		System.arraycopy(carry, 0, x, 0, overlap);
+		System.arraycopy(input, 0, x, overlap, block);
+		Arrays.fill(x, overlap + block, n, 0.0);
+		convolve();
+		System.arraycopy(x, overlap, output, 0, block);
+		if (block >= overlap) {
+			System.arraycopy(input, block - overlap, carry, 0, overlap);
+		}
+		else {
+			System.arraycopy(carry, block, carry, 0, overlap - block);
+			System.arraycopy(input, 0, carry, overlap - block, block);
+		}
+	}
+
+	/**
+	 * Replaces x with its circular convolution with the filter
+	 */
+	private void convolve() {
+		RealFft.forward(x, re, im, transform);
+		RealFft.multiply(re, im, filterRe, filterIm);
+		RealFft.inverse(re, im, x, transform);
+	}
+}
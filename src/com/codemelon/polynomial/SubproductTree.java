@@ -0,0 +1,177 @@
+package com.codemelon.polynomial;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Subproduct tree over a set of real points, for evaluating polynomials at
+ * all of them at once. Cf. von zur Gathen and Gerhard, Modern Computer
+ * Algebra, 10.1.
+ *
+ * Each leaf holds the product of (x - x_i) over at most LEAF_SIZE points
+ * and each inner node the product of its two children. To evaluate f, f is
+ * reduced modulo the root and each remainder modulo the children on the way
+ * down (the remainder tree); at a leaf the remainder has degree below
+ * LEAF_SIZE and is evaluated by Horner's rule. Products and remainders use
+ * the fast multiplication of times(), so the cost is O(n log^2 n).
+ *
+ * In floating point the tree is only as good as the node polynomials are
+ * conditioned: once their coefficients grow, the remainders lose accuracy
+ * about as fast, and a few hundred points in [-1/2, 1/2] are already enough
+ * to lose every digit. The points are therefore sorted and dealt alternately
+ * to the two children of every node (and likewise inside the leaves), so
+ * that each node's points are spread over the whole range rather than
+ * clustered, which keeps the node coefficients as small as they can be.
+ * Even so, real points only stay well conditioned in large numbers if they
+ * are small (within about 0.05 of 0 for 10^4 points). If any node's
+ * coefficients exceed MAX_COEFFICIENT the tree is abandoned while it is
+ * being built and every point is evaluated by Horner's rule instead.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class SubproductTree {
+	static final int LEAF_SIZE = 64;
+	/**
+	 * Largest node coefficient (in modulus) for which the values stay within
+	 * about 1e-11 of Horner's rule, relative to the largest value
+	 */
+	static final double MAX_COEFFICIENT = 16.0;
+
+	// points in tree order: node [from, to) holds the points in that range
+	private final double[] points;
+	// position in tree order of the caller's point i
+	private final int[] positions;
+	// null if the tree was abandoned
+	private final Node root;
+
+	SubproductTree(double[] points) {
+		int n = points.length;
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		final double[] values = points;
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				return Double.compare(values[i], values[j]);
+			}
+		});
+		int[] sorted = new int[n];
+		for (int i = 0; i < n; i++) {
+			sorted[i] = order[i];
+		}
+		deal(sorted, 0, n, new int[n]);
+		this.points = new double[n];
+		this.positions = new int[n];
+		for (int i = 0; i < n; i++) {
+			this.points[i] = points[sorted[i]];
+			this.positions[sorted[i]] = i;
+		}
+		this.root = build(0, n);
+	}
+
+	/**
+	 * @return false if the tree was abandoned for Horner's rule
+	 */
+	boolean isConditioned() {
+		return root != null;
+	}
+
+	/**
+	 * @param f
+	 * @return the value of f at points[i] in position i
+	 */
+	double[] evaluate(Polynomial f) {
+		double[] values = new double[points.length];
+		if (root == null) {
+			f.horner(points, 0, points.length, values);
+		}
+		else {
+			descend(root, f.mod(root.product), values);
+		}
+		double[] result = new double[points.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = values[positions[i]];
+		}
+		return result;
+	}
+
+	/**
+	 * @param remainder f modulo the node's product
+	 */
+	private void descend(Node node, Polynomial remainder, double[] values) {
+		if (node.left == null) {
+			remainder.horner(points, node.from, node.to, values);
+			return;
+		}
+		descend(node.left, remainder.mod(node.left.product), values);
+		descend(node.right, remainder.mod(node.right.product), values);
+	}
+
+	/**
+	 * @return the node for points [from, to), null if any node below it
+	 * exceeds MAX_COEFFICIENT
+	 */
+	private Node build(int from, int to) {
+		Node result;
+		if (to - from <= LEAF_SIZE) {
+			result = new Node(from, to, Polynomial.fromRoots(points, from, to), null, null);
+		}
+		else {
+			int middle = middle(from, to);
+			Node left = build(from, middle);
+			Node right = left == null ? null : build(middle, to);
+			if (right == null) {
+				return null;
+			}
+			result = new Node(from, to, left.product.times(right.product), left, right);
+		}
+		return result.product.maxAbsCoefficient() > MAX_COEFFICIENT ? null : result;
+	}
+
+	/**
+	 * Reorders a[from, to) so that its even-indexed entries come first,
+	 * then its odd-indexed ones, and recursively within each half. The
+	 * recursion continues inside the leaves, so that the partial products
+	 * fromRoots forms on the way to a leaf's product are spread out too.
+	 */
+	static void deal(int[] a, int from, int to, int[] scratch) {
+		if (to - from <= 2) {
+			return;
+		}
+		int middle = middle(from, to);
+		int even = from;
+		int odd = middle;
+		for (int i = from; i < to; i++) {
+			scratch[(i - from) % 2 == 0 ? even++ : odd++] = a[i];
+		}
+		System.arraycopy(scratch, from, a, from, to - from);
+		deal(a, from, middle, scratch);
+		deal(a, middle, to, scratch);
+	}
+
+	// the left child takes the extra point of an odd range, as the even entries do
+	static int middle(int from, int to) {
+		return from + (to - from + 1) / 2;
+	}
+
+	private static final class Node {
+		private final int from;
+		private final int to;
+		private final Polynomial product;
+		// both null at a leaf
+		private final Node left;
+		private final Node right;
+
+		private Node(int from, int to, Polynomial product, Node left, Node right) {
+			this.from = from;
+			this.to = to;
+			this.product = product;
+			this.left = left;
+			this.right = right;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package com.codemelon.polynomial;
+
+/**
+ * Karatsuba and Toom-3 multiplication of real coefficient arrays. Both split
+ * balanced operands recursively down to a schoolbook base case; an
+ * unbalanced product is done as a sequence of balanced ones, cutting the
+ * longer operand into pieces the length of the shorter.
+ *
+ * Karatsuba works in one scratch buffer sized up front. Toom-3 evaluates at
+ * 0, 1, -1, -2 and infinity and interpolates with the sequence of Bodrato
+ * (2007); its divisions by 2 and 3 are exact up to rounding.
+ *
+ * Complex products are done by ComplexPolynomial as three real ones.
+ *
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+final class ToomCook {
+	/**
+	 * Balanced products of at most this many coefficients are schoolbook
+	 */
+	static final int KARATSUBA_CUTOFF = 24;
+	/**
+	 * Toom-3 hands balanced products of at most this many coefficients to
+	 * Karatsuba
+	 */
+	static final int TOOM_3_CUTOFF = 96;
+
+	private ToomCook() {
+	}
+
+	/**
+	 * @param strategy KARATSUBA or TOOM_3
+	 * @param a
+	 * @param aSize number of leading entries of a to use, at least 1
+	 * @param b
+	 * @param bSize number of leading entries of b to use, at least 1
+	 * @return the aSize + bSize - 1 coefficients of the product
+	 */
+	static double[] multiply(MultiplyStrategy strategy, double[] a, int aSize, double[] b, int bSize) {
+		if (aSize < bSize) {
+			return multiply(strategy, b, bSize, a, aSize);
+		}
+		double[] result = new double[aSize + bSize - 1];
+		int m = bSize;
+		double[] piece = new double[m];
+		double[] product = new double[2 * m - 1];
+		double[] scratch = new double[scratchSize(m)];
+		for (int start = 0; start < aSize; start += m) {
+			int length = Math.min(m, aSize - start);
+			double[] source = a;
+			int offset = start;
+			if (length < m) {
+				System.arraycopy(a, start, piece, 0, length);
+				source = piece;
+				offset = 0;
+			}
+			if (strategy == MultiplyStrategy.TOOM_3) {
+				toom3(source, offset, b, 0, m, product, 0);
+			}
+			else {
+				karatsuba(source, offset, b, 0, m, product, 0, scratch, 0);
+			}
+			int terms = length + m - 1;
+			for (int i = 0; i < terms; i++) {
+				result[start + i] += product[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Sets out[oo, oo + 2n - 1) to the product of a[ao, ao + n) and
+	 * b[bo, bo + n)
+	 * @param scratch at least scratchSize(n) entries from so
+	 */
+	private static void karatsuba(double[] a, int ao, double[] b, int bo, int n,
+			double[] out, int oo, double[] scratch, int so) {
+		if (n <= KARATSUBA_CUTOFF) {
+			school(a, ao, b, bo, n, out, oo);
+			return;
+		}
+		int low = n >> 1;
+		int high = n - low;
+		// z0 = a0 * b0 and z2 = a1 * b1 go straight to their places in out
+		karatsuba(a, ao, b, bo, low, out, oo, scratch, so);
+		out[oo + 2 * low - 1] = 0.0;
+		karatsuba(a, ao + low, b, bo + low, high, out, oo + 2 * low, scratch, so);
+		int sumA = so;
+		int sumB = so + high;
+		int middle = so + 2 * high;
+		for (int i = 0; i < high; i++) {
+			scratch[sumA + i] = a[ao + low + i] + (i < low ? a[ao + i] : 0.0);
+			scratch[sumB + i] = b[bo + low + i] + (i < low ? b[bo + i] : 0.0);
+		}
+		// z1 = (a0 + a1)(b0 + b1) - z0 - z2
+		karatsuba(scratch, sumA, scratch, sumB, high, scratch, middle, scratch, middle + 2 * high - 1);
+		for (int i = 0; i < 2 * low - 1; i++) {
+			scratch[middle + i] -= out[oo + i];
+		}
+		for (int i = 0; i < 2 * high - 1; i++) {
+			scratch[middle + i] -= out[oo + 2 * low + i];
+		}
+		for (int i = 0; i < 2 * high - 1; i++) {
+			out[oo + low + i] += scratch[middle + i];
+		}
+	}
+
+	/**
+	 * @return scratch entries karatsuba needs for operands of length n
+	 */
+	private static int scratchSize(int n) {
+		int result = 0;
+		while (n > KARATSUBA_CUTOFF) {
+			int high = n - (n >> 1);
+			result += 4 * high - 1;
+			n = high;
+		}
+		return result;
+	}
+
+	/**
+	 * Sets out[oo, oo + 2n - 1) to the product of a[ao, ao + n) and
+	 * b[bo, bo + n)
+	 */
+	private static void toom3(double[] a, int ao, double[] b, int bo, int n, double[] out, int oo) {
+		if (n <= TOOM_3_CUTOFF) {
+			karatsuba(a, ao, b, bo, n, out, oo, new double[scratchSize(n)], 0);
+			return;
+		}
+		int k = (n + 2) / 3;
+		int top = n - 2 * k;
+		double[] a1 = new double[k];
+		double[] am1 = new double[k];
+		double[] am2 = new double[k];
+		double[] b1 = new double[k];
+		double[] bm1 = new double[k];
+		double[] bm2 = new double[k];
+		evaluate(a, ao, k, top, a1, am1, am2);
+		evaluate(b, bo, k, top, b1, bm1, bm2);
+		int productSize = 2 * k - 1;
+		double[] r0 = new double[productSize];
+		double[] r1 = new double[productSize];
+		double[] rm1 = new double[productSize];
+		double[] rm2 = new double[productSize];
+		double[] rInf = new double[productSize];
+		toom3(a, ao, b, bo, k, r0, 0);
+		toom3(a1, 0, b1, 0, k, r1, 0);
+		toom3(am1, 0, bm1, 0, k, rm1, 0);
+		toom3(am2, 0, bm2, 0, k, rm2, 0);
+		toom3(a, ao + 2 * k, b, bo + 2 * k, top, rInf, 0);
+		// interpolation, leaving the coefficients of x^(ik) in r0, r1, rm1, rm2, rInf
+		for (int i = 0; i < productSize; i++) {
+			double c3 = (rm2[i] - r1[i]) / 3.0;
+			double c1 = (r1[i] - rm1[i]) / 2.0;
+			double c2 = rm1[i] - r0[i];
+			c3 = (c2 - c3) / 2.0 + 2.0 * rInf[i];
+			c2 = c2 + c1 - rInf[i];
+			c1 = c1 - c3;
+			r1[i] = c1;
+			rm1[i] = c2;
+			rm2[i] = c3;
+		}
+		int outSize = 2 * n - 1;
+		for (int i = 0; i < outSize; i++) {
+			out[oo + i] = 0.0;
+		}
+		addShifted(r0, 0, out, oo, outSize);
+		addShifted(r1, k, out, oo, outSize);
+		addShifted(rm1, 2 * k, out, oo, outSize);
+		addShifted(rm2, 3 * k, out, oo, outSize);
+		addShifted(rInf, 4 * k, out, oo, outSize);
+	}
+
+	/**
+	 * Values at 1, -1 and -2 of a0 + a1 y + a2 y^2, where a0 and a1 have k
+	 * coefficients and a2 has top
+	 */
+	private static void evaluate(double[] a, int ao, int k, int top,
+			double[] at1, double[] atMinus1, double[] atMinus2) {
+		for (int i = 0; i < k; i++) {
+			double a0 = a[ao + i];
+			double a1 = a[ao + k + i];
+			double a2 = i < top ? a[ao + 2 * k + i] : 0.0;
+			double even = a0 + a2;
+			at1[i] = even + a1;
+			atMinus1[i] = even - a1;
+			atMinus2[i] = a0 - 2.0 * a1 + 4.0 * a2;
+		}
+	}
+
+	/**
+	 * out[oo + shift + i] += terms[i], ignoring anything at or beyond
+	 * outSize (zero up to rounding)
+	 */
+	private static void addShifted(double[] terms, int shift, double[] out, int oo, int outSize) {
+		int count = Math.min(terms.length, outSize - shift);
+		for (int i = 0; i < count; i++) {
+			out[oo + shift + i] += terms[i];
+		}
+	}
+
+	/**
+	 * Sets out[oo, oo + 2n - 1) to the product of a[ao, ao + n) and
+	 * b[bo, bo + n)
+	 */
+	private static void school(double[] a, int ao, double[] b, int bo, int n, double[] out, int oo) {
+		for (int i = 0; i < 2 * n - 1; i++) {
+			out[oo + i] = 0.0;
+		}
+		for (int i = 0; i < n; i++) {
+			double ai = a[ao + i];
+			for (int j = 0; j < n; j++) {
+				out[oo + i + j] += ai * b[bo + j];
+			}
+		}
+	}
+}
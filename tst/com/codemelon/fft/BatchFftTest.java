@@ -0,0 +1,163 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class BatchFftTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.fft.BatchFft#contiguous(int, int)}.
+	 */
+	@Test
+	public void testContiguousMatchesFft() {
+		Random random = new Random(41);
+		int[] lengths = { 1, 2, 8, 64, 1024, 12, 13 };
+		for (int n : lengths) {
+			int count = 37;
+			double[] re = FftTest.randomArray(random, n * count);
+			double[] im = FftTest.randomArray(random, n * count);
+			double[][] expected = expectedTransforms(re, im, n, count, 0, 1, n);
+			BatchFft.contiguous(n, count).forward(re, im);
+			assertLayout("n = " + n, expected, re, im, n, count, 0, 1, n);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.BatchFft#interleaved(int, int)}.
+	 */
+	@Test
+	public void testInterleavedMatchesFft() {
+		Random random = new Random(43);
+		int[] lengths = { 4, 256, 30 };
+		for (int n : lengths) {
+			int count = 19;
+			double[] re = FftTest.randomArray(random, n * count);
+			double[] im = FftTest.randomArray(random, n * count);
+			double[][] expected = expectedTransforms(re, im, n, count, 0, count, 1);
+			BatchFft.interleaved(n, count).forward(re, im);
+			assertLayout("n = " + n, expected, re, im, n, count, 0, count, 1);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.BatchFft#strided(int, int, int, int, int)}.
+	 */
+	@Test
+	public void testStridedLeavesGapsUntouched() {
+		Random random = new Random(47);
+		int n = 32;
+		int count = 5;
+		// every other element, vectors 70 apart, starting at 3
+		int length = 3 + 70 * count;
+		double[] re = FftTest.randomArray(random, length);
+		double[] im = FftTest.randomArray(random, length);
+		double[] originalRe = re.clone();
+		double[][] expected = expectedTransforms(re, im, n, count, 3, 2, 70);
+		BatchFft.strided(n, count, 3, 2, 70).forward(re, im);
+		assertLayout("strided", expected, re, im, n, count, 3, 2, 70);
+		assertEquals("Gap before first vector", originalRe[0], re[0], 0.0);
+		assertEquals("Gap between elements", originalRe[4], re[4], 0.0);
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.BatchFft#inverse(double[], double[])}.
+	 */
+	@Test
+	public void testInverse() {
+		Random random = new Random(53);
+		int n = 128;
+		int count = 3000;
+		double[] re = FftTest.randomArray(random, n * count);
+		double[] im = FftTest.randomArray(random, n * count);
+		double[] originalRe = re.clone();
+		double[] originalIm = im.clone();
+		BatchFft batch = BatchFft.interleaved(n, count);
+		batch.forward(re, im);
+		batch.inverse(re, im);
+		assertArrayEquals("Real parts restored", originalRe, re, DELTA);
+		assertArrayEquals("Imaginary parts restored", originalIm, im, DELTA);
+		batch = BatchFft.contiguous(n, count);
+		batch.forward(re, im);
+		batch.inverse(re, im);
+		assertArrayEquals("Real parts restored", originalRe, re, DELTA);
+		assertArrayEquals("Imaginary parts restored", originalIm, im, DELTA);
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.BatchFft#transformUnscaled(double[], double[], double, int, int)}.
+	 */
+	@Test
+	public void testUnscaledRangeOnly() {
+		Random random = new Random(57);
+		// gathered power of 2, and a length passed vector by vector
+		for (int n : new int[] { 16, 12 }) {
+			int count = 9;
+			double[] re = FftTest.randomArray(random, n * count);
+			double[] im = FftTest.randomArray(random, n * count);
+			double[] originalRe = re.clone();
+			double[] originalIm = im.clone();
+			double[][] expected = expectedTransforms(re, im, n, count, 0, count, 1);
+			BatchFft batch = BatchFft.interleaved(n, count);
+			batch.transformUnscaled(re, im, 1.0, 2, 5);
+			for (int b = 0; b < count; b++) {
+				for (int j = 0; j < n; j++) {
+					int i = j * count + b;
+					boolean inRange = b >= 2 && b < 5;
+					assertEquals("n = " + n + ", vector " + b, inRange ? expected[0][b * n + j] : originalRe[i], 
+							re[i], DELTA);
+					assertEquals("n = " + n + ", vector " + b, inRange ? expected[1][b * n + j] : originalIm[i], 
+							im[i], DELTA);
+				}
+			}
+			// the unscaled inverse is n times the inverse
+			batch.transformUnscaled(re, im, -1.0, 2, 5);
+			for (int i = 0; i < re.length; i++) {
+				boolean inRange = i % count >= 2 && i % count < 5;
+				assertEquals("n = " + n + ", inverse", (inRange ? n : 1) * originalRe[i], re[i], DELTA);
+				assertEquals("n = " + n + ", inverse", (inRange ? n : 1) * originalIm[i], im[i], DELTA);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRejectsShortArrays() {
+		BatchFft.contiguous(16, 4).forward(new double[63], new double[63]);
+	}
+
+	private static double[][] expectedTransforms(double[] re, double[] im, int n, int count, 
+			int offset, int elementStride, int vectorStride) {
+		double[][] result = new double[2][n * count];
+		for (int b = 0; b < count; b++) {
+			double[] vectorRe = new double[n];
+			double[] vectorIm = new double[n];
+			for (int j = 0; j < n; j++) {
+				vectorRe[j] = re[offset + b * vectorStride + j * elementStride];
+				vectorIm[j] = im[offset + b * vectorStride + j * elementStride];
+			}
+			Fft.forward(vectorRe, vectorIm);
+			System.arraycopy(vectorRe, 0, result[0], b * n, n);
+			System.arraycopy(vectorIm, 0, result[1], b * n, n);
+		}
+		return result;
+	}
+
+	private static void assertLayout(String message, double[][] expected, double[] re, double[] im, 
+			int n, int count, int offset, int elementStride, int vectorStride) {
+		for (int b = 0; b < count; b++) {
+			for (int j = 0; j < n; j++) {
+				int i = offset + b * vectorStride + j * elementStride;
+				assertEquals(message + ": vector " + b + ", real part " + j, expected[0][b * n + j], re[i], DELTA);
+				assertEquals(message + ": vector " + b + ", imaginary part " + j, expected[1][b * n + j], im[i], DELTA);
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class FftKernelTest {
+	public static final double DELTA = 0.000000001;
+
+	@Test
+	public void testKernelsMatchNaiveDft() {
+		Random random = new Random(11);
+		for (FftKernel kernel : FftKernel.values()) {
+			for (int n = 2; n <= 512; n *= 2) {
+				double[] re = FftTest.randomArray(random, n);
+				double[] im = FftTest.randomArray(random, n);
+				double[][] expected = FftTest.naiveDft(re, im, 1.0);
+				Fft.forward(re, im, kernel);
+				assertArrayEquals(kernel + ", n = " + n + ": real parts", expected[0], re, DELTA);
+				assertArrayEquals(kernel + ", n = " + n + ": imaginary parts", expected[1], im, DELTA);
+			}
+		}
+	}
+
+	@Test
+	public void testKernelsInverse() {
+		Random random = new Random(12);
+		for (FftKernel kernel : FftKernel.values()) {
+			for (int n = 1; n <= (1 << 14); n *= 2) {
+				double[] re = FftTest.randomArray(random, n);
+				double[] im = FftTest.randomArray(random, n);
+				double[] originalRe = re.clone();
+				double[] originalIm = im.clone();
+				Fft.forward(re, im, kernel);
+				Fft.inverse(re, im, kernel);
+				assertArrayEquals(kernel + ", n = " + n + ": real parts restored", originalRe, re, DELTA);
+				assertArrayEquals(kernel + ", n = " + n + ": imaginary parts restored", originalIm, im, DELTA);
+			}
+		}
+	}
+
+	@Test
+	public void testDefaultKernel() {
+		FftKernel original = Fft.getDefaultKernel();
+		try {
+			Fft.setDefaultKernel(FftKernel.SPLIT_RADIX);
+			assertEquals(FftKernel.SPLIT_RADIX, Fft.getDefaultKernel());
+			double[] re = { 0.0, 1.0, 2.0, 3.0 };
+			double[] im = new double[4];
+			Fft.forward(re, im);
+			assertArrayEquals("CLRS, p. 914", new double[] { 6.0, -2.0, -2.0, -2.0 }, re, DELTA);
+			assertArrayEquals("CLRS, p. 914", new double[] { 0.0, -2.0, 0.0, 2.0 }, im, DELTA);
+		}
+		finally {
+			Fft.setDefaultKernel(original);
+		}
+	}
+
+	@Test
+	public void testFourStepMatchesRadix4() {
+		Random random = new Random(13);
+		// square and 2:1 matrices, with row tiles and column tiles of several rows
+		for (int lg = 15; lg <= 18; lg++) {
+			int n = 1 << lg;
+			double[] re = FftTest.randomArray(random, n);
+			double[] im = FftTest.randomArray(random, n);
+			double[] expectedRe = re.clone();
+			double[] expectedIm = im.clone();
+			Fft.forward(expectedRe, expectedIm, FftKernel.RADIX_4);
+			Fft.forward(re, im, FftKernel.FOUR_STEP);
+			assertArrayEquals("n = " + n + ": real parts", expectedRe, re, DELTA);
+			assertArrayEquals("n = " + n + ": imaginary parts", expectedIm, im, DELTA);
+		}
+	}
+
+	@Test
+	public void testFourStepThreshold() {
+		int original = Fft.getFourStepThreshold();
+		try {
+			Fft.setFourStepThreshold(1 << 10);
+			assertEquals(Fft.getDefaultKernel(), Fft.kernelFor(1 << 9));
+			assertEquals(FftKernel.FOUR_STEP, Fft.kernelFor(1 << 10));
+			double[] re = FftTest.randomArray(new Random(14), 1 << 12);
+			double[] im = new double[re.length];
+			double[] originalRe = re.clone();
+			Fft.forward(re, im);
+			Fft.inverse(re, im);
+			assertArrayEquals("round trip above the threshold", originalRe, re, DELTA);
+			assertArrayEquals("round trip above the threshold", new double[re.length], im, DELTA);
+		}
+		finally {
+			Fft.setFourStepThreshold(original);
+		}
+	}
+}
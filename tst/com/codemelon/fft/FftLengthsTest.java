@@ -0,0 +1,67 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class FftLengthsTest {
+
+	/**
+	 * Test method for {@link com.codemelon.fft.FftLengths#isSmooth(int)}.
+	 */
+	@Test
+	public void testIsSmooth() {
+		assertTrue(FftLengths.isSmooth(1));
+		assertTrue(FftLengths.isSmooth(1024));
+		assertTrue(FftLengths.isSmooth(2 * 3 * 5 * 7 * 49));
+		assertFalse(FftLengths.isSmooth(11));
+		assertFalse(FftLengths.isSmooth(3 * 13));
+		assertFalse(FftLengths.isSmooth(0));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.FftLengths#factor(int)}.
+	 */
+	@Test
+	public void testFactor() {
+		assertArrayEquals(new int[] { 4, 4, 2 }, FftLengths.factor(32));
+		assertArrayEquals(new int[] { 4, 3, 5, 7 }, FftLengths.factor(420));
+		assertArrayEquals(new int[0], FftLengths.factor(1));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.FftLengths#transformLength(int)}.
+	 */
+	@Test
+	public void testTransformLength() {
+		for (int minLength = 1; minLength <= 5000; minLength += 7) {
+			int n = FftLengths.transformLength(minLength);
+			assertTrue("Long enough for " + minLength, n >= minLength);
+			assertTrue("Smooth for " + minLength, FftLengths.isSmooth(n));
+			assertTrue("No longer than the next power of 2 for " + minLength, 
+					n <= Fft.nextPowerOfTwo(minLength));
+			assertTrue("No costlier than the next power of 2 for " + minLength, 
+					FftLengths.cost(n) <= FftLengths.cost(Fft.nextPowerOfTwo(minLength)));
+		}
+		assertEquals("Powers of 2 are kept", 1024, FftLengths.transformLength(1024));
+		assertTrue("Just above a power of 2 avoids doubling", 
+				FftLengths.transformLength((1 << 20) + 1) < (1 << 21));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.FftLengths#realTransformLength(int)}.
+	 */
+	@Test
+	public void testRealTransformLength() {
+		for (int minLength = 1; minLength <= 2000; minLength += 3) {
+			int n = FftLengths.realTransformLength(minLength);
+			assertTrue("Long enough for " + minLength, n >= minLength);
+			assertEquals("Even for " + minLength, 0, n % 2);
+		}
+	}
+}
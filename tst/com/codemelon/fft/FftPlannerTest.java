@@ -0,0 +1,139 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class FftPlannerTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.fft.FftPlanner#plan(int, com.codemelon.fft.FftPlan.Direction)}.
+	 */
+	@Test
+	public void testPlansMatchFft() {
+		Random random = new Random(59);
+		FftPlanner planner = new FftPlanner();
+		int[] lengths = { 1, 2, 64, 1024, 360, 1009 };
+		for (int n : lengths) {
+			double[] re = FftTest.randomArray(random, n);
+			double[] im = FftTest.randomArray(random, n);
+			double[] expectedRe = re.clone();
+			double[] expectedIm = im.clone();
+			Fft.forward(expectedRe, expectedIm);
+			FftPlan plan = planner.plan(n, FftPlan.Direction.FORWARD);
+			assertEquals("Plan size", n, plan.size());
+			plan.execute(re, im);
+			assertArrayEquals("n = " + n + ": real parts", expectedRe, re, DELTA);
+			assertArrayEquals("n = " + n + ": imaginary parts", expectedIm, im, DELTA);
+			planner.plan(n, FftPlan.Direction.INVERSE).execute(re, im);
+			Fft.inverse(expectedRe, expectedIm);
+			assertArrayEquals("n = " + n + ": inverse real parts", expectedRe, re, DELTA);
+			assertArrayEquals("n = " + n + ": inverse imaginary parts", expectedIm, im, DELTA);
+		}
+		assertSame("Plans are remembered", planner.plan(64, FftPlan.Direction.FORWARD), 
+				planner.plan(64, FftPlan.Direction.FORWARD));
+		assertEquals("One plan per length and direction", 2 * lengths.length, planner.planCount());
+	}
+
+	@Test
+	public void testParallelCandidates() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			FftPlanner planner = new FftPlanner(pool);
+			Random random = new Random(61);
+			int n = 1 << 13;
+			double[] re = FftTest.randomArray(random, n);
+			double[] im = FftTest.randomArray(random, n);
+			double[] originalRe = re.clone();
+			double[] originalIm = im.clone();
+			planner.forward(re, im);
+			planner.inverse(re, im);
+			assertArrayEquals("Real parts restored", originalRe, re, DELTA);
+			assertArrayEquals("Imaginary parts restored", originalIm, im, DELTA);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.FftPlanner#exportWisdom(java.io.Writer)}.
+	 */
+	@Test
+	public void testWisdomRoundTrip() throws IOException {
+		FftPlanner planner = new FftPlanner();
+		planner.plan(256, FftPlan.Direction.FORWARD);
+		planner.plan(100, FftPlan.Direction.INVERSE);
+		StringWriter wisdom = new StringWriter();
+		planner.exportWisdom(wisdom);
+		FftPlanner warm = new FftPlanner();
+		warm.importWisdom(new StringReader(wisdom.toString()));
+		assertEquals("Both plans imported", 2, warm.planCount());
+		assertEquals("Same plan", planner.plan(256, FftPlan.Direction.FORWARD).toString(), 
+				warm.plan(256, FftPlan.Direction.FORWARD).toString());
+		assertEquals("Same plan", planner.plan(100, FftPlan.Direction.INVERSE).toString(), 
+				warm.plan(100, FftPlan.Direction.INVERSE).toString());
+	}
+
+	@Test
+	public void testParallelWisdomWithoutPool() throws IOException {
+		FftPlanner planner = new FftPlanner();
+		planner.importWisdom(new StringReader("# comment\n65536 FORWARD - 16384\n"));
+		FftPlan plan = planner.plan(1 << 16, FftPlan.Direction.FORWARD);
+		assertFalse("Sequential without a pool", plan.isParallel());
+	}
+
+	@Test(expected = IOException.class)
+	public void testImportRejectsMalformedWisdom() throws IOException {
+		new FftPlanner().importWisdom(new StringReader("64 SIDEWAYS RADIX_2 0\n"));
+	}
+
+	@Test(expected = IOException.class)
+	public void testImportRejectsKernelWithCutoff() throws IOException {
+		new FftPlanner().importWisdom(new StringReader("65536 FORWARD RADIX_4 16384\n"));
+	}
+
+	/**
+	 * Threads racing to plan the same length get the same plan
+	 */
+	@Test
+	public void testConcurrentPlans() throws InterruptedException {
+		final FftPlanner planner = new FftPlanner();
+		final FftPlan[] plans = new FftPlan[4];
+		Thread[] threads = new Thread[plans.length];
+		for (int t = 0; t < threads.length; t++) {
+			final int index = t;
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					plans[index] = planner.plan(1 << 10, FftPlan.Direction.FORWARD);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (FftPlan plan : plans) {
+			assertSame(plans[0], plan);
+		}
+		assertEquals(1, planner.planCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testExecuteRejectsWrongLength() {
+		new FftPlanner().plan(16, FftPlan.Direction.FORWARD).execute(new double[8], new double[8]);
+	}
+}
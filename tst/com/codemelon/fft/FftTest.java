@@ -0,0 +1,144 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class FftTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Fft#forward(double[], double[])}.
+	 */
+	@Test
+	public void testForward() {
+		// Test case from CLRS, p. 914
+		double[] re = { 0.0, 1.0, 2.0, 3.0 };
+		double[] im = new double[4];
+		Fft.forward(re, im);
+		double[] expectedRe = { 6.0, -2.0, -2.0, -2.0 };
+		double[] expectedIm = { 0.0, -2.0, 0.0, 2.0 };
+		for (int i = 0; i < 4; i++) {
+			assertEquals("Correct real part " + i, expectedRe[i], re[i], DELTA);
+			assertEquals("Correct imaginary part " + i, expectedIm[i], im[i], DELTA);
+		}
+	}
+
+	@Test
+	public void testForwardMatchesNaiveDft() {
+		Random random = new Random(17);
+		for (int n = 1; n <= 1024; n *= 2) {
+			double[] re = randomArray(random, n);
+			double[] im = randomArray(random, n);
+			double[][] expected = naiveDft(re, im, 1.0);
+			Fft.forward(re, im);
+			for (int i = 0; i < n; i++) {
+				assertEquals("n = " + n + ": correct real part " + i, expected[0][i], re[i], DELTA);
+				assertEquals("n = " + n + ": correct imaginary part " + i, expected[1][i], im[i], DELTA);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Fft#inverse(double[], double[])}.
+	 */
+	@Test
+	public void testInverse() {
+		Random random = new Random(42);
+		for (int n = 1; n <= 4096; n *= 4) {
+			double[] re = randomArray(random, n);
+			double[] im = randomArray(random, n);
+			double[] originalRe = re.clone();
+			double[] originalIm = im.clone();
+			Fft.forward(re, im);
+			Fft.inverse(re, im);
+			assertArrayEquals("n = " + n + ": real parts restored", originalRe, re, DELTA);
+			assertArrayEquals("n = " + n + ": imaginary parts restored", originalIm, im, DELTA);
+		}
+	}
+
+	@Test
+	public void testForwardAnyLengthMatchesNaiveDft() {
+		Random random = new Random(23);
+		// smooth lengths use the mixed-radix path, the rest Bluestein
+		int[] lengths = { 3, 5, 6, 7, 12, 15, 28, 30, 49, 105, 420, 11, 13, 22, 97, 1009, 2 * 3 * 11 * 13 };
+		for (int n : lengths) {
+			double[] re = randomArray(random, n);
+			double[] im = randomArray(random, n);
+			double[][] expected = naiveDft(re, im, 1.0);
+			Fft.forward(re, im);
+			for (int i = 0; i < n; i++) {
+				assertEquals("n = " + n + ": correct real part " + i, expected[0][i], re[i], DELTA);
+				assertEquals("n = " + n + ": correct imaginary part " + i, expected[1][i], im[i], DELTA);
+			}
+		}
+	}
+
+	@Test
+	public void testInverseAnyLength() {
+		Random random = new Random(29);
+		int[] lengths = { 3, 10, 35, 360, 17, 1000, 1021 };
+		for (int n : lengths) {
+			double[] re = randomArray(random, n);
+			double[] im = randomArray(random, n);
+			double[] originalRe = re.clone();
+			double[] originalIm = im.clone();
+			Fft.forward(re, im);
+			Fft.inverse(re, im);
+			assertArrayEquals("n = " + n + ": real parts restored", originalRe, re, DELTA);
+			assertArrayEquals("n = " + n + ": imaginary parts restored", originalIm, im, DELTA);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testForwardRejectsEmpty() {
+		Fft.forward(new double[0], new double[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testForwardRejectsMismatchedLengths() {
+		Fft.forward(new double[8], new double[4]);
+	}
+
+	@Test
+	public void testNextPowerOfTwo() {
+		assertEquals(1, Fft.nextPowerOfTwo(1));
+		assertEquals(2, Fft.nextPowerOfTwo(2));
+		assertEquals(4, Fft.nextPowerOfTwo(3));
+		assertEquals(1024, Fft.nextPowerOfTwo(1000));
+		assertEquals(1 << 30, Fft.nextPowerOfTwo((1 << 29) + 1));
+	}
+
+	static double[] randomArray(Random random, int n) {
+		double[] result = new double[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = random.nextDouble() * 2.0 - 1.0;
+		}
+		return result;
+	}
+
+	/**
+	 * O(n^2) reference transform evaluating at powers of e^(sign * 2 pi i / n)
+	 */
+	static double[][] naiveDft(double[] re, double[] im, double sign) {
+		int n = re.length;
+		double[][] result = new double[2][n];
+		for (int k = 0; k < n; k++) {
+			for (int j = 0; j < n; j++) {
+				double angle = sign * 2.0 * Math.PI * ((long) j * k % n) / n;
+				double cos = Math.cos(angle);
+				double sin = Math.sin(angle);
+				result[0][k] += re[j] * cos - im[j] * sin;
+				result[1][k] += re[j] * sin + im[j] * cos;
+			}
+		}
+		return result;
+	}
+}
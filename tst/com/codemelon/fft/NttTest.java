@@ -0,0 +1,128 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class NttTest {
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Ntt#forward(int[])}.
+	 */
+	@Test
+	public void testForwardMatchesDefinition() {
+		Random random = new Random(59);
+		for (int i = 0; i < Ntt.PRIME_COUNT; i++) {
+			Ntt ntt = Ntt.forPrime(i);
+			long p = ntt.modulus();
+			for (int n : new int[] { 1, 2, 8, 64 }) {
+				int[] a = randomResidues(random, n, ntt);
+				int[] expected = new int[n];
+				// omega_n is the one the transform uses: forward of the unit vector at 1
+				int[] unit = new int[n];
+				unit[n > 1 ? 1 : 0] = 1;
+				ntt.forward(unit);
+				long omega = unit[1 % n];
+				assertEquals("root of unity", 1L, power(omega, n, p));
+				if (n > 1) {
+					assertNotEquals("primitive", 1L, power(omega, n / 2, p));
+				}
+				for (int k = 0; k < n; k++) {
+					long sum = 0;
+					for (int j = 0; j < n; j++) {
+						sum = (sum + a[j] * power(omega, (long) j * k % n, p)) % p;
+					}
+					expected[k] = (int) sum;
+				}
+				ntt.forward(a);
+				assertArrayEquals("prime " + p + ", n = " + n, expected, a);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Ntt#inverse(int[])}.
+	 */
+	@Test
+	public void testInverse() {
+		Random random = new Random(61);
+		for (int i = 0; i < Ntt.PRIME_COUNT; i++) {
+			Ntt ntt = Ntt.forPrime(i);
+			// below, at and above the depth-first block
+			for (int n : new int[] { 1, 16, Ntt.BLOCK, 4 * Ntt.BLOCK }) {
+				int[] a = randomResidues(random, n, ntt);
+				int[] x = a.clone();
+				ntt.forward(x);
+				ntt.inverse(x);
+				assertArrayEquals("prime " + ntt.modulus() + ", n = " + n, a, x);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Ntt#multiply(int[], int[])}.
+	 */
+	@Test
+	public void testCyclicConvolution() {
+		Random random = new Random(67);
+		Ntt ntt = Ntt.forPrime(0);
+		long p = ntt.modulus();
+		int n = 128;
+		int[] a = randomResidues(random, n, ntt);
+		int[] b = randomResidues(random, n, ntt);
+		long[] expected = new long[n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				expected[(i + j) % n] = (expected[(i + j) % n] + (long) a[i] * b[j]) % p;
+			}
+		}
+		ntt.forward(a);
+		ntt.forward(b);
+		ntt.multiply(a, b);
+		ntt.inverse(a);
+		for (int i = 0; i < n; i++) {
+			assertEquals(expected[i], a[i]);
+		}
+	}
+
+	@Test
+	public void testResidue() {
+		Ntt ntt = Ntt.forPrime(Ntt.PRIME_COUNT - 1);
+		int p = ntt.modulus();
+		assertEquals(p - 1, ntt.residue(-1L));
+		assertEquals(0, ntt.residue(3L * p));
+		assertEquals(Math.floorMod(Long.MIN_VALUE, (long) p), ntt.residue(Long.MIN_VALUE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLengthNotPowerOfTwo() {
+		Ntt.forPrime(0).forward(new int[12]);
+	}
+
+	private static int[] randomResidues(Random random, int n, Ntt ntt) {
+		int[] result = new int[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = random.nextInt(ntt.modulus());
+		}
+		return result;
+	}
+
+	private static long power(long base, long exponent, long p) {
+		long result = 1;
+		while (exponent > 0) {
+			if ((exponent & 1) != 0) {
+				result = result * base % p;
+			}
+			base = base * base % p;
+			exponent >>= 1;
+		}
+		return result;
+	}
+}
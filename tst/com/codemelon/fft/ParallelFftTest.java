@@ -0,0 +1,85 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class ParallelFftTest {
+	public static final double DELTA = 0.000000001;
+	private ForkJoinPool pool;
+
+	@Before
+	public void setUp() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.ParallelFft#forward(double[], double[])}.
+	 */
+	@Test
+	public void testForwardMatchesSequential() {
+		Random random = new Random(31);
+		ParallelFft parallel = new ParallelFft(pool, 8);
+		for (int n = 1; n <= (1 << 14); n *= 2) {
+			double[] re = FftTest.randomArray(random, n);
+			double[] im = FftTest.randomArray(random, n);
+			double[] expectedRe = re.clone();
+			double[] expectedIm = im.clone();
+			Fft.forward(expectedRe, expectedIm);
+			parallel.forward(re, im);
+			assertArrayEquals("n = " + n + ": real parts", expectedRe, re, DELTA);
+			assertArrayEquals("n = " + n + ": imaginary parts", expectedIm, im, DELTA);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.ParallelFft#inverse(double[], double[])}.
+	 */
+	@Test
+	public void testInverse() {
+		Random random = new Random(37);
+		ParallelFft parallel = new ParallelFft(pool, 16);
+		int[] lengths = { 1 << 12, 3 * 100, 1 << 15 };
+		for (int n : lengths) {
+			double[] re = FftTest.randomArray(random, n);
+			double[] im = FftTest.randomArray(random, n);
+			double[] originalRe = re.clone();
+			double[] originalIm = im.clone();
+			parallel.forward(re, im);
+			parallel.inverse(re, im);
+			assertArrayEquals("n = " + n + ": real parts restored", originalRe, re, DELTA);
+			assertArrayEquals("n = " + n + ": imaginary parts restored", originalIm, im, DELTA);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.ParallelFft#transformLength(int)}.
+	 */
+	@Test
+	public void testTransformLength() {
+		ParallelFft parallel = new ParallelFft(pool, 1024);
+		assertEquals("Smooth length below the cutoff", FftLengths.transformLength(1000), 
+				parallel.transformLength(1000));
+		assertEquals("Power of 2 above the cutoff", 4096, parallel.transformLength(3000));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRejectsBadCutoff() {
+		new ParallelFft(pool, 100);
+	}
+}
@@ -0,0 +1,105 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class RealFftTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.fft.RealFft#forward(double[], double[], double[])}.
+	 */
+	@Test
+	public void testForwardMatchesComplexTransform() {
+		Random random = new Random(5);
+		for (int n = 2; n <= 1024; n *= 2) {
+			double[] x = FftTest.randomArray(random, n);
+			double[] expectedRe = x.clone();
+			double[] expectedIm = new double[n];
+			Fft.forward(expectedRe, expectedIm);
+			double[] re = new double[n / 2];
+			double[] im = new double[n / 2];
+			RealFft.forward(x, re, im);
+			assertEquals("n = " + n + ": bin 0", expectedRe[0], re[0], DELTA);
+			assertEquals("n = " + n + ": bin n / 2", expectedRe[n / 2], im[0], DELTA);
+			for (int k = 1; k < n / 2; k++) {
+				assertEquals("n = " + n + ": real part " + k, expectedRe[k], re[k], DELTA);
+				assertEquals("n = " + n + ": imaginary part " + k, expectedIm[k], im[k], DELTA);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.RealFft#inverse(double[], double[], double[])}.
+	 */
+	@Test
+	public void testInverse() {
+		Random random = new Random(6);
+		for (int n = 2; n <= 4096; n *= 2) {
+			double[] x = FftTest.randomArray(random, n);
+			double[] re = new double[n / 2];
+			double[] im = new double[n / 2];
+			double[] result = new double[n];
+			RealFft.forward(x, re, im);
+			RealFft.inverse(re, im, result);
+			assertArrayEquals("n = " + n + ": input restored", x, result, DELTA);
+		}
+	}
+
+	@Test
+	public void testEvenNonPowerOfTwoLengths() {
+		Random random = new Random(7);
+		int[] lengths = { 6, 10, 30, 22, 210, 202 };
+		for (int n : lengths) {
+			double[] x = FftTest.randomArray(random, n);
+			double[] expectedRe = x.clone();
+			double[] expectedIm = new double[n];
+			Fft.forward(expectedRe, expectedIm);
+			double[] re = new double[n / 2];
+			double[] im = new double[n / 2];
+			RealFft.forward(x, re, im);
+			assertEquals("n = " + n + ": bin 0", expectedRe[0], re[0], DELTA);
+			assertEquals("n = " + n + ": bin n / 2", expectedRe[n / 2], im[0], DELTA);
+			for (int k = 1; k < n / 2; k++) {
+				assertEquals("n = " + n + ": real part " + k, expectedRe[k], re[k], DELTA);
+				assertEquals("n = " + n + ": imaginary part " + k, expectedIm[k], im[k], DELTA);
+			}
+			double[] result = new double[n];
+			RealFft.inverse(re, im, result);
+			assertArrayEquals("n = " + n + ": input restored", x, result, DELTA);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.RealFft#multiply(double[], double[], double[], double[])}.
+	 */
+	@Test
+	public void testMultiplyGivesCyclicConvolution() {
+		double[] a = { 1.0, 2.0, 3.0, 0.0, 0.0, 0.0, 0.0, 0.0 };
+		double[] b = { 4.0, 5.0, 0.0, 0.0, 0.0, 0.0, 0.0, 6.0 };
+		double[] reA = new double[4];
+		double[] imA = new double[4];
+		double[] reB = new double[4];
+		double[] imB = new double[4];
+		RealFft.forward(a, reA, imA);
+		RealFft.forward(b, reB, imB);
+		RealFft.multiply(reA, imA, reB, imB);
+		double[] result = new double[8];
+		RealFft.inverse(reA, imA, result);
+		double[] expected = { 4.0 + 12.0, 13.0 + 18.0, 22.0, 15.0, 0.0, 0.0, 0.0, 6.0 };
+		assertArrayEquals("Correct cyclic convolution", expected, result, DELTA);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testForwardRejectsWrongSpectrumLength() {
+		RealFft.forward(new double[8], new double[8], new double[8]);
+	}
+}
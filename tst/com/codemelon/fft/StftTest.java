@@ -0,0 +1,120 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class StftTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Stft#next(DoubleBuffer, double[], double[])}.
+	 */
+	@Test
+	public void testFramesMatchDft() {
+		Random random = new Random(47);
+		double[] stream = new double[1000];
+		for (int i = 0; i < stream.length; i++) {
+			stream[i] = random.nextDouble() - 0.5;
+		}
+		double[] window = Stft.Window.HANN.coefficients(48);
+		// overlapping frames, adjacent frames and frames with gaps between them
+		for (int hop : new int[] { 12, 48, 70 }) {
+			Stft stft = new Stft(window, hop, 64);
+			double[] frameRe = new double[stft.bins()];
+			double[] frameIm = new double[stft.bins()];
+			int frame = 0;
+			for (int start = 0; start < stream.length; ) {
+				int length = Math.min(random.nextInt(40), stream.length - start);
+				DoubleBuffer chunk = DoubleBuffer.wrap(stream, start, length);
+				while (stft.next(chunk, frameRe, frameIm)) {
+					assertFrame("hop " + hop + ", frame " + frame, stream, frame * hop, window, 64, frameRe, frameIm);
+					frame++;
+				}
+				assertFalse("chunk used up", chunk.hasRemaining());
+				start += length;
+			}
+			assertEquals("hop " + hop + ": every complete frame", 
+					(stream.length - window.length) / hop + 1, frame);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Stft#nextMagnitudes(DoubleBuffer, double[])}.
+	 */
+	@Test
+	public void testMagnitudesOfSinusoid() {
+		int n = 256;
+		double[] signal = new double[4 * n];
+		for (int i = 0; i < signal.length; i++) {
+			signal[i] = 3.0 * Math.cos(2.0 * Math.PI * 20 * i / n);
+		}
+		Stft stft = new Stft(Stft.Window.RECTANGULAR, n / 2, n);
+		double[] magnitudes = new double[stft.bins()];
+		DoubleBuffer input = DoubleBuffer.wrap(signal);
+		int frames = 0;
+		while (stft.nextMagnitudes(input, magnitudes)) {
+			for (int k = 0; k < magnitudes.length; k++) {
+				assertEquals("bin " + k, k == 20 ? 1.5 * n : 0.0, magnitudes[k], DELTA);
+			}
+			frames++;
+		}
+		assertEquals(7, frames);
+	}
+
+	@Test
+	public void testReset() {
+		Stft stft = new Stft(Stft.Window.RECTANGULAR, 1, 2);
+		double[] magnitudes = new double[2];
+		assertFalse(stft.nextMagnitudes(DoubleBuffer.wrap(new double[] { 5.0 }), magnitudes));
+		stft.reset();
+		assertTrue(stft.nextMagnitudes(DoubleBuffer.wrap(new double[] { 1.0, 2.0 }), magnitudes));
+		assertArrayEquals("sum and difference", new double[] { 3.0, 1.0 }, magnitudes, DELTA);
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Stft.Window#coefficients(int)}.
+	 */
+	@Test
+	public void testWindowsSumToConstant() {
+		int length = 64;
+		for (Stft.Window window : Stft.Window.values()) {
+			double[] w = window.coefficients(length);
+			double first = w[0] + w[length / 4] + w[length / 2] + w[3 * length / 4];
+			for (int i = 1; i < length / 4; i++) {
+				double sum = w[i] + w[i + length / 4] + w[i + length / 2] + w[i + 3 * length / 4];
+				assertEquals(window + " at " + i, first, sum, DELTA);
+			}
+		}
+		assertEquals("Hann peaks in the middle", 1.0, Stft.Window.HANN.coefficients(length)[length / 2], DELTA);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWindowLongerThanFft() {
+		new Stft(new double[65], 16, 64);
+	}
+
+	private static void assertFrame(String message, double[] stream, int start, double[] window, int n,
+			double[] frameRe, double[] frameIm) {
+		for (int k = 0; k <= n / 2; k++) {
+			double expectedRe = 0.0;
+			double expectedIm = 0.0;
+			for (int j = 0; j < window.length; j++) {
+				double value = window[j] * stream[start + j];
+				double angle = 2.0 * Math.PI * j * k / n;
+				expectedRe += value * Math.cos(angle);
+				expectedIm += value * Math.sin(angle);
+			}
+			assertEquals(message + ", bin " + k + ": real", expectedRe, frameRe[k], DELTA);
+			assertEquals(message + ", bin " + k + ": imaginary", expectedIm, frameIm[k], DELTA);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class TransposeTest {
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Transpose#transpose(double[], int, int, double[])}.
+	 */
+	@Test
+	public void testTranspose() {
+		Random random = new Random(53);
+		// tiles cut at the edges in either or both directions
+		int[][] shapes = { { 1, 1 }, { 1, 70 }, { 70, 1 }, { 32, 64 }, { 45, 33 }, { 100, 7 } };
+		for (int[] shape : shapes) {
+			int rows = shape[0];
+			int cols = shape[1];
+			double[] src = FftTest.randomArray(random, rows * cols);
+			double[] dst = new double[rows * cols + 3];
+			Transpose.transpose(src, rows, cols, dst);
+			for (int i = 0; i < rows; i++) {
+				for (int j = 0; j < cols; j++) {
+					assertEquals(rows + " x " + cols + " at (" + i + ", " + j + ")", 
+							src[i * cols + j], dst[j * rows + i], 0.0);
+				}
+			}
+			assertEquals("nothing written past the matrix", 0.0, dst[rows * cols], 0.0);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.Transpose#transposeSquare(double[], int)}.
+	 */
+	@Test
+	public void testTransposeSquare() {
+		Random random = new Random(59);
+		for (int n : new int[] { 0, 1, 5, 32, 33, 100 }) {
+			double[] a = FftTest.randomArray(random, n * n);
+			double[] original = a.clone();
+			Transpose.transposeSquare(a, n);
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j < n; j++) {
+					assertEquals(n + " x " + n + " at (" + i + ", " + j + ")", original[i * n + j], a[j * n + i], 0.0);
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTransposeRejectsSameArray() {
+		double[] a = new double[6];
+		Transpose.transpose(a, 2, 3, a);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTransposeRejectsShortArray() {
+		Transpose.transpose(new double[5], 2, 3, new double[6]);
+	}
+}
@@ -0,0 +1,213 @@
+package com.codemelon.fft;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class TwiddleCacheTest {
+	public static final double DELTA = 0.000000000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.fft.TwiddleCache#forSize(int)}.
+	 */
+	@Test
+	public void testForSize() {
+		TwiddleCache cache = new TwiddleCache(TwiddleCache.DEFAULT_MAX_BYTES);
+		Twiddles twiddles = cache.forSize(1024);
+		assertEquals("Correct size", 1024, twiddles.size());
+		for (int k = 0; k < 1024; k++) {
+			double angle = 2.0 * Math.PI * k / 1024;
+			assertEquals("Correct real part " + k, Math.cos(angle), twiddles.cos(k), DELTA);
+			assertEquals("Correct imaginary part " + k, Math.sin(angle), twiddles.sin(k), DELTA);
+		}
+		assertSame("Second request hits the cache", twiddles, cache.forSize(1024));
+	}
+
+	@Test
+	public void testSmallerSizeIsStridedView() {
+		TwiddleCache cache = new TwiddleCache(TwiddleCache.DEFAULT_MAX_BYTES);
+		Twiddles large = cache.forSize(256);
+		Twiddles small = cache.forSize(16);
+		assertEquals("Only the large table is stored", 1, cache.tableCount());
+		assertSame("View shares the large table", large.cosTable(), small.cosTable());
+		assertEquals("Correct view size", 16, small.size());
+		for (int k = 0; k < 16; k++) {
+			double angle = 2.0 * Math.PI * k / 16;
+			assertEquals("Correct real part " + k, Math.cos(angle), small.cos(k), DELTA);
+			assertEquals("Correct imaginary part " + k, Math.sin(angle), small.sin(k), DELTA);
+		}
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		// room for the 16 and 64 tables, or the 32 and 64 tables, but not all 3
+		TwiddleCache cache = new TwiddleCache(16L * 100);
+		Twiddles t16 = cache.forSize(16);
+		Twiddles t32 = cache.forSize(32);
+		assertEquals("Both tables stored", 2, cache.tableCount());
+		assertSame("Exact hit on 16 marks it as recently used", t16, cache.forSize(16));
+		Twiddles t64 = cache.forSize(64);
+		assertEquals("32 table evicted once 64 arrives", 2, cache.tableCount());
+		assertEquals(16L * (16 + 64), cache.bytes());
+		assertSame("16 table retained", t16, cache.forSize(16));
+		assertSame("64 table retained", t64, cache.forSize(64));
+		assertNotSame("32 now served as a view of 64", t32, cache.forSize(32));
+		assertSame("View shares the 64 table", t64.cosTable(), cache.forSize(32).cosTable());
+	}
+
+	@Test
+	public void testTableLargerThanCapIsNotCached() {
+		TwiddleCache cache = new TwiddleCache(16L * 8);
+		Twiddles twiddles = cache.forSize(16);
+		assertEquals("Correct size", 16, twiddles.size());
+		assertEquals("Nothing cached", 0, cache.tableCount());
+		assertEquals("No bytes held", 0L, cache.bytes());
+	}
+
+	@Test
+	public void testNonPowerOfTwoSizes() {
+		TwiddleCache cache = new TwiddleCache(TwiddleCache.DEFAULT_MAX_BYTES);
+		Twiddles t60 = cache.forSize(60);
+		Twiddles t12 = cache.forSize(12);
+		assertSame("12 is a view of 60", t60.cosTable(), t12.cosTable());
+		for (int k = 0; k < 12; k++) {
+			double angle = 2.0 * Math.PI * k / 12;
+			assertEquals("Correct real part " + k, Math.cos(angle), t12.cos(k), DELTA);
+			assertEquals("Correct imaginary part " + k, Math.sin(angle), t12.sin(k), DELTA);
+		}
+		cache.forSize(7);
+		assertEquals("7 does not divide 60", 2, cache.tableCount());
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.TwiddleCache#stages(int, int)}.
+	 */
+	@Test
+	public void testStages() {
+		TwiddleCache cache = new TwiddleCache(TwiddleCache.DEFAULT_MAX_BYTES);
+		for (int n : new int[] { 2, 8, 64, 128 }) {
+			Twiddles twiddles = cache.forSize(n);
+			StageTwiddles radix2 = cache.stages(n, StageTwiddles.RADIX_2);
+			assertEquals("Radix-2 entries", n - 1, radix2.re().length);
+			for (int half = 1; half < n; half <<= 1) {
+				for (int j = 0; j < half; j++) {
+					int k = j * (n / (2 * half));
+					assertEquals("Real part, half " + half, twiddles.cos(k), radix2.re()[half - 1 + j], 0.0);
+					assertEquals("Imaginary part, half " + half, twiddles.sin(k), radix2.im()[half - 1 + j], 0.0);
+				}
+			}
+			StageTwiddles radix4 = cache.stages(n, StageTwiddles.RADIX_4);
+			int first = StageTwiddles.firstQuarter(n);
+			assertEquals("Radix-4 entries", n - first, radix4.re().length);
+			for (int q = first, offset = 0; q < n; offset += 3 * q, q *= 4) {
+				int step = n / (4 * q);
+				for (int k = 0; k < q; k++) {
+					for (int power = 1; power <= 3; power++) {
+						int index = offset + (power - 1) * q + k;
+						assertEquals("Real part, q " + q, twiddles.cos(power * k * step), radix4.re()[index], 0.0);
+						assertEquals("Imaginary part, q " + q, twiddles.sin(power * k * step), radix4.im()[index], 0.0);
+					}
+				}
+			}
+			assertSame("Second request hits the cache", radix4, cache.stages(n, StageTwiddles.RADIX_4));
+		}
+	}
+
+	@Test
+	public void testStagesEvictedBeforeTables() {
+		TwiddleCache cache = new TwiddleCache(16L * 200);
+		Twiddles t64 = cache.forSize(64);
+		cache.stages(64, StageTwiddles.RADIX_2);
+		StageTwiddles radix4 = cache.stages(64, StageTwiddles.RADIX_4);
+		assertEquals(16L * (64 + 63 + 63), cache.bytes());
+		Twiddles t128 = cache.forSize(128);
+		assertEquals("Both tables kept", 2, cache.tableCount());
+		assertEquals("Stage tables evicted", 16L * (64 + 128), cache.bytes());
+		assertSame("64 table retained", t64, cache.forSize(64));
+		assertSame("128 table retained", t128, cache.forSize(128));
+		assertNotSame("Stage table recomputed", radix4, cache.stages(64, StageTwiddles.RADIX_4));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.fft.TwiddleCache#quarterWave(int)}.
+	 */
+	@Test
+	public void testQuarterWave() {
+		// room for the quarter of 1024 but not the full table
+		TwiddleCache cache = new TwiddleCache(16L * 512);
+		Twiddles quarter = cache.quarterWave(1024);
+		assertEquals("Correct size", 1024, quarter.size());
+		for (int k = 0; k < 256; k++) {
+			double angle = 2.0 * Math.PI * k / 1024;
+			assertEquals("Correct real part " + k, Math.cos(angle), quarter.cos(k), DELTA);
+			assertEquals("Correct imaginary part " + k, Math.sin(angle), quarter.sin(k), DELTA);
+		}
+		assertEquals("Only the quarter held", 16L * 256, cache.bytes());
+		assertEquals("Not a full table", 0, cache.tableCount());
+		assertSame("Second request hits the cache", quarter, cache.quarterWave(1024));
+		Twiddles full = cache.forSize(256);
+		assertSame("A full table of a multiple is used instead", full.cosTable(), cache.quarterWave(128).cosTable());
+		cache.clear();
+		assertEquals(0L, cache.bytes());
+	}
+
+	@Test
+	public void testQuarterWavesEvictedBeforeTables() {
+		TwiddleCache cache = new TwiddleCache(16L * 300);
+		Twiddles t128 = cache.forSize(128);
+		cache.quarterWave(512);
+		assertEquals(16L * (128 + 128), cache.bytes());
+		cache.forSize(96);
+		assertEquals("Quarter evicted", 16L * (128 + 96), cache.bytes());
+		assertSame("128 table retained", t128, cache.forSize(128));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testForSizeRejectsNonPositive() {
+		new TwiddleCache(TwiddleCache.DEFAULT_MAX_BYTES).forSize(0);
+	}
+
+	@Test
+	public void testConcurrentAccess() throws InterruptedException {
+		final TwiddleCache cache = new TwiddleCache(16L * 2048);
+		final List<Throwable> failures = new ArrayList<Throwable>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int t = 0; t < 8; t++) {
+			final int seed = t;
+			Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						for (int i = 0; i < 500; i++) {
+							int n = 1 << ((seed + i) % 12);
+							Twiddles twiddles = cache.forSize(n);
+							if (twiddles.size() != n || Math.abs(twiddles.cos(0) - 1.0) > DELTA) {
+								throw new AssertionError("Bad table for size " + n);
+							}
+						}
+					}
+					catch (Throwable e) {
+						synchronized (failures) {
+							failures.add(e);
+						}
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue("No failures: " + failures, failures.isEmpty());
+		assertTrue("Cap respected", cache.bytes() <= 16L * 2048);
+	}
+}
@@ -0,0 +1,70 @@
+package com.codemelon.integer;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class BigIntegerMultiplyTest {
+
+	/**
+	 * Test method for {@link com.codemelon.integer.BigIntegerMultiply#multiply(BigInteger, BigInteger)}.
+	 */
+	@Test
+	public void testMultiply() {
+		Random random = new Random(83);
+		int[][] words = { { BigIntegerMultiply.THRESHOLD, BigIntegerMultiply.THRESHOLD },
+				{ 3 * BigIntegerMultiply.THRESHOLD + 7, BigIntegerMultiply.THRESHOLD + 1 },
+				{ 10, 5 * BigIntegerMultiply.THRESHOLD } };
+		for (int[] length : words) {
+			BigInteger a = new BigInteger(32 * length[0], random).setBit(32 * length[0] - 1);
+			BigInteger b = new BigInteger(32 * length[1], random).setBit(32 * length[1] - 1);
+			assertEquals(a.multiply(b), BigIntegerMultiply.multiply(a, b));
+			assertEquals(a.negate().multiply(b), BigIntegerMultiply.multiply(a.negate(), b));
+			assertEquals(a.multiply(b), BigIntegerMultiply.multiply(a.negate(), b.negate()));
+		}
+		assertEquals(BigInteger.ZERO, BigIntegerMultiply.multiply(BigInteger.ZERO, BigInteger.TEN));
+	}
+
+	/**
+	 * Every word 2^32 - 1 makes each coefficient as large as it can be
+	 */
+	@Test
+	public void testAllOnes() {
+		BigInteger a = BigInteger.ONE.shiftLeft(32 * 3 * BigIntegerMultiply.THRESHOLD).subtract(BigInteger.ONE);
+		assertEquals("square", a.multiply(a), BigIntegerMultiply.multiply(a, a));
+		BigInteger b = a.shiftRight(32 * BigIntegerMultiply.THRESHOLD);
+		assertEquals(a.multiply(b), BigIntegerMultiply.multiply(a, b));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.integer.BigIntegerMultiply#multiply(int[], int[], int)}.
+	 */
+	@Test
+	public void testSplitBeyondMaxLength() {
+		Random random = new Random(89);
+		BigInteger a = new BigInteger(32 * 300, random);
+		BigInteger b = new BigInteger(32 * 77, random).or(BigInteger.ONE.shiftLeft(32 * 77).subtract(BigInteger.ONE));
+		int[] product = BigIntegerMultiply.multiply(BigIntegerMultiply.toWords(a), BigIntegerMultiply.toWords(b), 64);
+		assertEquals(a.multiply(b), BigIntegerMultiply.fromWords(product, 1));
+	}
+
+	@Test
+	public void testWords() {
+		BigInteger[] values = { BigInteger.ONE, BigInteger.valueOf(0xffffffffL), BigInteger.valueOf(1L << 32),
+				new BigInteger("-123456789012345678901234567890"), BigInteger.ONE.shiftLeft(95) };
+		for (BigInteger value : values) {
+			int[] words = BigIntegerMultiply.toWords(value);
+			assertEquals(value + " has its words", (value.bitLength() + 31) / 32, words.length);
+			assertEquals(value, BigIntegerMultiply.fromWords(words, value.signum()));
+		}
+		assertArrayEquals(new int[] { 0, 0, 1 << 31 }, BigIntegerMultiply.toWords(BigInteger.ONE.shiftLeft(95)));
+	}
+}
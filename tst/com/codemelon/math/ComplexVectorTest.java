@@ -0,0 +1,104 @@
+package com.codemelon.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class ComplexVectorTest {
+	public static final double DELTA = 0.0000000000001;
+
+	private static ComplexVector first() {
+		return ComplexVector.fromComplex(new Complex[] { new Complex(1.0, 2.0),
+				new Complex(-3.0, 0.5), Complex.ZERO });
+	}
+
+	private static ComplexVector second() {
+		return ComplexVector.fromComplex(new Complex[] { new Complex(0.0, 1.0),
+				new Complex(2.0, -2.0), Complex.ONE });
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.math.ComplexVector#fromComplex(Complex[])}.
+	 */
+	@Test
+	public void testFromComplex() {
+		ComplexVector v = first();
+		assertEquals("Correct length", 3, v.length());
+		assertTrue("Correct entry 0", v.get(0).equalWithinDelta(new Complex(1.0, 2.0)));
+		assertEquals("Correct real part 1", -3.0, v.real(1), DELTA);
+		assertEquals("Correct imaginary part 1", 0.5, v.imaginary(1), DELTA);
+	}
+
+	@Test
+	public void testFromArraysCopiesAndWrapDoesNot() {
+		double[] re = { 1.0, 2.0 };
+		double[] im = { 3.0, 4.0 };
+		ComplexVector copy = ComplexVector.fromArrays(re, im);
+		ComplexVector view = ComplexVector.wrap(re, im);
+		re[0] = 10.0;
+		assertEquals("Copy unaffected", 1.0, copy.real(0), DELTA);
+		assertEquals("Wrapped vector sees the change", 10.0, view.real(0), DELTA);
+		assertSame("Backing array exposed", re, view.realParts());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrapRejectsMismatchedLengths() {
+		ComplexVector.wrap(new double[2], new double[3]);
+	}
+
+	@Test
+	public void testPlusAndMinus() {
+		ComplexVector a = first();
+		ComplexVector b = second();
+		ComplexVector sum = a.plus(b);
+		ComplexVector difference = a.minus(b);
+		for (int i = 0; i < a.length(); i++) {
+			assertTrue("Correct sum " + i, sum.get(i).equalWithinDelta(a.get(i).plus(b.get(i))));
+			assertTrue("Correct difference " + i, difference.get(i).equalWithinDelta(a.get(i).minus(b.get(i))));
+		}
+		assertTrue("Operands unchanged", a.get(0).equalWithinDelta(new Complex(1.0, 2.0)));
+	}
+
+	@Test
+	public void testTimes() {
+		ComplexVector a = first();
+		ComplexVector b = second();
+		ComplexVector product = a.times(b);
+		for (int i = 0; i < a.length(); i++) {
+			assertTrue("Correct product " + i, product.get(i).equalWithinDelta(a.get(i).times(b.get(i))));
+		}
+		a.multiplyInPlace(b);
+		for (int i = 0; i < a.length(); i++) {
+			assertTrue("Correct in-place product " + i, a.get(i).equalWithinDelta(product.get(i)));
+		}
+	}
+
+	@Test
+	public void testConjugateAndScale() {
+		ComplexVector a = first();
+		ComplexVector conjugate = a.conjugate();
+		ComplexVector scaled = a.scale(2.5);
+		for (int i = 0; i < a.length(); i++) {
+			assertTrue("Correct conjugate " + i, conjugate.get(i).equalWithinDelta(a.get(i).conjugate()));
+			assertTrue("Correct scaled " + i, scaled.get(i).equalWithinDelta(a.get(i).times(2.5)));
+		}
+	}
+
+	@Test
+	public void testCopyOf() {
+		ComplexVector a = first().copyOf(5);
+		assertEquals("Correct length", 5, a.length());
+		assertTrue("Padded with 0", a.get(4).equalWithinDelta(Complex.ZERO));
+		assertEquals("Truncated", 1, a.copyOf(1).length());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlusRejectsDifferentLengths() {
+		first().plus(new ComplexVector(2));
+	}
+}
@@ -0,0 +1,70 @@
+package com.codemelon.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class MutableComplexTest {
+
+	/**
+	 * Test method for {@link com.codemelon.math.MutableComplex#add(com.codemelon.math.Complex)}.
+	 */
+	@Test
+	public void testAdd() {
+		Complex a = new Complex(2.71828, 3.14159);
+		Complex b = new Complex(-7.0, 0.5);
+		MutableComplex m = new MutableComplex(a).add(b);
+		assertTrue("Correct sum", m.toComplex().equalWithinDelta(a.plus(b)));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.math.MutableComplex#multiplyBy(com.codemelon.math.Complex)}.
+	 */
+	@Test
+	public void testMultiplyBy() {
+		Complex a = Complex.fromPolar(2.0, Math.PI / 8);
+		Complex b = Complex.fromPolar(0.5, 3.0 * Math.PI / 8);
+		MutableComplex m = new MutableComplex(a).multiplyBy(b);
+		assertTrue("Correct product", m.toComplex().equalWithinDelta(a.times(b)));
+		m.multiplyBy(4.0);
+		assertTrue("Correct product with real", m.toComplex().equalWithinDelta(a.times(b).times(4.0)));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.math.MutableComplex#addTimes(com.codemelon.math.Complex, com.codemelon.math.Complex)}.
+	 */
+	@Test
+	public void testAddTimes() {
+		Complex start = new Complex(1.0, -1.0);
+		Complex a = new Complex(2.0, 3.0);
+		Complex b = new Complex(-4.0, 5.0);
+		MutableComplex m = new MutableComplex(start).addTimes(a, b);
+		assertTrue("Correct accumulation", m.toComplex().equalWithinDelta(start.plus(a.times(b))));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.math.MutableComplex#multiplyAdd(com.codemelon.math.Complex, com.codemelon.math.Complex)}.
+	 */
+	@Test
+	public void testMultiplyAdd() {
+		Complex start = new Complex(1.0, -1.0);
+		Complex m = new Complex(2.0, 3.0);
+		Complex a = new Complex(-4.0, 5.0);
+		MutableComplex result = new MutableComplex(start).multiplyAdd(m, a);
+		assertTrue("Correct Horner step", result.toComplex().equalWithinDelta(start.times(m).plus(a)));
+	}
+
+	@Test
+	public void testSet() {
+		MutableComplex m = new MutableComplex();
+		assertTrue("Starts at 0", m.toComplex().equalWithinDelta(Complex.ZERO));
+		m.set(Complex.ONE);
+		assertEquals("Real part set", 1.0, m.real(), Complex.DELTA);
+		assertEquals("Imaginary part set", 0.0, m.imaginary(), Complex.DELTA);
+	}
+}
@@ -0,0 +1,48 @@
+package com.codemelon.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class VectorKernelsTest {
+
+	/**
+	 * Test method for {@link com.codemelon.math.VectorKernels#load(Class, Object)}.
+	 */
+	@Test
+	public void testLoadWithoutProvider() {
+		Runnable fallback = new Runnable() {
+			@Override
+			public void run() {
+			}
+		};
+		assertSame("no provider registered", fallback, VectorKernels.load(Runnable.class, fallback));
+	}
+
+	@Test
+	public void testDisabled() {
+		String previous = System.getProperty(VectorKernels.ENABLED_PROPERTY);
+		System.setProperty(VectorKernels.ENABLED_PROPERTY, "false");
+		try {
+			Runnable fallback = new Runnable() {
+				@Override
+				public void run() {
+				}
+			};
+			assertSame("disabled by property", fallback, VectorKernels.load(Runnable.class, fallback));
+		}
+		finally {
+			if (previous == null) {
+				System.clearProperty(VectorKernels.ENABLED_PROPERTY);
+			}
+			else {
+				System.setProperty(VectorKernels.ENABLED_PROPERTY, previous);
+			}
+		}
+	}
+}
@@ -2,14 +2,21 @@ package com.codemelon.polynomial;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.FftKernel;
 import com.codemelon.math.Complex;
+import com.codemelon.math.ComplexVector;
 
 /**
  * @author Marshall Farrier
@@ -75,6 +82,23 @@ public class ComplexPolynomialTest {
 				p3.coefficient(9).equalWithinDelta(Complex.ZERO));
 	}
 
+	/**
+	 * Test method for {@link com.codemelon.polynomial.ComplexPolynomial#fromVector(com.codemelon.math.ComplexVector)}.
+	 */
+	@Test
+	public void testFromVectorAndToVector() {
+		ComplexVector input = ComplexVector.fromComplex(new Complex[] { Complex.ONE, 
+				new Complex(0.0, 2.0), Complex.ZERO });
+		ComplexPolynomial p = ComplexPolynomial.fromVector(input);
+		input.set(1, Complex.ZERO);
+		assertEquals("Leading 0 trimmed", 1, p.degree());
+		assertTrue("Coefficient 1 not affected by changes to input", 
+				p.coefficient(1).equalWithinDelta(new Complex(0.0, 2.0)));
+		ComplexVector output = p.toVector();
+		assertEquals("Output has degree + 1 entries", 2, output.length());
+		assertTrue("Output entry 1 correct", output.get(1).equalWithinDelta(new Complex(0.0, 2.0)));
+	}
+
 	/**
 	 * Test method for {@link com.codemelon.polynomial.ComplexPolynomial#plus(com.codemelon.polynomial.ComplexPolynomial)}.
 	 */
@@ -202,6 +226,97 @@ public class ComplexPolynomialTest {
 				.equalWithinDelta(Complex.ONE.negative()));
 	}
 
+	/**
+	 * Test method for {@link com.codemelon.polynomial.ComplexPolynomial#times(ComplexPolynomial, java.util.concurrent.ForkJoinPool)}.
+	 */
+	@Test
+	public void testTimesParallel() {
+		Random random = new Random(9);
+		Complex[] p1Coefficients = new Complex[20000];
+		Complex[] p2Coefficients = new Complex[15000];
+		for (int i = 0; i < p1Coefficients.length; i++) {
+			p1Coefficients[i] = new Complex(random.nextInt(5) - 2, random.nextInt(5) - 2);
+		}
+		for (int i = 0; i < p2Coefficients.length; i++) {
+			p2Coefficients[i] = new Complex(random.nextInt(5) - 2, random.nextInt(5) - 2);
+		}
+		p1Coefficients[p1Coefficients.length - 1] = Complex.ONE;
+		p2Coefficients[p2Coefficients.length - 1] = Complex.ONE;
+		ComplexPolynomial p1 = new ComplexPolynomial(p1Coefficients);
+		ComplexPolynomial p2 = new ComplexPolynomial(p2Coefficients);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ComplexPolynomial expected = p1.times(p2);
+			ComplexPolynomial product = p1.times(p2, pool);
+			assertEquals("correct degree", expected.degree(), product.degree());
+			for (int i = 0; i <= expected.degree(); i++) {
+				assertTrue("coefficient " + i, product.coefficient(i).minus(expected.coefficient(i)).abs() < 0.000001);
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.ComplexPolynomial#multiplyAll(java.util.List, ComplexPolynomial)}.
+	 */
+	@Test
+	public void testMultiplyAll() {
+		Random random = new Random(11);
+		List<ComplexPolynomial> polynomials = new ArrayList<ComplexPolynomial>();
+		for (int degree = 0; degree < 40; degree += 3) {
+			Complex[] coefficients = new Complex[degree + 1];
+			for (int i = 0; i <= degree; i++) {
+				coefficients[i] = new Complex(random.nextInt(11) - 5, random.nextInt(11) - 5);
+			}
+			coefficients[degree] = Complex.ONE;
+			polynomials.add(new ComplexPolynomial(coefficients));
+		}
+		polynomials.add(ComplexPolynomial.fromDegree(-1));
+		ComplexPolynomial p = new ComplexPolynomial(new Complex[] { new Complex(1.0, 2.0), 
+				new Complex(0.0, -1.0), new Complex(3.0, 0.0) });
+		List<ComplexPolynomial> products = ComplexPolynomial.multiplyAll(polynomials, p);
+		assertEquals("One product per polynomial", polynomials.size(), products.size());
+		for (int b = 0; b < polynomials.size(); b++) {
+			ComplexPolynomial expected = polynomials.get(b).times(p);
+			assertEquals("Product " + b + ": correct degree", expected.degree(), products.get(b).degree());
+			for (int i = 0; i <= expected.degree(); i++) {
+				assertTrue("Product " + b + ": coefficient " + i, 
+						products.get(b).coefficient(i).equalWithinDelta(expected.coefficient(i)));
+			}
+		}
+	}
+
+	@Test
+	public void testMultiplyStrategiesAgree() {
+		Random random = new Random(13);
+		int[][] sizes = { { 1, 1 }, { 5, 300 }, { 40, 40 }, { 129, 65 }, { 500, 500 }, { 1000, 301 }, { 7, 3000 }, { 100, 5000 } };
+		for (int[] pair : sizes) {
+			Complex[] c1 = new Complex[pair[0]];
+			Complex[] c2 = new Complex[pair[1]];
+			for (int i = 0; i < c1.length; i++) {
+				c1[i] = new Complex(random.nextInt(11) - 5, random.nextInt(11) - 5);
+			}
+			for (int i = 0; i < c2.length; i++) {
+				c2[i] = new Complex(random.nextInt(11) - 5, random.nextInt(11) - 5);
+			}
+			c1[c1.length - 1] = Complex.ONE;
+			c2[c2.length - 1] = Complex.ONE;
+			ComplexPolynomial p1 = new ComplexPolynomial(c1);
+			ComplexPolynomial p2 = new ComplexPolynomial(c2);
+			ComplexPolynomial expected = ComplexPolynomial.schoolMultiply(p1, p2);
+			for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+				ComplexPolynomial product = ComplexPolynomial.multiply(strategy, p1, p2, Fft.sequential());
+				assertEquals(strategy + ": correct degree", expected.degree(), product.degree());
+				for (int i = 0; i <= expected.degree(); i++) {
+					assertTrue(strategy + ": coefficient " + i, 
+							product.coefficient(i).minus(expected.coefficient(i)).abs() < 0.000001);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Test method for {@link com.codemelon.polynomial.ComplexPolynomial#evaluate(com.codemelon.math.Complex)}.
 	 */
@@ -223,6 +338,151 @@ public class ComplexPolynomialTest {
 				answer.equalWithinDelta(new Complex(-1.0, 1.0)));
 	}
 
+	@Test
+	public void testEvaluatePoints() {
+		Random random = new Random(17);
+		Complex[] coefficients = new Complex[300];
+		for (int i = 0; i < coefficients.length; i++) {
+			coefficients[i] = new Complex(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+		}
+		ComplexPolynomial p = new ComplexPolynomial(coefficients);
+		Complex[] points = new Complex[1000];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = Complex.fromPolar(random.nextDouble(), 2.0 * Math.PI * random.nextDouble());
+		}
+		Complex[] values = p.evaluate(points);
+		assertEquals("one value per point", points.length, values.length);
+		for (int i = 0; i < points.length; i++) {
+			assertTrue("value " + i, values[i].minus(p.evaluate(points[i])).abs() < 0.000001);
+		}
+	}
+	
+	@Test
+	public void testEvaluateBatch() {
+		Random random = new Random(43);
+		ComplexPolynomial p = new ComplexPolynomial(new Complex[] { new Complex(0.5, 1.0), new Complex(-1.0, 0.0), 
+				new Complex(0.25, -2.0), new Complex(0.0, 0.75) });
+		ComplexVector points = new ComplexVector(600);
+		for (int i = 0; i < points.length(); i++) {
+			points.set(i, 2.0 * random.nextDouble() - 1.0, 2.0 * random.nextDouble() - 1.0);
+		}
+		ComplexVector out = new ComplexVector(points.length());
+		p.evaluateBatch(points, out);
+		for (int i = 0; i < points.length(); i++) {
+			assertTrue("value " + i, out.get(i).minus(p.evaluate(points.get(i))).abs() < 0.000001);
+		}
+	}
+	
+	/**
+	 * Test method for {@link com.codemelon.polynomial.ComplexPolynomial#divideAndRemainder(ComplexPolynomial)}.
+	 */
+	@Test
+	public void testDivideAndRemainder() {
+		Random random = new Random(19);
+		int[][] sizes = { { 1, 1 }, { 10, 1 }, { 10, 4 }, { 4, 10 }, { 300, 100 }, { 500, 200 }, { 1000, 500 } };
+		for (int[] pair : sizes) {
+			Complex[] c1 = new Complex[pair[0]];
+			Complex[] c2 = new Complex[pair[1]];
+			for (int i = 0; i < c1.length; i++) {
+				c1[i] = new Complex(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+			}
+			// unit leading coefficient and small lower terms keep the quotient well conditioned
+			for (int i = 0; i < c2.length; i++) {
+				c2[i] = new Complex(0.1 * (random.nextDouble() - 0.5), 0.1 * (random.nextDouble() - 0.5));
+			}
+			c2[c2.length - 1] = new Complex(0.6, 0.8);
+			ComplexPolynomial dividend = new ComplexPolynomial(c1);
+			ComplexPolynomial divisor = new ComplexPolynomial(c2);
+			ComplexPolynomial[] result = dividend.divideAndRemainder(divisor);
+			assertTrue(pair[0] + "/" + pair[1] + ": remainder degree", result[1].degree() < divisor.degree());
+			ComplexPolynomial quotient = dividend.div(divisor);
+			ComplexPolynomial remainder = dividend.mod(divisor);
+			for (int i = 0; i <= dividend.degree(); i++) {
+				assertEquals("div", 0.0, result[0].coefficient(i).minus(quotient.coefficient(i)).abs(), 0.0);
+				assertEquals("mod", 0.0, result[1].coefficient(i).minus(remainder.coefficient(i)).abs(), 0.0);
+			}
+			ComplexPolynomial check = divisor.times(result[0]).plus(result[1]);
+			for (int i = 0; i < c1.length; i++) {
+				assertTrue(pair[0] + "/" + pair[1] + ": coefficient " + i, 
+						check.coefficient(i).minus(c1[i]).abs() < 0.000001);
+			}
+			assertTrue(pair[0] + "/" + pair[1] + ": nothing above the dividend", 
+					check.degree() <= dividend.degree());
+		}
+	}
+	
+	/**
+	 * Divisors and quotients long enough for divideAndRemainder to use Newton
+	 * iteration, checked against long division. The divisor's lower terms
+	 * shrink with its degree so that the quotient is well conditioned.
+	 */
+	@Test
+	public void testNewtonDivision() {
+		Random random = new Random(31);
+		int[][] sizes = { { 5000, 2100 }, { 7000, 3000 } };
+		for (int[] pair : sizes) {
+			Complex[] c1 = new Complex[pair[0]];
+			Complex[] c2 = new Complex[pair[1]];
+			for (int i = 0; i < c1.length; i++) {
+				c1[i] = new Complex(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+			}
+			for (int i = 0; i < c2.length; i++) {
+				c2[i] = new Complex((random.nextDouble() - 0.5) / c2.length, (random.nextDouble() - 0.5) / c2.length);
+			}
+			c2[c2.length - 1] = new Complex(0.6, 0.8);
+			ComplexPolynomial dividend = new ComplexPolynomial(c1);
+			ComplexPolynomial divisor = new ComplexPolynomial(c2);
+			assertTrue(Polynomial.isNewtonDivision(dividend.degree(), divisor.degree()));
+			ComplexPolynomial[] result = dividend.divideAndRemainder(divisor);
+			ComplexPolynomial[] school = ComplexPolynomial.schoolDivide(dividend, divisor);
+			double tolerance = 0.0000000001 * Math.max(1.0, maxAbs(school[0]));
+			ComplexPolynomial quotient = dividend.div(divisor);
+			String label = pair[0] + "/" + pair[1];
+			for (int i = 0; i <= dividend.degree(); i++) {
+				assertEquals(label + ": quotient " + i, 0.0, 
+						result[0].coefficient(i).minus(school[0].coefficient(i)).abs(), tolerance);
+				assertEquals(label + ": remainder " + i, 0.0, 
+						result[1].coefficient(i).minus(school[1].coefficient(i)).abs(), tolerance);
+				assertEquals(label + ": div " + i, 0.0, 
+						quotient.coefficient(i).minus(result[0].coefficient(i)).abs(), tolerance);
+			}
+			ComplexPolynomial check = divisor.times(result[0]).plus(result[1]);
+			for (int i = 0; i < c1.length; i++) {
+				assertEquals(label + ": coefficient " + i, 0.0, check.coefficient(i).minus(c1[i]).abs(), tolerance);
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link com.codemelon.polynomial.ComplexPolynomial#inverseSeries(ComplexPolynomial, int)}.
+	 */
+	@Test
+	public void testInverseSeries() {
+		Random random = new Random(29);
+		Complex[] c = new Complex[400];
+		for (int i = 0; i < c.length; i++) {
+			c[i] = new Complex(0.1 * (random.nextDouble() - 0.5), 0.1 * (random.nextDouble() - 0.5));
+		}
+		c[0] = new Complex(1.0, 1.0);
+		ComplexPolynomial f = new ComplexPolynomial(c);
+		int k = 333;
+		ComplexPolynomial product = f.times(ComplexPolynomial.inverseSeries(f, k));
+		assertTrue(product.coefficient(0).minus(Complex.ONE).abs() < 0.000001);
+		for (int i = 1; i < k; i++) {
+			assertTrue("coefficient " + i, product.coefficient(i).abs() < 0.000001);
+		}
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void testDivideByZero() {
+		ComplexPolynomial.fromDegree(3).divideAndRemainder(ComplexPolynomial.fromDegree(-1));
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void testDivByZero() {
+		ComplexPolynomial.fromDegree(3).div(ComplexPolynomial.fromDegree(-1));
+	}
+	
 	@Test
 	public void testRecursiveFFT() {
 		// Test case from CLRS, p. 914
@@ -267,6 +527,34 @@ public class ComplexPolynomialTest {
 		}
 	}
 
+	/**
+	 * Every kernel in FftKernel agrees with recursiveFFT and recursiveFFTInverse
+	 */
+	@Test
+	public void testFftKernelsMatchRecursiveFFT() {
+		Random random = new Random(8);
+		for (int n = 1; n <= 1024; n *= 2) {
+			Complex[] coefficients = new Complex[n];
+			for (int i = 0; i < n; i++) {
+				coefficients[i] = new Complex(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+			}
+			Complex[] values = ComplexPolynomial.recursiveFFT(coefficients);
+			Complex[] inverseValues = ComplexPolynomial.recursiveFFTInverse(coefficients);
+			for (FftKernel kernel : FftKernel.values()) {
+				ComplexVector v = ComplexVector.fromComplex(coefficients);
+				Fft.forward(v.realParts(), v.imaginaryParts(), kernel);
+				ComplexVector w = ComplexVector.fromComplex(coefficients);
+				Fft.inverse(w.realParts(), w.imaginaryParts(), kernel);
+				for (int i = 0; i < n; i++) {
+					assertTrue(kernel + ", n = " + n + ": value " + i, 
+							v.get(i).equalWithinDelta(values[i]));
+					assertTrue(kernel + ", n = " + n + ": inverse value " + i, 
+							w.get(i).equalWithinDelta(inverseValues[i]));
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testRecursiveFFTInverse() {
 		// reverse of test cases for recursiveFFT
@@ -310,4 +598,12 @@ public class ComplexPolynomialTest {
 					coefficients[i].equalWithinDelta(expected2[i]));
 		}
 	}
+
+	private static double maxAbs(ComplexPolynomial p) {
+		double result = 0.0;
+		for (int i = 0; i <= p.degree(); i++) {
+			result = Math.max(result, p.coefficient(i).abs());
+		}
+		return result;
+	}
 }
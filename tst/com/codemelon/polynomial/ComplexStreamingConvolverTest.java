@@ -0,0 +1,98 @@
+package com.codemelon.polynomial;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.codemelon.math.ComplexVector;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class ComplexStreamingConvolverTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.ComplexStreamingConvolver#process(double[], double[])}.
+	 */
+	@Test
+	public void testMatchesProduct() {
+		Random random = new Random(43);
+		for (int m : new int[] { 1, 3, 40 }) {
+			ComplexPolynomial filter = ComplexPolynomial.fromVector(randomVector(random, m));
+			ComplexVector stream = randomVector(random, 700);
+			ComplexVector expected = filter.times(ComplexPolynomial.fromVector(stream)).toVector();
+			for (StreamingConvolver.Method method : StreamingConvolver.Method.values()) {
+				for (int blockLength : new int[] { 1, 6, m, 2 * m + 3 }) {
+					ComplexStreamingConvolver convolver = new ComplexStreamingConvolver(filter, method, blockLength);
+					assertVectorEquals(method + ", " + m + " taps, block " + blockLength, 
+							expected, convolveInChunks(convolver, stream, random));
+				}
+				assertVectorEquals(method + ", default block", expected, 
+						convolveInChunks(new ComplexStreamingConvolver(filter), stream, random));
+			}
+		}
+	}
+
+	@Test
+	public void testReset() {
+		ComplexPolynomial filter = ComplexPolynomial.fromVector(
+				ComplexVector.fromArrays(new double[] { 0.0, 1.0 }, new double[] { 1.0, 0.0 }));
+		ComplexStreamingConvolver convolver = 
+				new ComplexStreamingConvolver(filter, StreamingConvolver.Method.OVERLAP_SAVE, 2);
+		convolver.process(new double[] { 5.0, 5.0, 5.0 }, new double[] { 5.0, 5.0, 5.0 });
+		convolver.reset();
+		assertEquals("history discarded", 0, convolver.flushLength());
+		// (i + x)(1 + x) = i + (1 + i) x + x^2
+		ComplexVector output = convolver.process(new double[] { 1.0, 1.0 }, new double[] { 0.0, 0.0 });
+		assertEquals(2, output.length());
+		assertEquals(0.0, output.real(0), DELTA);
+		assertEquals(1.0, output.imaginary(0), DELTA);
+		assertEquals(1.0, output.real(1), DELTA);
+		assertEquals(1.0, output.imaginary(1), DELTA);
+		ComplexVector tail = convolver.flush();
+		assertEquals(1, tail.length());
+		assertEquals(1.0, tail.real(0), DELTA);
+		assertEquals(0.0, tail.imaginary(0), DELTA);
+	}
+
+	private static ComplexVector convolveInChunks(ComplexStreamingConvolver convolver, ComplexVector stream, 
+			Random random) {
+		ComplexVector result = new ComplexVector(stream.length() + convolver.transformLength());
+		int written = 0;
+		for (int start = 0; start < stream.length(); ) {
+			int length = Math.min(random.nextInt(100), stream.length() - start);
+			double[] re = new double[length];
+			double[] im = new double[length];
+			System.arraycopy(stream.realParts(), start, re, 0, length);
+			System.arraycopy(stream.imaginaryParts(), start, im, 0, length);
+			written = append(result, written, convolver.process(re, im));
+			start += length;
+		}
+		written = append(result, written, convolver.flush());
+		return result.copyOf(written);
+	}
+
+	private static int append(ComplexVector target, int at, ComplexVector values) {
+		System.arraycopy(values.realParts(), 0, target.realParts(), at, values.length());
+		System.arraycopy(values.imaginaryParts(), 0, target.imaginaryParts(), at, values.length());
+		return at + values.length();
+	}
+
+	private static void assertVectorEquals(String message, ComplexVector expected, ComplexVector actual) {
+		assertArrayEquals(message + ": real", expected.realParts(), actual.realParts(), DELTA);
+		assertArrayEquals(message + ": imaginary", expected.imaginaryParts(), actual.imaginaryParts(), DELTA);
+	}
+
+	private static ComplexVector randomVector(Random random, int n) {
+		ComplexVector result = new ComplexVector(n);
+		for (int i = 0; i < n; i++) {
+			result.set(i, random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,81 @@
+package com.codemelon.polynomial;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.codemelon.math.Complex;
+import com.codemelon.math.ComplexVector;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class ComplexSubproductTreeTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.ComplexSubproductTree#evaluate(ComplexPolynomial)}.
+	 */
+	@Test
+	public void testEvaluate() {
+		Random random = new Random(37);
+		ComplexPolynomial p = randomPolynomial(random, 5000);
+		// roots of unity, each moved by up to half a spacing, then shuffled
+		int n = 3000;
+		double[] re = new double[n];
+		double[] im = new double[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2.0 * Math.PI * (i + random.nextDouble() - 0.5) / n;
+			re[i] = Math.cos(angle);
+			im[i] = Math.sin(angle);
+		}
+		for (int i = n - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			double tmp = re[i];
+			re[i] = re[j];
+			re[j] = tmp;
+			tmp = im[i];
+			im[i] = im[j];
+			im[j] = tmp;
+		}
+		ComplexSubproductTree tree = new ComplexSubproductTree(re, im);
+		assertTrue("points spread around the circle are well conditioned", tree.isConditioned());
+		assertMatchesHorner(p, re, im, tree.evaluate(p));
+	}
+
+	@Test
+	public void testIllConditionedFallsBack() {
+		Random random = new Random(41);
+		ComplexPolynomial p = randomPolynomial(random, 2000);
+		double[] re = new double[2000];
+		double[] im = new double[2000];
+		for (int i = 0; i < re.length; i++) {
+			re[i] = random.nextDouble() - 0.5;
+			im[i] = random.nextDouble() - 0.5;
+		}
+		ComplexSubproductTree tree = new ComplexSubproductTree(re, im);
+		assertFalse("random points in a square are abandoned", tree.isConditioned());
+		assertMatchesHorner(p, re, im, tree.evaluate(p));
+	}
+
+	private static ComplexPolynomial randomPolynomial(Random random, int size) {
+		Complex[] coefficients = new Complex[size];
+		for (int i = 0; i < size; i++) {
+			coefficients[i] = new Complex(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+		}
+		return new ComplexPolynomial(coefficients);
+	}
+
+	private static void assertMatchesHorner(ComplexPolynomial p, double[] re, double[] im, ComplexVector values) {
+		assertEquals("one value per point", re.length, values.length());
+		for (int i = 0; i < re.length; i++) {
+			Complex expected = p.evaluate(new Complex(re[i], im[i]));
+			assertTrue("value " + i, 
+					values.get(i).minus(expected).abs() < DELTA * Math.max(1.0, expected.abs()));
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package com.codemelon.polynomial;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class LongPolynomialTest {
+
+	@Test
+	public void testDegree() {
+		assertEquals(-1, LongPolynomial.fromArray(new long[] { 0L, 0L }).degree());
+		assertEquals(0, LongPolynomial.fromArray(new long[] { 5L }).degree());
+		LongPolynomial p = LongPolynomial.fromArray(new long[] { 1L, 2L, 0L });
+		assertEquals(1, p.degree());
+		assertArrayEquals("trailing 0 dropped", new long[] { 1L, 2L }, p.toArray());
+		assertEquals(0L, p.coefficient(9));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.LongPolynomial#plus(LongPolynomial)}.
+	 */
+	@Test
+	public void testPlus() {
+		LongPolynomial p = LongPolynomial.fromArray(new long[] { 1L, 2L, 3L });
+		LongPolynomial q = LongPolynomial.fromArray(new long[] { 4L, 5L, -3L });
+		assertEquals(LongPolynomial.fromArray(new long[] { 5L, 7L }), p.plus(q));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testPlusOverflow() {
+		LongPolynomial p = LongPolynomial.fromArray(new long[] { Long.MAX_VALUE });
+		p.plus(LongPolynomial.fromArray(new long[] { 1L }));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.LongPolynomial#times(LongPolynomial)}.
+	 */
+	@Test
+	public void testTimesIsExact() {
+		Random random = new Random(71);
+		int[][] lengths = { { 1, 1 }, { 3, 100 }, { 64, 64 }, { 500, 301 }, { 2000, 1500 } };
+		// coefficient bits: one prime, a few, and products near the limit of long
+		int[][] bits = { { 8, 8 }, { 20, 20 }, { 31, 20 }, { 40, 12 } };
+		for (int[] length : lengths) {
+			for (int[] bit : bits) {
+				long[] a = randomArray(random, length[0], bit[0]);
+				long[] b = randomArray(random, length[1], bit[1]);
+				assertArrayEquals(length[0] + " x " + length[1] + ", " + bit[0] + " and " + bit[1] + " bits",
+						reference(a, b), LongPolynomial.fromArray(a).times(LongPolynomial.fromArray(b)).toArray());
+			}
+		}
+	}
+
+	/**
+	 * Past 2^53 the double product rounds; the NTT one does not
+	 */
+	@Test
+	public void testBeyondDoublePrecision() {
+		Random random = new Random(73);
+		long[] a = randomArray(random, 4096, 28);
+		long[] b = randomArray(random, 4096, 28);
+		long[] expected = reference(a, b);
+		LongPolynomial p = LongPolynomial.fromArray(a);
+		assertArrayEquals(expected, p.times(LongPolynomial.fromArray(b)).toArray());
+		assertArrayEquals("square", reference(a, a), p.times(p).toArray());
+	}
+
+	/**
+	 * The bound overflows but, thanks to cancellation, the product does not
+	 */
+	@Test
+	public void testLargeInputsSmallProduct() {
+		long big = 1L << 62;
+		LongPolynomial p = LongPolynomial.fromArray(new long[] { big, big });
+		LongPolynomial q = LongPolynomial.fromArray(new long[] { 1L, -1L });
+		assertArrayEquals(new long[] { big, 0L, -big }, p.times(q).toArray());
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testTimesOverflow() {
+		long[] a = new long[100];
+		Arrays.fill(a, 1L << 31);
+		LongPolynomial p = LongPolynomial.fromArray(a);
+		// coefficient 99 of the square is 100 2^62
+		p.times(p);
+	}
+
+	@Test
+	public void testExtremeCoefficients() {
+		long[] a = { Long.MAX_VALUE, 1L, Long.MIN_VALUE + 1 };
+		long[] b = new long[51];
+		b[0] = 1L;
+		b[50] = -1L;
+		assertArrayEquals(reference(a, b), LongPolynomial.fromArray(a).times(LongPolynomial.fromArray(b)).toArray());
+	}
+
+	@Test
+	public void testLimits() {
+		LongPolynomial p = LongPolynomial.fromArray(new long[] { 1L << 62 });
+		assertEquals(Long.MIN_VALUE, p.times(LongPolynomial.fromArray(new long[] { -2L })).coefficient(0));
+		try {
+			p.times(LongPolynomial.fromArray(new long[] { 2L }));
+			fail("2^63 does not fit");
+		}
+		catch (ArithmeticException e) {
+		}
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.NttConvolution#multiply(long[], long[], int)}.
+	 */
+	@Test
+	public void testSplitBeyondMaxLength() {
+		Random random = new Random(79);
+		long[] a = randomArray(random, 300, 30);
+		long[] b = randomArray(random, 200, 30);
+		assertArrayEquals(reference(a, b), NttConvolution.multiply(a, b, 64));
+	}
+
+	@Test
+	public void testPrimesFor() {
+		assertEquals(1, NttConvolution.primesFor(20.0));
+		assertEquals(2, NttConvolution.primesFor(40.0));
+		assertEquals(3, NttConvolution.primesFor(62.0));
+		assertEquals("the full range at the longest transform", 5, NttConvolution.primesFor(25.0 + 63.0 + 63.0));
+		assertEquals(6, NttConvolution.primesFor(160.0));
+	}
+
+	private static long[] reference(long[] a, long[] b) {
+		BigInteger[] result = new BigInteger[a.length + b.length - 1];
+		Arrays.fill(result, BigInteger.ZERO);
+		for (int i = 0; i < a.length; i++) {
+			for (int j = 0; j < b.length; j++) {
+				result[i + j] = result[i + j].add(BigInteger.valueOf(a[i]).multiply(BigInteger.valueOf(b[j])));
+			}
+		}
+		int size = result.length;
+		while (size > 1 && result[size - 1].signum() == 0) {
+			size--;
+		}
+		long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = result[i].longValueExact();
+		}
+		return values;
+	}
+
+	private static long[] randomArray(Random random, int length, int bits) {
+		long[] result = new long[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = (random.nextLong() >> (64 - bits));
+		}
+		// non-zero leading coefficient
+		result[length - 1] |= 1L;
+		return result;
+	}
+}
@@ -0,0 +1,165 @@
+package com.codemelon.polynomial;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class MappedPolynomialTest {
+	public static final double DELTA = 0.000000001;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testFileFormat() throws IOException {
+		Path path = folder.newFile().toPath();
+		MappedPolynomial p = MappedPolynomial.write(path, Polynomial.fromArray(new double[] { 1.0, -2.0, 0.5 }));
+		p.force();
+		assertEquals(24L, Files.size(path));
+		byte[] bytes = Files.readAllBytes(path);
+		assertEquals("little-endian", 0x3f, bytes[7] & 0xff);
+		assertEquals(0xf0, bytes[6] & 0xff);
+		MappedPolynomial q = MappedPolynomial.open(path);
+		assertEquals(3L, q.length());
+		assertEquals(2L, q.degree());
+		assertEquals(-2.0, q.coefficient(1), DELTA);
+		assertEquals("beyond the file", 0.0, q.coefficient(7), DELTA);
+	}
+
+	@Test
+	public void testCreateAndSet() throws IOException {
+		Path path = folder.newFile().toPath();
+		MappedPolynomial p = MappedPolynomial.create(path, 10);
+		assertEquals(10L, p.length());
+		assertEquals("0 polynomial", -1L, p.degree());
+		p.setCoefficient(4, 3.0);
+		p.write(6, new double[] { 9.0, 7.0, 5.0 }, 1, 2);
+		assertEquals("trailing 0s do not count", 7L, p.degree());
+		double[] values = new double[4];
+		MappedPolynomial.open(path).read(4, values, 0, 4);
+		assertArrayEquals(new double[] { 3.0, 0.0, 7.0, 5.0 }, values, DELTA);
+		assertArrayEquals(new double[] { 0.0, 0.0, 0.0, 0.0, 3.0, 0.0, 7.0, 5.0 },
+				p.toPolynomial().toArray(), DELTA);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testSetBeyondFile() throws IOException {
+		MappedPolynomial.create(folder.newFile().toPath(), 4).setCoefficient(4, 1.0);
+	}
+
+	/**
+	 * Bulk transfers across the boundaries of the file's mappings
+	 */
+	@Test
+	public void testSegments() throws IOException {
+		Path path = folder.newFile().toPath();
+		MappedDoubles doubles = MappedDoubles.create(path, 100, ByteOrder.LITTLE_ENDIAN, 4);
+		double[] values = randomArray(new Random(3), 100);
+		doubles.put(0, values, 0, 37);
+		doubles.put(37, values, 37, 63);
+		double[] result = new double[100];
+		doubles.get(5, result, 5, 90);
+		doubles.get(0, result, 0, 5);
+		doubles.get(95, result, 95, 5);
+		assertArrayEquals(values, result, 0.0);
+		assertEquals(values[50], doubles.get(50), 0.0);
+		assertEquals(800L, Files.size(path));
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.MappedPolynomial#times(MappedPolynomial, Path, long)}.
+	 */
+	@Test
+	public void testTimesMatchesPolynomial() throws IOException {
+		Random random = new Random(11);
+		int[][] lengths = { { 1, 1 }, { 1, 5 }, { 7, 3 }, { 300, 300 }, { 1000, 37 }, { 2000, 3001 } };
+		// one column at a time, a few columns and everything at once
+		long[] budgets = { 0L, 1L << 14, MappedPolynomial.DEFAULT_WORKING_MEMORY };
+		for (int[] pair : lengths) {
+			Polynomial p1 = Polynomial.fromArray(randomArray(random, pair[0]));
+			Polynomial p2 = Polynomial.fromArray(randomArray(random, pair[1]));
+			double[] expected = Polynomial.schoolMultiply(p1, p2).toArray();
+			MappedPolynomial m1 = MappedPolynomial.write(folder.newFile().toPath(), p1);
+			MappedPolynomial m2 = MappedPolynomial.write(folder.newFile().toPath(), p2);
+			for (long budget : budgets) {
+				Path output = new File(folder.getRoot(), "product").toPath();
+				MappedPolynomial product = m1.times(m2, output, budget);
+				assertEquals(pair[0] + pair[1] - 1L, product.length());
+				assertArrayEquals(pair[0] + " x " + pair[1] + ", " + budget + " bytes",
+						expected, product.toPolynomial().toArray(), DELTA);
+			}
+		}
+		assertEquals("scratch files deleted", 2 * lengths.length + 1, folder.getRoot().list().length);
+	}
+
+	@Test
+	public void testSquare() throws IOException {
+		Polynomial p = Polynomial.fromArray(randomArray(new Random(13), 777));
+		MappedPolynomial m = MappedPolynomial.write(folder.newFile().toPath(), p);
+		MappedPolynomial square = m.times(m, folder.newFile().toPath(), 1L << 12);
+		assertArrayEquals(Polynomial.schoolMultiply(p, p).toArray(), square.toPolynomial().toArray(), DELTA);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testOutputIsFactor() throws IOException {
+		Path path = folder.newFile().toPath();
+		MappedPolynomial m = MappedPolynomial.write(path, Polynomial.fromDegree(3));
+		m.times(m, path);
+	}
+
+	@Test
+	public void testTiles() {
+		OutOfCoreConvolution convolution = new OutOfCoreConvolution(2000, 0L);
+		assertEquals(2048L, convolution.transformLength());
+		assertEquals("narrower than a page", 32, convolution.columnTile());
+		assertEquals(1, convolution.rowTile());
+		convolution = new OutOfCoreConvolution(2000, 1L << 20);
+		assertEquals("whole matrix", 32, convolution.columnTile());
+		assertEquals(64, convolution.rowTile());
+		convolution = new OutOfCoreConvolution(1L << 20, 0L);
+		assertEquals("a page whatever the budget", OutOfCoreConvolution.PAGE_COLUMNS, convolution.columnTile());
+		assertEquals(1, convolution.rowTile());
+		// the product of two 10^9-coefficient factors: 2^12 rows of 2^19 keep
+		// page-wide column tiles within 64 MiB
+		convolution = new OutOfCoreConvolution(2000000000L, MappedPolynomial.DEFAULT_WORKING_MEMORY);
+		assertEquals(1L << 31, convolution.transformLength());
+		assertEquals(OutOfCoreConvolution.PAGE_COLUMNS, convolution.columnTile());
+		assertEquals(4, convolution.rowTile());
+	}
+
+	/**
+	 * Column tiles of a page, half the width of the matrix
+	 */
+	@Test
+	public void testPageWideColumnTiles() throws IOException {
+		Random random = new Random(17);
+		Polynomial p1 = Polynomial.fromArray(randomArray(random, 1 << 19));
+		Polynomial p2 = Polynomial.fromArray(randomArray(random, (1 << 19) - 5));
+		MappedPolynomial m1 = MappedPolynomial.write(folder.newFile().toPath(), p1);
+		MappedPolynomial m2 = MappedPolynomial.write(folder.newFile().toPath(), p2);
+		MappedPolynomial product = m1.times(m2, folder.newFile().toPath(), 0L);
+		assertArrayEquals(p1.times(p2).toArray(), product.toPolynomial().toArray(), 0.0000001);
+	}
+
+	private static double[] randomArray(Random random, int length) {
+		double[] result = new double[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = 2.0 * random.nextDouble() - 1.0;
+		}
+		return result;
+	}
+}
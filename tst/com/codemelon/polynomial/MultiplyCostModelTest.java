@@ -0,0 +1,117 @@
+package com.codemelon.polynomial;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class MultiplyCostModelTest {
+	public static final double DELTA = 0.000001;
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.MultiplyCostModel#choose(int, int)}.
+	 */
+	@Test
+	public void testChoose() {
+		// schoolbook: 1 ns per term; Fourier: 10 ns per n lg n plus 1 us;
+		// Karatsuba and Toom-3 priced out
+		MultiplyCostModel model = new MultiplyCostModel(new double[] { 1.0, 1000.0, 1000.0, 10.0, 1000.0 }, 
+				new double[] { 0.0, 0.0, 0.0, 1000.0, 0.0 });
+		assertEquals("Small products are schoolbook", MultiplyStrategy.SCHOOLBOOK, model.choose(7, 7));
+		assertEquals("Large products are Fourier", MultiplyStrategy.FOURIER, model.choose(1023, 1023));
+		assertEquals("Degree 0 is schoolbook", MultiplyStrategy.SCHOOLBOOK, model.choose(0, 100000));
+		assertEquals("Estimate", 64.0, model.estimate(MultiplyStrategy.SCHOOLBOOK, 7, 7), DELTA);
+		assertEquals("Estimate", 10.0 * 15.0 * Math.log(15.0) / Math.log(2.0) + 1000.0, 
+				model.estimate(MultiplyStrategy.FOURIER, 7, 7), DELTA);
+		Map<MultiplyStrategy, Double> estimates = model.estimates(7, 7);
+		assertEquals("Every strategy estimated", MultiplyStrategy.values().length, estimates.size());
+	}
+
+	@Test
+	public void testStoreAndLoad() {
+		MultiplyCostModel model = new MultiplyCostModel(new double[] { 1.5, 2.5, 3.5, 4.5, 5.5 }, 
+				new double[] { 6.5, 7.5, 8.5, 9.5, 10.5 });
+		Properties properties = new Properties();
+		model.store(properties, "real");
+		MultiplyCostModel loaded = MultiplyCostModel.load(properties, "real", MultiplyDispatcher.DEFAULT_REAL);
+		for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+			assertEquals(strategy + " cost", model.nanosPerUnit(strategy), loaded.nanosPerUnit(strategy), 0.0);
+			assertEquals(strategy + " overhead", model.overheadNanos(strategy), loaded.overheadNanos(strategy), 0.0);
+		}
+		properties.remove("real.FOURIER.nanosPerUnit");
+		loaded = MultiplyCostModel.load(properties, "real", MultiplyDispatcher.DEFAULT_REAL);
+		assertEquals("Missing strategy falls back", 
+				MultiplyDispatcher.DEFAULT_REAL.nanosPerUnit(MultiplyStrategy.FOURIER), 
+				loaded.nanosPerUnit(MultiplyStrategy.FOURIER), 0.0);
+	}
+
+	@Test
+	public void testKaratsubaAndToomWork() {
+		MultiplyCostModel model = new MultiplyCostModel(new double[] { 1000.0, 1.0, 1.0, 1000.0, 1000.0 }, 
+				new double[] { 0.0, 0.0, 0.0, 0.0, 0.0 });
+		double karatsuba = model.estimate(MultiplyStrategy.KARATSUBA, 63, 63);
+		assertEquals("Schoolbook below the cutoff", 100.0, model.estimate(MultiplyStrategy.KARATSUBA, 9, 9), DELTA);
+		assertTrue("Subquadratic above the cutoff", karatsuba < 64.0 * 64.0);
+		assertEquals("Unbalanced Karatsuba is a sequence of balanced products", 4.0 * karatsuba, 
+				model.estimate(MultiplyStrategy.KARATSUBA, 255, 63), DELTA);
+		assertEquals("Toom-3 is cheaper in work", MultiplyStrategy.TOOM_3, model.choose(1000, 1000));
+	}
+
+	@Test
+	public void testUnbalancedWork() {
+		MultiplyCostModel model = new MultiplyCostModel(new double[] { 1.0, 1.0, 1.0, 1.0, 1.0 }, 
+				new double[] { 0.0, 0.0, 0.0, 0.0, 0.0 });
+		assertTrue("Blocks beat one huge transform", model.estimate(MultiplyStrategy.UNBALANCED, 99, 9999999) 
+				< model.estimate(MultiplyStrategy.FOURIER, 99, 9999999));
+		assertEquals("Very unbalanced products use blocks", MultiplyStrategy.UNBALANCED, 
+				model.choose(99, 9999999));
+	}
+
+	@Test
+	public void testLeastSquares() {
+		double[] work = { 10.0, 100.0, 1000.0, 10000.0 };
+		double[] nanos = { 520.0, 700.0, 2500.0, 20500.0 };
+		double[] line = MultiplyCalibration.leastSquares(work, nanos);
+		assertEquals("Slope", 2.0, line[0], DELTA);
+		assertEquals("Intercept", 500.0, line[1], DELTA);
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.MultiplyDispatcher#storeProfile(java.nio.file.Path)}.
+	 */
+	@Test
+	public void testDispatcherProfile() throws IOException {
+		MultiplyCostModel real = MultiplyDispatcher.realModel();
+		MultiplyCostModel complex = MultiplyDispatcher.complexModel();
+		Path profile = Files.createTempFile("multiply", ".properties");
+		try {
+			// schoolbook made prohibitively expensive
+			MultiplyDispatcher.setModels(new MultiplyCostModel(new double[] { 1000.0, 1000.0, 1000.0, 1.0, 1000.0 }, 
+					new double[] { 0.0, 0.0, 0.0, 0.0, 0.0 }), complex);
+			MultiplyDispatcher.storeProfile(profile);
+			MultiplyDispatcher.setModels(real, complex);
+			assertEquals(MultiplyStrategy.SCHOOLBOOK, MultiplyDispatcher.chooseReal(3, 3));
+			MultiplyDispatcher.loadProfile(profile);
+			assertEquals(MultiplyStrategy.FOURIER, MultiplyDispatcher.chooseReal(3, 3));
+		}
+		finally {
+			MultiplyDispatcher.setModels(real, complex);
+			Files.delete(profile);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRejectsNegativeCost() {
+		new MultiplyCostModel(new double[] { -1.0, 1.0, 1.0, 1.0, 1.0 }, new double[] { 0.0, 0.0, 0.0, 0.0, 0.0 });
+	}
+}
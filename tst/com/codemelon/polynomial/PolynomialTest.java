@@ -2,13 +2,19 @@ package com.codemelon.polynomial;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.codemelon.fft.Fft;
+import com.codemelon.fft.FftPlanner;
 import com.codemelon.math.Complex;
 
 public class PolynomialTest {
@@ -58,6 +64,25 @@ public class PolynomialTest {
 				Math.abs(p3.coefficient(9)) < Polynomial.DELTA);
 	}
 
+	@Test
+	public void testFromArray() {
+		double[] input = { 1.0, 0.0, 2.0, 0.0 };
+		Polynomial p = Polynomial.fromArray(input);
+		input[2] = 5.0;
+		assertEquals("Polynomial has degree 2", 2, p.degree());
+		assertTrue("coefficient 2 not affected by changes to input", equal(p.coefficient(2), 2.0));
+		assertEquals("Zero polynomial from array", -1, Polynomial.fromArray(new double[3]).degree());
+	}
+
+	@Test
+	public void testToArray() {
+		double[] input = { 1.0, 0.0, 2.0, 0.0 };
+		double[] result = Polynomial.fromArray(input).toArray();
+		assertArrayEquals("Leading zero trimmed", new double[] { 1.0, 0.0, 2.0 }, result, Polynomial.DELTA);
+		assertArrayEquals("Zero polynomial", new double[] { 0.0 }, 
+				Polynomial.fromDegree(-1).toArray(), Polynomial.DELTA);
+	}
+
 	@Test
 		public void testPlus() {
 			Polynomial p1 = Polynomial.fromDegree(1);
@@ -105,7 +130,116 @@ public class PolynomialTest {
 	
 	@Test
 	public void testTimesFourier() {
-		fail("Not yet implemented");
+		// (1 + x^9)(1 - x^9) = 1 - x^18
+		double[] p1Coefficients = new double[10];
+		double[] p2Coefficients = new double[10];
+		p1Coefficients[0] = p2Coefficients[0] = 1.0;
+		p1Coefficients[9] = 1.0;
+		p2Coefficients[9] = -1.0;
+		Polynomial product = new Polynomial(toList(p1Coefficients)).times(new Polynomial(toList(p2Coefficients)));
+		assertEquals("correct degree", 18, product.degree());
+		assertTrue("constant coefficient is 1", equal(product.coefficient(0), 1.0));
+		for (int i = 1; i < 18; i++) {
+			assertTrue("coefficient " + i + " is 0", equal(product.coefficient(i), 0.0));
+		}
+		assertTrue("coefficient 18 is -1", equal(product.coefficient(18), -1.0));
+	}
+	
+	@Test
+	public void testTimesFourierMatchesSchool() {
+		Random random = new Random(3);
+		for (int degree = 8; degree <= 300; degree += 73) {
+			double[] p1Coefficients = new double[degree + 1];
+			double[] p2Coefficients = new double[degree / 2 + 9];
+			for (int i = 0; i < p1Coefficients.length; i++) {
+				p1Coefficients[i] = random.nextInt(21) - 10;
+			}
+			for (int i = 0; i < p2Coefficients.length; i++) {
+				p2Coefficients[i] = random.nextInt(21) - 10;
+			}
+			p1Coefficients[degree] = 1.0;
+			p2Coefficients[p2Coefficients.length - 1] = 1.0;
+			Polynomial product = new Polynomial(toList(p1Coefficients)).times(new Polynomial(toList(p2Coefficients)));
+			assertEquals("degree " + degree + ": correct degree", 
+					p1Coefficients.length + p2Coefficients.length - 2, product.degree());
+			for (int k = 0; k <= product.degree(); k++) {
+				double expected = 0.0;
+				for (int i = Math.max(0, k - p2Coefficients.length + 1); i <= Math.min(k, degree); i++) {
+					expected += p1Coefficients[i] * p2Coefficients[k - i];
+				}
+				assertEquals("degree " + degree + ": coefficient " + k, expected, product.coefficient(k), 0.000000001);
+			}
+		}
+	}
+
+	@Test
+	public void testTimesParallel() {
+		Random random = new Random(4);
+		double[] p1Coefficients = new double[3000];
+		double[] p2Coefficients = new double[2000];
+		for (int i = 0; i < p1Coefficients.length; i++) {
+			p1Coefficients[i] = random.nextInt(21) - 10;
+		}
+		for (int i = 0; i < p2Coefficients.length; i++) {
+			p2Coefficients[i] = random.nextInt(21) - 10;
+		}
+		p1Coefficients[p1Coefficients.length - 1] = 1.0;
+		p2Coefficients[p2Coefficients.length - 1] = 1.0;
+		Polynomial p1 = Polynomial.fromArray(p1Coefficients);
+		Polynomial p2 = Polynomial.fromArray(p2Coefficients);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Polynomial expected = p1.times(p2);
+			Polynomial product = p1.times(p2, pool);
+			assertEquals("correct degree", expected.degree(), product.degree());
+			for (int i = 0; i <= expected.degree(); i++) {
+				assertEquals("coefficient " + i, expected.coefficient(i), product.coefficient(i), 0.000001);
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testTimesWithPlanner() {
+		Polynomial p1 = Polynomial.fromDegree(99);
+		Polynomial p2 = Polynomial.fromDegree(49);
+		Polynomial product = p1.times(p2, new FftPlanner());
+		assertEquals("correct degree", 148, product.degree());
+		for (int i = 0; i <= 148; i++) {
+			double expected = Math.min(Math.min(i, 148 - i), 49) + 1;
+			assertEquals("coefficient " + i, expected, product.coefficient(i), 0.000001);
+		}
+	}
+
+	@Test
+	public void testMultiplyStrategiesAgree() {
+		Random random = new Random(5);
+		int[][] sizes = { { 1, 1 }, { 5, 300 }, { 40, 40 }, { 129, 65 }, { 500, 500 }, { 1000, 301 }, { 7, 3000 }, { 100, 5000 } };
+		for (int[] pair : sizes) {
+			double[] c1 = new double[pair[0]];
+			double[] c2 = new double[pair[1]];
+			for (int i = 0; i < c1.length; i++) {
+				c1[i] = random.nextInt(21) - 10;
+			}
+			for (int i = 0; i < c2.length; i++) {
+				c2[i] = random.nextInt(21) - 10;
+			}
+			c1[c1.length - 1] = 1.0;
+			c2[c2.length - 1] = 1.0;
+			Polynomial p1 = Polynomial.fromArray(c1);
+			Polynomial p2 = Polynomial.fromArray(c2);
+			Polynomial expected = Polynomial.schoolMultiply(p1, p2);
+			for (MultiplyStrategy strategy : MultiplyStrategy.values()) {
+				Polynomial product = Polynomial.multiply(strategy, p1, p2, Fft.sequential());
+				assertEquals(strategy + ": correct degree", expected.degree(), product.degree());
+				for (int i = 0; i <= expected.degree(); i++) {
+					assertEquals(strategy + ": coefficient " + i, expected.coefficient(i), 
+							product.coefficient(i), 0.000001);
+				}
+			}
+		}
 	}
 
 	@Test
@@ -126,6 +260,199 @@ public class PolynomialTest {
 		assertTrue("Correct imaginary component", equal(answer.imaginary(), 1.0 + Math.sqrt(2.0)));
 	}
 
+	@Test
+	public void testEvaluatePoints() {
+		Random random = new Random(17);
+		double[] coefficients = new double[300];
+		for (int i = 0; i < coefficients.length; i++) {
+			coefficients[i] = random.nextDouble() - 0.5;
+		}
+		Polynomial p = Polynomial.fromArray(coefficients);
+		double[] points = new double[1000];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = 2.0 * random.nextDouble() - 1.0;
+		}
+		double[] values = p.evaluate(points);
+		assertEquals("one value per point", points.length, values.length);
+		for (int i = 0; i < points.length; i++) {
+			assertEquals("value " + i, p.evaluate(points[i]), values[i], 0.000001);
+		}
+		assertEquals("no points", 0, p.evaluate(new double[0]).length);
+	}
+	
+	@Test
+	public void testEvaluateBatch() {
+		Random random = new Random(43);
+		Polynomial p = Polynomial.fromArray(new double[] { 0.5, -1.0, 0.25, 2.0, -0.75 });
+		double[] xs = new double[600];
+		for (int i = 0; i < xs.length; i++) {
+			xs[i] = 4.0 * random.nextDouble() - 2.0;
+		}
+		double[] out = new double[xs.length];
+		p.evaluateBatch(xs, out);
+		for (int i = 0; i < xs.length; i++) {
+			assertEquals("value " + i, p.evaluate(xs[i]), out[i], 0.000001);
+		}
+		double[] zero = { 1.0 };
+		Polynomial.fromDegree(-1).evaluateBatch(new double[] { 3.0 }, zero);
+		assertEquals("0 polynomial", 0.0, zero[0], 0.0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testEvaluateBatchShortOutput() {
+		Polynomial.fromDegree(2).evaluateBatch(new double[3], new double[2]);
+	}
+	
+	/**
+	 * Test method for {@link com.codemelon.polynomial.Polynomial#divideAndRemainder(Polynomial)}.
+	 */
+	@Test
+	public void testDivideAndRemainder() {
+		Random random = new Random(19);
+		int[][] sizes = { { 1, 1 }, { 10, 1 }, { 10, 4 }, { 4, 10 }, { 300, 100 }, { 500, 200 }, { 1000, 500 } };
+		for (int[] pair : sizes) {
+			double[] c1 = new double[pair[0]];
+			double[] c2 = new double[pair[1]];
+			for (int i = 0; i < c1.length; i++) {
+				c1[i] = random.nextDouble() - 0.5;
+			}
+			// leading 1 and small lower terms keep the quotient well conditioned
+			for (int i = 0; i < c2.length; i++) {
+				c2[i] = 0.1 * (random.nextDouble() - 0.5);
+			}
+			c2[c2.length - 1] = 1.0;
+			Polynomial dividend = Polynomial.fromArray(c1);
+			Polynomial divisor = Polynomial.fromArray(c2);
+			Polynomial[] result = dividend.divideAndRemainder(divisor);
+			assertTrue(pair[0] + "/" + pair[1] + ": remainder degree", result[1].degree() < divisor.degree());
+			assertArrayEquals("div", result[0].toArray(), dividend.div(divisor).toArray(), 0.0);
+			assertArrayEquals("mod", result[1].toArray(), dividend.mod(divisor).toArray(), 0.0);
+			Polynomial check = divisor.times(result[0]).plus(result[1]);
+			for (int i = 0; i < c1.length; i++) {
+				assertEquals(pair[0] + "/" + pair[1] + ": coefficient " + i, c1[i], check.coefficient(i), 0.000001);
+			}
+			assertTrue(pair[0] + "/" + pair[1] + ": nothing above the dividend", 
+					check.degree() <= dividend.degree());
+		}
+	}
+	
+	/**
+	 * Divisors and quotients long enough for divideAndRemainder to use Newton
+	 * iteration. The lower terms of the divisor shrink with its degree, which
+	 * keeps the quotient well conditioned; errors are measured relative to
+	 * the quotient's largest coefficient.
+	 */
+	@Test
+	public void testNewtonDivision() {
+		Random random = new Random(31);
+		int[][] sizes = { { 5000, 2100 }, { 7000, 3000 } };
+		for (int[] pair : sizes) {
+			double[] c1 = new double[pair[0]];
+			double[] c2 = new double[pair[1]];
+			for (int i = 0; i < c1.length; i++) {
+				c1[i] = random.nextDouble() - 0.5;
+			}
+			for (int i = 0; i < c2.length; i++) {
+				c2[i] = (random.nextDouble() - 0.5) / c2.length;
+			}
+			c2[c2.length - 1] = 1.0;
+			Polynomial dividend = Polynomial.fromArray(c1);
+			Polynomial divisor = Polynomial.fromArray(c2);
+			assertTrue(Polynomial.isNewtonDivision(dividend.degree(), divisor.degree()));
+			Polynomial[] result = dividend.divideAndRemainder(divisor);
+			Polynomial[] school = Polynomial.schoolDivide(dividend, divisor);
+			double tolerance = 0.0000000001 * Math.max(1.0, maxAbs(school[0].toArray()));
+			String label = pair[0] + "/" + pair[1];
+			assertArrayEquals(label + ": quotient", school[0].toArray(), result[0].toArray(), tolerance);
+			assertArrayEquals(label + ": remainder", school[1].toArray(), result[1].toArray(), tolerance);
+			assertArrayEquals(label + ": div", result[0].toArray(), dividend.div(divisor).toArray(), tolerance);
+			Polynomial check = divisor.times(result[0]).plus(result[1]);
+			for (int i = 0; i < c1.length; i++) {
+				assertEquals(label + ": coefficient " + i, c1[i], check.coefficient(i), tolerance);
+			}
+		}
+	}
+	
+	/**
+	 * Newton and long division agree, below the threshold as well
+	 */
+	@Test
+	public void testNewtonMatchesSchoolbook() {
+		Random random = new Random(23);
+		double[] c1 = new double[700];
+		double[] c2 = new double[300];
+		for (int i = 0; i < c1.length; i++) {
+			c1[i] = random.nextDouble() - 0.5;
+		}
+		for (int i = 0; i < c2.length; i++) {
+			c2[i] = 0.1 * (random.nextDouble() - 0.5);
+		}
+		c2[c2.length - 1] = 1.0;
+		Polynomial dividend = Polynomial.fromArray(c1);
+		Polynomial divisor = Polynomial.fromArray(c2);
+		Polynomial[] newton = Polynomial.newtonDivide(dividend, divisor);
+		Polynomial[] school = Polynomial.schoolDivide(dividend, divisor);
+		assertArrayEquals("quotient", school[0].toArray(), newton[0].toArray(), 0.000001);
+		assertArrayEquals("remainder", school[1].toArray(), newton[1].toArray(), 0.000001);
+	}
+	
+	/**
+	 * Test method for {@link com.codemelon.polynomial.Polynomial#inverseSeries(Polynomial, int)}.
+	 */
+	@Test
+	public void testInverseSeries() {
+		// 1 / (1 - x) = 1 + x + x^2 + ...
+		Polynomial g = Polynomial.inverseSeries(Polynomial.fromArray(new double[] { 1.0, -1.0 }), 100);
+		assertArrayEquals(Polynomial.fromDegree(99).toArray(), g.toArray(), 0.000001);
+		Random random = new Random(29);
+		double[] c = new double[400];
+		for (int i = 0; i < c.length; i++) {
+			c[i] = 0.1 * (random.nextDouble() - 0.5);
+		}
+		c[0] = 2.0;
+		Polynomial f = Polynomial.fromArray(c);
+		// odd, so the last step is not a full doubling
+		int k = 333;
+		Polynomial product = f.times(Polynomial.inverseSeries(f, k));
+		assertEquals(1.0, product.coefficient(0), 0.000001);
+		for (int i = 1; i < k; i++) {
+			assertEquals("coefficient " + i, 0.0, product.coefficient(i), 0.000001);
+		}
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void testDivideByZero() {
+		Polynomial.fromDegree(3).divideAndRemainder(Polynomial.fromDegree(-1));
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void testDivByZero() {
+		Polynomial.fromDegree(3).div(Polynomial.fromDegree(-1));
+	}
+	
+	@Test
+	public void testDivLowerDegree() {
+		Polynomial p = Polynomial.fromDegree(2);
+		assertEquals(-1, p.div(Polynomial.fromDegree(5)).degree());
+		assertArrayEquals(p.toArray(), p.mod(Polynomial.fromDegree(5)).toArray(), 0.0);
+	}
+
+	private static double maxAbs(double[] values) {
+		double result = 0.0;
+		for (double value : values) {
+			result = Math.max(result, Math.abs(value));
+		}
+		return result;
+	}
+
+	private static List<Double> toList(double[] values) {
+		List<Double> result = new ArrayList<Double>(values.length);
+		for (double value : values) {
+			result.add(value);
+		}
+		return result;
+	}
+
 	private static boolean equal(double a, double b) {
 		return Math.abs(a - b) < Polynomial.DELTA;
 	}
@@ -0,0 +1,106 @@
+package com.codemelon.polynomial;
+
+import static org.junit.Assert.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class StreamingConvolverTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.StreamingConvolver#process(double[])}.
+	 */
+	@Test
+	public void testMatchesProduct() {
+		Random random = new Random(37);
+		for (int m : new int[] { 1, 2, 17, 100 }) {
+			Polynomial filter = Polynomial.fromArray(randomArray(random, m));
+			double[] stream = randomArray(random, 1500);
+			double[] expected = filter.times(Polynomial.fromArray(stream)).toArray();
+			for (StreamingConvolver.Method method : StreamingConvolver.Method.values()) {
+				// blocks shorter than, about equal to and longer than the filter
+				for (int blockLength : new int[] { 1, 7, m, 3 * m + 5 }) {
+					StreamingConvolver convolver = new StreamingConvolver(filter, method, blockLength);
+					assertArrayEquals(method + ", " + m + " taps, block " + blockLength, 
+							expected, convolveInChunks(convolver, stream, random), DELTA);
+				}
+				assertArrayEquals(method + ", default block", expected, 
+						convolveInChunks(new StreamingConvolver(filter), stream, random), DELTA);
+			}
+		}
+	}
+
+	@Test
+	public void testLatency() {
+		Polynomial filter = Polynomial.fromArray(new double[] { 1.0, 2.0, 3.0 });
+		StreamingConvolver convolver = new StreamingConvolver(filter, StreamingConvolver.Method.OVERLAP_ADD, 4);
+		assertEquals("block incomplete", 0, convolver.process(new double[] { 1.0, 0.0, 0.0 }).length);
+		assertEquals(3, convolver.pending());
+		assertArrayEquals("outputs as soon as the block fills", new double[] { 1.0, 2.0, 3.0, 0.0 }, 
+				convolver.process(new double[] { 0.0, 1.0 }), DELTA);
+		assertEquals(1, convolver.pending());
+		assertArrayEquals("pending input and the tail", new double[] { 1.0, 2.0, 3.0 }, convolver.flush(), DELTA);
+		assertEquals("reset after flush", 0, convolver.flush().length);
+	}
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.StreamingConvolver#process(DoubleBuffer, DoubleBuffer)}.
+	 */
+	@Test
+	public void testProcessStopsWhenOutputIsFull() {
+		Random random = new Random(41);
+		Polynomial filter = Polynomial.fromArray(randomArray(random, 5));
+		double[] stream = randomArray(random, 50);
+		double[] expected = filter.times(Polynomial.fromArray(stream)).toArray();
+		StreamingConvolver convolver = new StreamingConvolver(filter, StreamingConvolver.Method.OVERLAP_SAVE, 8);
+		DoubleBuffer input = DoubleBuffer.wrap(stream);
+		DoubleBuffer output = DoubleBuffer.allocate(expected.length);
+		output.limit(20);
+		assertEquals("room for two blocks", 16, convolver.process(input, output));
+		assertEquals("third block not started", 16, input.position());
+		output.limit(output.capacity());
+		assertEquals(stream.length / 8 * 8 - 16, convolver.process(input, output));
+		assertEquals(convolver.flushLength(), convolver.flush(output));
+		assertArrayEquals(expected, output.array(), DELTA);
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void testFlushNeedsRoom() {
+		StreamingConvolver convolver = new StreamingConvolver(Polynomial.fromArray(new double[] { 1.0, 1.0, 1.0 }));
+		convolver.process(new double[] { 1.0 });
+		convolver.flush(DoubleBuffer.allocate(2));
+	}
+
+	private static double[] convolveInChunks(StreamingConvolver convolver, double[] stream, Random random) {
+		DoubleBuffer result = DoubleBuffer.allocate(stream.length + convolver.transformLength());
+		for (int start = 0; start < stream.length; ) {
+			int length = Math.min(random.nextInt(200), stream.length - start);
+			double[] chunk = new double[length];
+			System.arraycopy(stream, start, chunk, 0, length);
+			result.put(convolver.process(chunk));
+			start += length;
+		}
+		result.put(convolver.flush());
+		double[] output = new double[result.position()];
+		result.flip();
+		result.get(output);
+		return output;
+	}
+
+	private static double[] randomArray(Random random, int n) {
+		double[] result = new double[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = random.nextDouble() - 0.5;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,70 @@
+package com.codemelon.polynomial;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Marshall Farrier
+ * @my.created Oct 18, 2026
+ * @my.edited Oct 18, 2026
+ */
+public class SubproductTreeTest {
+	public static final double DELTA = 0.000000001;
+
+	/**
+	 * Test method for {@link com.codemelon.polynomial.SubproductTree#evaluate(Polynomial)}.
+	 */
+	@Test
+	public void testEvaluate() {
+		Random random = new Random(23);
+		Polynomial p = randomPolynomial(random, 3000);
+		// small points, in no particular order and not a multiple of the leaf size
+		double[] points = new double[2001];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = 0.05 * (2.0 * random.nextDouble() - 1.0);
+		}
+		SubproductTree tree = new SubproductTree(points);
+		assertTrue("small points are well conditioned", tree.isConditioned());
+		assertMatchesHorner(p, points, tree.evaluate(p));
+	}
+
+	@Test
+	public void testIllConditionedFallsBack() {
+		Random random = new Random(29);
+		Polynomial p = randomPolynomial(random, 2000);
+		double[] points = new double[2000];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = 2.0 * random.nextDouble() - 1.0;
+		}
+		SubproductTree tree = new SubproductTree(points);
+		assertFalse("points spread over [-1, 1] are abandoned", tree.isConditioned());
+		assertMatchesHorner(p, points, tree.evaluate(p));
+	}
+
+	@Test
+	public void testFewPoints() {
+		Polynomial p = randomPolynomial(new Random(31), 100);
+		double[] points = { 0.01, -0.02 };
+		assertMatchesHorner(p, points, new SubproductTree(points).evaluate(p));
+		assertEquals("no points", 0, new SubproductTree(new double[0]).evaluate(p).length);
+	}
+
+	private static Polynomial randomPolynomial(Random random, int size) {
+		double[] coefficients = new double[size];
+		for (int i = 0; i < size; i++) {
+			coefficients[i] = random.nextDouble() - 0.5;
+		}
+		return Polynomial.fromArray(coefficients);
+	}
+
+	private static void assertMatchesHorner(Polynomial p, double[] points, double[] values) {
+		assertEquals("one value per point", points.length, values.length);
+		for (int i = 0; i < points.length; i++) {
+			double expected = p.evaluate(points[i]);
+			assertEquals("value " + i, expected, values[i], DELTA * Math.max(1.0, Math.abs(expected)));
+		}
+	}
+}